@@ -2,13 +2,11 @@ package com.blog.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableJpaAuditing
-@EntityScan(basePackages = "com.blog.board.domain")
-@EnableJpaRepositories(basePackages = "com.blog.board.repository")
+@EnableAsync
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"com.blog.api", "com.blog.login", "com.blog.board"})
 public class BlogApiApplication {
     public static void main(String[] args) {
@@ -0,0 +1,131 @@
+package com.blog.api.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 본문. 원본과 gzip 압축본을 함께 보관해 요청마다 압축하지 않는다.
+ * 기본은 JSON 이며 피드/사이트맵은 XML 본문을 담는다 (contentType 을 지정해 쓴다).
+ * 두 표현은 바이트가 다르므로 gzip 압축본의 강한 ETag 에는 "-gzip" 을 붙인다 (etag 필드는 원본 기준).
+ */
+@Getter
+public class CachedResponse {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final byte[] body;
+    private final byte[] gzip;
+    private final String etag;
+    private final long version;
+
+    private CachedResponse(byte[] body, byte[] gzip, String etag, long version) {
+        this.body = body;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.version = version;
+    }
+
+    public static CachedResponse of(byte[] body, String etag, long version) {
+        return new CachedResponse(body, compress(body), etag, version);
+    }
+
+    /**
+     * 요청의 Accept-Encoding 으로 고른 표현의 ETag. 조건부 요청은 이 값과 비교해야 한다.
+     */
+    public static String etagFor(HttpServletRequest request, String etag) {
+        if (!acceptsGzip(request)) {
+            return etag;
+        }
+        return etag.endsWith("\"")
+                ? etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\""
+                : etag + GZIP_ETAG_SUFFIX;
+    }
+
+    public String etagFor(HttpServletRequest request) {
+        return etagFor(request, etag);
+    }
+
+    public int sizeInBytes() {
+        return body.length + gzip.length;
+    }
+
+    // 메시지 컨버터를 거치지 않고 서블릿 출력 스트림에 바로 쓴다
+    public void writeTo(HttpServletRequest request, HttpServletResponse response, String cacheControl) throws IOException {
+        writeTo(request, response, cacheControl, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response, String cacheControl,
+                        String contentType) throws IOException {
+        boolean useGzip = acceptsGzip(request);
+        byte[] content = useGzip ? gzip : body;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.ETAG, etagFor(request));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+        response.flushBuffer();
+    }
+
+    // q 값을 본다 - "gzip;q=0" 은 거절이다. gzip 을 적지 않았으면 "*" 의 q 값을 따른다
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(params);
+            if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                gzipQuality = gzipQuality != null ? Math.max(gzipQuality, quality) : quality;
+            } else if ("*".equals(name)) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    // 잘못된 q 값은 거절로 본다
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
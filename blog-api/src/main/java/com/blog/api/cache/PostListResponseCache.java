@@ -0,0 +1,136 @@
+package com.blog.api.cache;
+
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 게시글 목록 응답 캐시. (카테고리, 페이지, 크기) 별로 최종 JSON 바이트를 보관한다.
+ * 항목마다 콘텐츠 버전을 함께 저장해 변경 이후의 조회에서는 이전 버전 항목을 쓰지 않고,
+ * 변경 이벤트가 오면 전체를 비워 메모리를 돌려준다. 전체 바이트 수 기준으로 LRU 제거한다.
+ */
+@Slf4j
+@Component
+public class PostListResponseCache {
+
+    public static final String REGION = "post-list-response";
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<Key, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+
+    public PostListResponseCache(@Value("${blog.response-cache.max-size:8MB}") DataSize maxSize,
+                                 @Value("${blog.response-cache.max-entry-size:512KB}") DataSize maxEntrySize) {
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = maxEntrySize.toBytes();
+    }
+
+    // 기본 정렬 요청만 캐시한다 - 임의 정렬 조합으로 키가 늘어나지 않게 한다
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().isUnsorted();
+    }
+
+    public CachedResponse getOrLoad(String categoryName, Pageable pageable, long version, String etag,
+                                    Supplier<byte[]> loader) {
+        Key key = new Key(normalize(categoryName), pageable.getPageNumber(), pageable.getPageSize());
+        CachedResponse cached = get(key);
+        if (cached != null && cached.getVersion() == version) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        CachedResponse loaded = CachedResponse.of(loader.get(), etag, version);
+        put(key, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        clear();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return totalBytes;
+    }
+
+    private synchronized CachedResponse get(Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(Key key, CachedResponse response) {
+        if (response.sizeInBytes() > maxEntryBytes) {
+            return;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.sizeInBytes();
+        }
+        totalBytes += response.sizeInBytes();
+        putCount.increment();
+        Iterator<Map.Entry<Key, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().sizeInBytes();
+            eldest.remove();
+        }
+    }
+
+    // PostService 와 같은 기준으로 '전체' 조회를 한 키로 모은다
+    private String normalize(String categoryName) {
+        if (!StringUtils.hasText(categoryName) || "all".equalsIgnoreCase(categoryName.trim())) {
+            return "";
+        }
+        return categoryName.trim();
+    }
+
+    private record Key(String categoryName, int page, int size) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.blog.api.config;
+
+import com.blog.board.support.datasource.ReadYourWritesWindow;
+import com.blog.board.support.datasource.ReplicaLoadBalancingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레플리카가 설정되면(blog.datasource.replicas[0].url) 읽기 전용 트랜잭션을 레플리카로 보낸다.
+ * LazyConnectionDataSourceProxy 는 첫 SQL 을 실행할 때 커넥션을 얻으므로, 그 시점에 트랜잭션의 readOnly 여부를 보고
+ * primary 또는 readOnlyDataSource(ReplicaLoadBalancingDataSource) 를 고른다.
+ * 각 풀은 빈으로 등록하지 않는다 - DataSource 빈이 하나여야 SQL 집계 프록시가 문장을 한 번만 센다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource", name = "replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 ReplicaDataSourceProperties replicaProperties,
+                                 ReadYourWritesWindow readYourWritesWindow,
+                                 Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = pool("blog-primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), properties, environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.replicas()) {
+            HikariDataSource pool = pool("blog-replica-" + replicas.size(), replica.url(),
+                    replica.username() != null ? replica.username() : properties.determineUsername(),
+                    replica.password() != null ? replica.password() : properties.determinePassword(),
+                    properties, environment, meterRegistry);
+            pool.setReadOnly(true);
+            replicas.add(pool);
+        }
+        log.info("읽기 전용 트랜잭션을 레플리카 {}개로 분산합니다", replicas.size());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaLoadBalancingDataSource(primary, replicas,
+                readYourWritesWindow::isActive, replicaProperties.replicaRetryInterval()));
+        return dataSource;
+    }
+
+    @PreDestroy
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    // spring.datasource.hikari.* 설정을 모든 풀에 똑같이 적용한다
+    private HikariDataSource pool(String name, String url, String username, String password,
+                                  DataSourceProperties properties, Environment environment,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource pool = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        // 빈이 아니라 Boot 의 Hikari 메트릭 자동 설정이 찾지 못하므로 직접 연결한다 (hikaricp.* 의 pool 태그로 구분)
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        pools.add(pool);
+        return pool;
+    }
+}
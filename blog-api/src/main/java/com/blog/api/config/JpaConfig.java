@@ -0,0 +1,24 @@
+package com.blog.api.config;
+
+import com.blog.board.domain.id.TimeOrderedIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// 애플리케이션 클래스에 두면 @WebMvcTest 같은 슬라이스 테스트에서도 JPA 설정이 적용되므로 분리한다
+@Configuration
+@EnableJpaAuditing
+@EntityScan(basePackages = "com.blog.board.domain")
+@EnableJpaRepositories(basePackages = "com.blog.board.repository")
+public class JpaConfig {
+
+    // 게시글 ID 생성기는 Hibernate 가 만들므로 노드 ID 를 Hibernate 설정으로 넘긴다
+    @Bean
+    public HibernatePropertiesCustomizer timeOrderedIdNodeCustomizer(@Value("${blog.id.node-id:0}") int nodeId) {
+        return properties -> properties.put(TimeOrderedIdentifierGenerator.NODE_ID_SETTING, nodeId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.blog.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 레플리카.
+ *
+ * @param replicas             레플리카 접속 정보 - 사용자/비밀번호가 없으면 spring.datasource 의 값을 쓴다
+ * @param replicaRetryInterval 커넥션을 얻지 못한 레플리카를 제외해 두는 시간
+ */
+@ConfigurationProperties("blog.datasource")
+public record ReplicaDataSourceProperties(List<Replica> replicas,
+                                          @DefaultValue("PT10S") Duration replicaRetryInterval) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
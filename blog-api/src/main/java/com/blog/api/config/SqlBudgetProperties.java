@@ -0,0 +1,29 @@
+package com.blog.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 요청당 SQL 실행 한도.
+ *
+ * @param mode            log 면 한도 초과를 기록만 하고, reject 면 초과하는 문장을 실행하지 않고 503 으로 끝낸다
+ * @param defaultLimit    엔드포인트별 한도가 없을 때 쓰는 한도
+ * @param repeatThreshold 같은 SQL 이 이 횟수 이상 반복되면 N+1 의심으로 기록한다
+ * @param endpoints       "METHOD /url/pattern" → 한도
+ */
+@ConfigurationProperties("blog.sql-budget")
+public record SqlBudgetProperties(@DefaultValue("log") Mode mode,
+                                  @DefaultValue("30") int defaultLimit,
+                                  @DefaultValue("5") int repeatThreshold,
+                                  Map<String, Integer> endpoints) {
+
+    public enum Mode {
+        LOG, REJECT
+    }
+
+    public int limitFor(String endpoint) {
+        return endpoints != null ? endpoints.getOrDefault(endpoint, defaultLimit) : defaultLimit;
+    }
+}
@@ -1,11 +1,25 @@
 package com.blog.api.config;
 
+import com.blog.api.monitoring.SqlBudgetInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlBudgetProperties.class)
 public class WebConfig implements WebMvcConfigurer {
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    // 슬라이스 테스트처럼 메트릭 설정이 없는 컨텍스트에서는 메모리 레지스트리를 쓴다
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -17,4 +31,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(sqlBudgetProperties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new)))
+                .addPathPatterns("/api/**");
+    }
 }
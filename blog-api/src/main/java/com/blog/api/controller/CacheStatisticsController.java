@@ -0,0 +1,53 @@
+package com.blog.api.controller;
+
+import com.blog.api.cache.PostListResponseCache;
+import com.blog.api.exception.AccessDeniedException;
+import com.blog.api.response.CacheStatisticsResponse;
+import com.blog.api.validation.AdminValidation;
+import com.blog.board.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache-statistics")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+    private final AdminValidation adminValidation;
+    private final PostListResponseCache postListResponseCache;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatisticsResponse>> getCacheStatistics(@AuthenticationPrincipal OAuth2User principal) {
+        if (!adminValidation.isAdminUser(principal)) {
+            throw new AccessDeniedException();
+        }
+        List<CacheStatisticsResponse> responses = new ArrayList<>(cacheStatisticsService.getStatistics().stream()
+                .map(statistics -> CacheStatisticsResponse.builder()
+                        .region(statistics.getRegion())
+                        .hitCount(statistics.getHitCount())
+                        .missCount(statistics.getMissCount())
+                        .putCount(statistics.getPutCount())
+                        .elementCountInMemory(statistics.getElementCountInMemory())
+                        .hitRatio(statistics.getHitRatio())
+                        .build())
+                .toList());
+        responses.add(CacheStatisticsResponse.builder()
+                .region(PostListResponseCache.REGION)
+                .hitCount(postListResponseCache.getHitCount())
+                .missCount(postListResponseCache.getMissCount())
+                .putCount(postListResponseCache.getPutCount())
+                .elementCountInMemory(postListResponseCache.size())
+                .hitRatio(postListResponseCache.getHitRatio())
+                .build());
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -3,8 +3,11 @@ package com.blog.api.controller;
 import com.blog.api.exception.AccessDeniedException;
 import com.blog.api.mapper.CategoryMapper;
 import com.blog.api.request.CategoryNameRequest;
+import com.blog.api.response.CategoryDeletionResponse;
 import com.blog.api.response.CategoryResponse;
 import com.blog.api.validation.AdminValidation;
+import com.blog.board.dto.CategoryDeletionJobDto;
+import com.blog.board.service.CategoryDeletionService;
 import com.blog.board.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @Slf4j
@@ -25,11 +29,14 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryDeletionService categoryDeletionService;
     private final CategoryMapper categoryMapper;
+    private final AdminValidation adminValidation;
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryMapper.toResponseList(categoryService.findAllCategories()));
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(@AuthenticationPrincipal OAuth2User principal) {
+        boolean isAdmin = adminValidation.isAdminUser(principal);
+        return ResponseEntity.ok(categoryMapper.toResponseList(categoryService.findAllCategories(), isAdmin));
     }
 
     @PostMapping
@@ -44,11 +51,23 @@ public class CategoryController {
         return ResponseEntity.ok(categoryMapper.toResponse(categoryService.updateCategory(categoryId, request.getName())));
     }
 
+    /**
+     * 게시글을 moveTo 카테고리로 옮기거나(없으면 함께 삭제) 카테고리를 지우는 작업을 백그라운드로 시작한다.
+     * 진행 상황은 Location 의 작업 조회 API 로 확인한다.
+     */
     @DeleteMapping("/{categoryId}")
-    public ResponseEntity<Void> deleteCategory(@PathVariable Long categoryId) {
-        categoryService.deleteCategory(categoryId);
-        log.info("카테고리 삭제 API 호출 성공 - ID: {}", categoryId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<CategoryDeletionResponse> deleteCategory(@PathVariable Long categoryId,
+                                                                   @RequestParam(required = false) Long moveTo) {
+        CategoryDeletionJobDto job = categoryDeletionService.start(categoryId, moveTo);
+        log.info("카테고리 삭제 API 호출 성공 - ID: {}, 작업: {}", categoryId, job.getJobId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/categories/deletions/" + job.getJobId()))
+                .body(categoryMapper.toDeletionResponse(job));
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<CategoryDeletionResponse> getDeletion(@PathVariable String jobId) {
+        return ResponseEntity.ok(categoryMapper.toDeletionResponse(categoryDeletionService.getJob(jobId)));
     }
 
 }
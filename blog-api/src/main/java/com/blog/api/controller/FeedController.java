@@ -0,0 +1,68 @@
+package com.blog.api.controller;
+
+import com.blog.api.cache.CachedResponse;
+import com.blog.api.feed.PostFeedCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * RSS 피드와 사이트맵. 캐시된 응답을 그대로 쓰며, 바뀌지 않았으면 ETag 로 304 를 돌려준다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final String RSS_CONTENT_TYPE = "application/rss+xml;charset=UTF-8";
+    private static final String XML_CONTENT_TYPE = "application/xml;charset=UTF-8";
+    // 구독기와 크롤러가 자주 확인하므로 공유 캐시에 잠시 두고, 그 뒤에는 ETag 로 재검증한다
+    private static final CacheControl FEED_CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final PostFeedCache postFeedCache;
+
+    @GetMapping("/feed.xml")
+    public ResponseEntity<Void> getFeed(ServletWebRequest webRequest) throws IOException {
+        return write(postFeedCache.getFeed(null), RSS_CONTENT_TYPE, webRequest);
+    }
+
+    @GetMapping("/feed/{categoryName}.xml")
+    public ResponseEntity<Void> getCategoryFeed(@PathVariable String categoryName,
+                                                ServletWebRequest webRequest) throws IOException {
+        return write(postFeedCache.getFeed(categoryName), RSS_CONTENT_TYPE, webRequest);
+    }
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<Void> getSitemap(ServletWebRequest webRequest) throws IOException {
+        return write(Optional.of(postFeedCache.getSitemap()), XML_CONTENT_TYPE, webRequest);
+    }
+
+    @GetMapping("/sitemap-{page}.xml")
+    public ResponseEntity<Void> getSitemapPage(@PathVariable int page,
+                                               ServletWebRequest webRequest) throws IOException {
+        return write(postFeedCache.getSitemapPage(page), XML_CONTENT_TYPE, webRequest);
+    }
+
+    private ResponseEntity<Void> write(Optional<CachedResponse> cached, String contentType,
+                                       ServletWebRequest webRequest) throws IOException {
+        if (cached.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = cached.get().etagFor(webRequest.getRequest());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(FEED_CACHE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        cached.get().writeTo(webRequest.getRequest(), webRequest.getResponse(), FEED_CACHE.getHeaderValue(), contentType);
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.blog.api.controller;
+
+import com.blog.api.exception.AccessDeniedException;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.request.PostBulkRequest;
+import com.blog.api.response.PostBulkResponse;
+import com.blog.api.validation.AdminValidation;
+import com.blog.board.dto.PostBulkCommandDto.Action;
+import com.blog.board.service.PostBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 게시글 일괄 변경 (관리자 전용) - 게시글 ID 목록 또는 필터로 대상을 지정하고 게시글별 결과를 돌려준다
+@RestController
+@RequestMapping("/api/admin/posts/bulk")
+@RequiredArgsConstructor
+public class PostBulkController {
+
+    private final PostBulkService postBulkService;
+    private final PostMapper postMapper;
+    private final AdminValidation adminValidation;
+
+    @PostMapping("/publish")
+    public ResponseEntity<PostBulkResponse> publish(@AuthenticationPrincipal OAuth2User principal,
+                                                    @RequestBody PostBulkRequest request) {
+        return apply(principal, Action.PUBLISH, request);
+    }
+
+    @PostMapping("/unpublish")
+    public ResponseEntity<PostBulkResponse> unpublish(@AuthenticationPrincipal OAuth2User principal,
+                                                      @RequestBody PostBulkRequest request) {
+        return apply(principal, Action.UNPUBLISH, request);
+    }
+
+    @PostMapping("/move")
+    public ResponseEntity<PostBulkResponse> move(@AuthenticationPrincipal OAuth2User principal,
+                                                 @RequestBody PostBulkRequest request) {
+        return apply(principal, Action.MOVE, request);
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<PostBulkResponse> delete(@AuthenticationPrincipal OAuth2User principal,
+                                                   @RequestBody PostBulkRequest request) {
+        return apply(principal, Action.DELETE, request);
+    }
+
+    private ResponseEntity<PostBulkResponse> apply(OAuth2User principal, Action action, PostBulkRequest request) {
+        if (!adminValidation.isAdminUser(principal)) {
+            throw new AccessDeniedException();
+        }
+        return ResponseEntity.ok(postMapper.toBulkResponse(postBulkService.apply(postMapper.toBulkCommand(action, request))));
+    }
+}
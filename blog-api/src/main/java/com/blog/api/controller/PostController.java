@@ -1,40 +1,76 @@
 package com.blog.api.controller;
 
+import com.blog.api.cache.CachedResponse;
+import com.blog.api.cache.PostListResponseCache;
 import com.blog.api.mapper.PageMapper;
+import com.blog.api.mapper.PostListJsonWriter;
 import com.blog.api.mapper.PostMapper;
 import com.blog.api.request.PostCreateRequest;
 import com.blog.api.request.PostUpdateRequest;
+import com.blog.api.response.CursorPageResponse;
 import com.blog.api.response.PageResponse;
 import com.blog.api.response.PostResponse;
 import com.blog.api.response.PostSummaryResponse;
+import com.blog.api.response.PostViewCountResponse;
+import com.blog.api.response.TrendingPostsResponse;
 import com.blog.api.validation.AdminValidation;
+import com.blog.board.dto.CursorPageResponseDto;
 import com.blog.board.dto.PageResponseDto;
 import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.dto.PostVersionProjection;
+import com.blog.board.service.ContentVersion;
+import com.blog.board.service.PostSearchService;
 import com.blog.board.service.PostService;
+import com.blog.board.service.PostTrendingService;
+import com.blog.board.service.PostViewService;
 import com.blog.api.exception.AccessDeniedException;
+import com.blog.board.trending.TrendingWindow;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostController {
+    // 브라우저가 저장하되 매번 ETag 로 재검증하도록 한다 (관리자 응답이 공유 캐시에 남지 않게 private)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
+    private final PostSearchService postSearchService;
     private final PostMapper postMapper;
     private final PageMapper pageMapper;
     private final AdminValidation adminValidation;
+    private final ContentVersion contentVersion;
+    private final PostListResponseCache postListResponseCache;
+    private final PostListJsonWriter postListJsonWriter;
+    private final PostViewService postViewService;
+    private final PostTrendingService postTrendingService;
 
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@RequestBody @Valid PostCreateRequest request) {
@@ -54,22 +90,139 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
+    // 본문을 읽기 전에 (postId, modifiedDate) 로 ETag 를 비교해 변경이 없으면 304 로 응답한다
+    // 볼 때마다 바뀌는 조회수는 응답에 넣지 않는다 - 넣으면 304 가 이전 조회수를 그대로 보여 준다
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable Long postId) {
-        return ResponseEntity.ok(postMapper.toResponse(postService.getPostById(postId)));
+    public ResponseEntity<PostResponse> getPostById(@PathVariable Long postId, WebRequest webRequest) {
+        Optional<PostVersionProjection> version = postService.findPostVersion(postId);
+        if (version.isEmpty()) {
+            // 존재하지 않는 게시글은 기존 경로에서 404 처리
+            return ResponseEntity.ok(postMapper.toResponse(postService.getPostById(postId)));
+        }
+        // 304 재검증도 다시 본 것이므로 센다
+        postViewService.record(postId);
+        postTrendingService.record(postId);
+        String etag = postEtag(version.get());
+        long lastModified = toEpochMillis(version.get().modifiedDate());
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return notModified(etag).lastModified(lastModified).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(REVALIDATE)
+                .body(postMapper.toResponse(postService.getPostById(postId)));
+    }
+
+    // 조회수는 재검증 대상이 아니므로 캐시하지 않고 매번 읽는다. 조회로 세지도 않는다
+    @GetMapping("/{postId}/views")
+    public ResponseEntity<PostViewCountResponse> getViewCount(@PathVariable Long postId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(PostViewCountResponse.builder()
+                        .postId(postId)
+                        .viewCount(postService.getViewCount(postId))
+                        .build());
     }
 
     @GetMapping
     public ResponseEntity<PageResponse<PostSummaryResponse>> getPosts(@RequestParam(required = false) String categoryName,
                                                                       @PageableDefault(size = 10) Pageable pageable,
-                                                                      @AuthenticationPrincipal OAuth2User principal) {
+                                                                      @AuthenticationPrincipal OAuth2User principal,
+                                                                      ServletWebRequest webRequest) throws IOException {
         boolean isAdmin = isAdminUser(principal);
-        PageResponseDto<PostSimpleResponseDto> pageResponseDto = postService.getPosts(categoryName, pageable, isAdmin);
+        long version = contentVersion.current();
+        String etag = listEtag(version, isAdmin);
+        // 비로그인 요청은 직렬화된 응답을 캐시에서 바로 쓴다 (관리자는 항상 우회)
+        if (!isAdmin && postListResponseCache.isCacheable(pageable)) {
+            // 캐시 응답은 gzip 압축본의 ETag 가 다르므로 보낼 표현의 ETag 와 비교한다
+            String variantEtag = CachedResponse.etagFor(webRequest.getRequest(), etag);
+            if (webRequest.checkNotModified(variantEtag)) {
+                return notModified(variantEtag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+            }
+            CachedResponse cached = postListResponseCache.getOrLoad(categoryName, pageable, version, etag,
+                    () -> postListJsonWriter.toBytes(postService.getPostSummaryPage(categoryName, pageable, false)));
+            cached.writeTo(webRequest.getRequest(), webRequest.getResponse(), REVALIDATE.getHeaderValue());
+            return null;
+        }
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag).build();
+        }
+        // 응답 DTO 와 메시지 컨버터를 거치지 않고 프로젝션을 응답 스트림에 바로 쓴다
+        Page<PostSummaryProjection> page = postService.getPostSummaryPage(categoryName, pageable, isAdmin);
+        HttpServletResponse response = webRequest.getResponse();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        postListJsonWriter.write(page, response.getOutputStream());
+        response.flushBuffer();
+        return null;
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<PostSummaryResponse>> searchPosts(@RequestParam String q,
+                                                                         @PageableDefault(size = 10) Pageable pageable,
+                                                                         @AuthenticationPrincipal OAuth2User principal) {
+        PageResponseDto<PostSimpleResponseDto> pageResponseDto =
+                postSearchService.search(q, pageable, isAdminUser(principal));
         List<PostSummaryResponse> content = postMapper.toSummaryResponseList(pageResponseDto.getContent());
         return ResponseEntity.ok(pageMapper.toResponse(pageResponseDto, content));
     }
 
+    // 최근 hour/day/week 동안 많이 읽힌 게시글 - 주기적으로 갱신되는 스냅샷에서 읽으므로 DB 를 조회하지 않는다
+    @GetMapping("/trending")
+    public ResponseEntity<TrendingPostsResponse> getTrendingPosts(@RequestParam(defaultValue = "day") String window,
+                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                  @AuthenticationPrincipal OAuth2User principal) {
+        int limit = Math.min(Math.max(size, 1), postTrendingService.getMaxSize());
+        return ResponseEntity.ok(postMapper.toTrendingResponse(
+                postTrendingService.getTrending(TrendingWindow.from(window), limit, isAdminUser(principal))));
+    }
+
+    // 커서 모드: GET /api/posts?mode=cursor[&cursor=...|&date=yyyy-MM-dd]
+    @GetMapping(params = "mode=cursor")
+    public ResponseEntity<CursorPageResponse<PostSummaryResponse>> getPostsByCursor(@RequestParam(required = false) String categoryName,
+                                                                                    @RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                                    @AuthenticationPrincipal OAuth2User principal,
+                                                                                    WebRequest webRequest) {
+        boolean isAdmin = isAdminUser(principal);
+        String etag = listEtag(contentVersion.current(), isAdmin);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag).build();
+        }
+        CursorPageResponseDto<PostSimpleResponseDto> cursorPageResponseDto =
+                postService.getPostsByCursor(categoryName, cursor, date, size, isAdmin);
+        List<PostSummaryResponse> content = postMapper.toSummaryResponseList(cursorPageResponseDto.getContent());
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(pageMapper.toCursorResponse(cursorPageResponseDto, content));
+    }
+
     private boolean isAdminUser(OAuth2User principal) {
         return adminValidation.isAdminUser(principal);
     }
+
+    // 카테고리 이름이 응답에 포함되므로 카테고리 이름 변경도 ETag 에 반영한다
+    private String postEtag(PostVersionProjection version) {
+        String categoryName = version.categoryName() != null ? version.categoryName() : "";
+        return "\"post-" + version.postId() + "-" + toEpochMillis(version.modifiedDate())
+                + "-" + Integer.toHexString(categoryName.hashCode()) + "\"";
+    }
+
+    // 목록은 어떤 변경이든 콘텐츠 버전이 바뀐다. 관리자와 일반 사용자는 응답이 다르므로 구분한다
+    private String listEtag(long version, boolean isAdmin) {
+        return "\"posts-" + version + (isAdmin ? "-admin" : "-public") + "\"";
+    }
+
+    private ResponseEntity.BodyBuilder notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
 }
@@ -0,0 +1,75 @@
+package com.blog.api.controller;
+
+import com.blog.api.exception.AccessDeniedException;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.response.PostResponse;
+import com.blog.api.response.PostRevisionDiffResponse;
+import com.blog.api.response.PostRevisionResponse;
+import com.blog.api.response.PostRevisionSummaryResponse;
+import com.blog.api.validation.AdminValidation;
+import com.blog.board.service.PostRevisionService;
+import com.blog.board.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 게시글 수정 이력 (관리자 전용) - 비공개 글의 예전 본문도 보이므로 목록/조회/diff 모두 관리자만 쓴다
+@RestController
+@RequestMapping("/api/posts/{postId}/revisions")
+@RequiredArgsConstructor
+public class PostRevisionController {
+
+    private final PostRevisionService postRevisionService;
+    private final PostService postService;
+    private final PostMapper postMapper;
+    private final AdminValidation adminValidation;
+
+    @GetMapping
+    public ResponseEntity<List<PostRevisionSummaryResponse>> getRevisions(@AuthenticationPrincipal OAuth2User principal,
+                                                                          @PathVariable Long postId) {
+        validateAdmin(principal);
+        return ResponseEntity.ok(postMapper.toRevisionSummaryResponseList(postRevisionService.getRevisions(postId)));
+    }
+
+    @GetMapping("/{revision}")
+    public ResponseEntity<PostRevisionResponse> getRevision(@AuthenticationPrincipal OAuth2User principal,
+                                                            @PathVariable Long postId,
+                                                            @PathVariable int revision) {
+        validateAdmin(principal);
+        return ResponseEntity.ok(postMapper.toRevisionResponse(postRevisionService.getRevision(postId, revision)));
+    }
+
+    // against 가 없으면 직전 리비전과, 0 이면 빈 본문과 비교한다
+    @GetMapping("/{revision}/diff")
+    public ResponseEntity<PostRevisionDiffResponse> getDiff(@AuthenticationPrincipal OAuth2User principal,
+                                                            @PathVariable Long postId,
+                                                            @PathVariable int revision,
+                                                            @RequestParam(required = false) Integer against) {
+        validateAdmin(principal);
+        return ResponseEntity.ok(postMapper.toRevisionDiffResponse(postRevisionService.diff(postId, revision, against)));
+    }
+
+    // 되돌린 내용도 새 리비전으로 남으므로 복원 자체를 다시 되돌릴 수 있다
+    @PostMapping("/{revision}/restore")
+    public ResponseEntity<PostResponse> restore(@AuthenticationPrincipal OAuth2User principal,
+                                                @PathVariable Long postId,
+                                                @PathVariable int revision) {
+        validateAdmin(principal);
+        return ResponseEntity.ok(postMapper.toResponse(postService.restoreRevision(postId, revision)));
+    }
+
+    private void validateAdmin(OAuth2User principal) {
+        if (!adminValidation.isAdminUser(principal)) {
+            throw new AccessDeniedException();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.blog.api.controller;
+
+import com.blog.api.exception.AccessDeniedException;
+import com.blog.api.response.PostImportResponse;
+import com.blog.api.validation.AdminValidation;
+import com.blog.board.dto.PostImportResultDto;
+import com.blog.board.service.PostTransferService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+// 게시글 백업/이전용 NDJSON 내보내기와 가져오기 (관리자 전용)
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/posts")
+@RequiredArgsConstructor
+public class PostTransferController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PostTransferService postTransferService;
+    private final AdminValidation adminValidation;
+
+    // 응답 본문에 바로 쓰므로 전체 데이터를 메모리에 올리지 않는다
+    @GetMapping("/export")
+    public void exportPosts(@AuthenticationPrincipal OAuth2User principal, HttpServletResponse response) throws IOException {
+        validateAdmin(principal);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("posts-" + LocalDate.now() + ".ndjson")
+                .build()
+                .toString());
+        postTransferService.exportTo(response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<PostImportResponse> importPosts(@AuthenticationPrincipal OAuth2User principal,
+                                                          HttpServletRequest request) throws IOException {
+        validateAdmin(principal);
+        PostImportResultDto result = postTransferService.importFrom(request.getInputStream());
+        return ResponseEntity.ok(PostImportResponse.builder()
+                .importedPosts(result.getImportedPosts())
+                .createdCategories(result.getCreatedCategories())
+                .skippedLines(result.getSkippedLines())
+                .elapsedMillis(result.getElapsedMillis())
+                .postsPerSecond(result.getPostsPerSecond())
+                .build());
+    }
+
+    private void validateAdmin(OAuth2User principal) {
+        if (!adminValidation.isAdminUser(principal)) {
+            throw new AccessDeniedException();
+        }
+    }
+}
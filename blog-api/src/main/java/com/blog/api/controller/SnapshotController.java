@@ -0,0 +1,50 @@
+package com.blog.api.controller;
+
+import com.blog.api.snapshot.SnapshotFileSender;
+import com.blog.api.snapshot.StaticSnapshotPublisher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 정적 JSON 스냅샷 파일 제공. DB 를 거치지 않는다.
+ */
+@RestController
+@RequestMapping("/api/snapshot")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "blog.snapshot", name = "enabled", havingValue = "true")
+public class SnapshotController {
+
+    // 파일은 언제든 바뀔 수 있으므로 매번 Last-Modified 로 재검증한다
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final StaticSnapshotPublisher staticSnapshotPublisher;
+
+    @GetMapping("/{*path}")
+    public void getSnapshot(@PathVariable String path,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        Optional<Path> file = staticSnapshotPublisher.resolve(path);
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long lastModified = Files.getLastModifiedTime(file.get()).toMillis();
+        if (new ServletWebRequest(request, response).checkNotModified(lastModified)) {
+            return;
+        }
+        SnapshotFileSender.send(file.get(), request, response, CACHE_CONTROL);
+    }
+}
@@ -0,0 +1,45 @@
+package com.blog.api.controller;
+
+import com.blog.api.exception.AccessDeniedException;
+import com.blog.api.monitoring.VirtualThreadPinningMonitor;
+import com.blog.api.response.VirtualThreadPinningResponse;
+import com.blog.api.validation.AdminValidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/virtual-threads")
+@RequiredArgsConstructor
+public class VirtualThreadController {
+
+    // 가상 스레드 모드가 꺼져 있으면 감시기가 없다
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final AdminValidation adminValidation;
+
+    @GetMapping("/pinning")
+    public ResponseEntity<VirtualThreadPinningResponse> getPinning(@AuthenticationPrincipal OAuth2User principal) {
+        if (!adminValidation.isAdminUser(principal)) {
+            throw new AccessDeniedException();
+        }
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor == null) {
+            return ResponseEntity.ok(VirtualThreadPinningResponse.builder()
+                    .enabled(false)
+                    .pinnedSites(Map.of())
+                    .build());
+        }
+        return ResponseEntity.ok(VirtualThreadPinningResponse.builder()
+                .enabled(true)
+                .pinnedCount(monitor.getPinnedCount())
+                .pinnedSites(monitor.getPinnedSites())
+                .build());
+    }
+}
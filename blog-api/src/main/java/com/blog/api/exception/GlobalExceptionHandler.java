@@ -1,19 +1,37 @@
 package com.blog.api.exception;
 
+import com.blog.api.snapshot.SnapshotFileSender;
+import com.blog.api.snapshot.StaticSnapshotPublisher;
 import com.blog.board.exception.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String SNAPSHOT_HEADER = "X-Blog-Snapshot";
+
+    // 스냅샷이 꺼져 있으면 비어 있다
+    private final ObjectProvider<StaticSnapshotPublisher> staticSnapshotPublisher;
+
     // Post 관련 익셉션들
     @ExceptionHandler(PostNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePostNotFoundException(PostNotFoundException e) {
@@ -21,6 +39,30 @@ public class GlobalExceptionHandler {
         return createErrorResponse(e.getErrorCode().getStatus(), "P001", e.getErrorCode().getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        log.warn("Invalid cursor: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "P002", e.getErrorCode().getMessage());
+    }
+
+    @ExceptionHandler(InvalidTrendingWindowException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTrendingWindowException(InvalidTrendingWindowException e) {
+        log.warn("Invalid trending window: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "P003", e.getErrorCode().getMessage());
+    }
+
+    @ExceptionHandler(InvalidPostBulkRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPostBulkRequestException(InvalidPostBulkRequestException e) {
+        log.warn("Invalid post bulk request: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "P004", e.getErrorCode().getMessage());
+    }
+
+    @ExceptionHandler(PostRevisionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePostRevisionNotFoundException(PostRevisionNotFoundException e) {
+        log.warn("Post revision not found: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "P005", e.getErrorCode().getMessage());
+    }
+
     // Category 관련 익셉션들
     @ExceptionHandler(CategoryNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleCategoryNotFoundException(CategoryNotFoundException e) {
@@ -34,6 +76,18 @@ public class GlobalExceptionHandler {
         return createErrorResponse(e.getErrorCode().getStatus(), "C002", e.getErrorCode().getMessage());
     }
 
+    @ExceptionHandler(CategoryDeletionJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCategoryDeletionJobNotFoundException(CategoryDeletionJobNotFoundException e) {
+        log.warn("Category deletion job not found: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "C003", e.getErrorCode().getMessage());
+    }
+
+    @ExceptionHandler(InvalidCategoryTargetException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCategoryTargetException(InvalidCategoryTargetException e) {
+        log.warn("Invalid category target: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "C004", e.getErrorCode().getMessage());
+    }
+
     // 접근 권한 관련 익셉션
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
@@ -41,6 +95,30 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.FORBIDDEN, "A001", e.getMessage());
     }
 
+    // 요청당 SQL 실행 한도 초과 (blog.sql-budget.mode=reject)
+    @ExceptionHandler(SqlBudgetExceededException.class)
+    public ResponseEntity<ErrorResponse> handleSqlBudgetExceededException(SqlBudgetExceededException e) {
+        log.warn("SQL budget exceeded: {}", e.getMessage());
+        return createErrorResponse(e.getErrorCode().getStatus(), "S001", e.getErrorCode().getMessage());
+    }
+
+    // DB 에 연결할 수 없으면 공개 조회 요청은 정적 스냅샷으로 응답한다
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(RuntimeException e,
+                                                                   HttpServletRequest request,
+                                                                   HttpServletResponse response) throws IOException {
+        StaticSnapshotPublisher publisher = staticSnapshotPublisher.getIfAvailable();
+        Optional<Path> snapshot = publisher != null ? publisher.resolveFallback(request) : Optional.empty();
+        if (snapshot.isPresent()) {
+            log.warn("Database unavailable, serving snapshot: {} {}", request.getRequestURI(), e.getMessage());
+            response.setHeader(SNAPSHOT_HEADER, "true");
+            SnapshotFileSender.send(snapshot.get(), request, response, CacheControl.noStore().getHeaderValue());
+            return null;
+        }
+        log.error("Database unavailable: ", e);
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "S002", "일시적으로 데이터를 불러올 수 없습니다.");
+    }
+
     // 일반적인 RuntimeException
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
@@ -0,0 +1,169 @@
+package com.blog.api.feed;
+
+import com.blog.board.dto.PostSitemapEntry;
+import com.blog.board.dto.PostSummaryProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * RSS 2.0 피드와 사이트맵(urlset, sitemapindex)을 StAX 로 바로 쓴다.
+ * DOM 이나 템플릿 문자열을 만들지 않으며, 같은 입력이면 같은 바이트가 나오도록 생성 시각 같은 값은 넣지 않는다.
+ */
+@Component
+public class FeedXmlWriter {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    private final String siteUrl;
+    private final String postUrl;
+    private final String apiUrl;
+    private final String title;
+    private final String description;
+
+    public FeedXmlWriter(@Value("${blog.feed.site-url:https://nohyeongo.github.io}") String siteUrl,
+                         @Value("${blog.feed.post-url:https://nohyeongo.github.io/posts/{postId}}") String postUrl,
+                         @Value("${blog.feed.api-url:http://localhost:8080}") String apiUrl,
+                         @Value("${blog.feed.title:Blog}") String title,
+                         @Value("${blog.feed.description:}") String description) {
+        this.siteUrl = siteUrl;
+        this.postUrl = postUrl;
+        this.apiUrl = apiUrl;
+        this.title = title;
+        this.description = description;
+    }
+
+    /**
+     * @param categoryName 카테고리 피드면 카테고리 이름, 전체 피드면 null
+     * @param posts        최신순 발행 게시글
+     */
+    public byte[] writeRss(String categoryName, List<PostSummaryProjection> posts) {
+        return write(writer -> {
+            writer.writeStartElement("rss");
+            writer.writeAttribute("version", "2.0");
+            writer.writeNamespace("atom", ATOM_NS);
+            writer.writeStartElement("channel");
+            element(writer, "title", categoryName == null ? title : title + " - " + categoryName);
+            element(writer, "link", siteUrl);
+            element(writer, "description", description);
+            writer.writeEmptyElement("atom", "link", ATOM_NS);
+            writer.writeAttribute("href", feedUrl(categoryName));
+            writer.writeAttribute("rel", "self");
+            writer.writeAttribute("type", "application/rss+xml");
+            if (!posts.isEmpty() && posts.get(0).createdDate() != null) {
+                element(writer, "lastBuildDate", rfc1123(posts.get(0).createdDate()));
+            }
+            for (PostSummaryProjection post : posts) {
+                String link = postUrl.replace("{postId}", String.valueOf(post.id()));
+                writer.writeStartElement("item");
+                element(writer, "title", post.title());
+                element(writer, "link", link);
+                writer.writeStartElement("guid");
+                writer.writeAttribute("isPermaLink", "true");
+                writer.writeCharacters(link);
+                writer.writeEndElement();
+                if (post.excerpt() != null) {
+                    element(writer, "description", post.excerpt());
+                }
+                if (post.categoryName() != null) {
+                    element(writer, "category", post.categoryName());
+                }
+                if (post.createdDate() != null) {
+                    element(writer, "pubDate", rfc1123(post.createdDate()));
+                }
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+            writer.writeEndElement();
+        });
+    }
+
+    public byte[] writeUrlSet(List<PostSitemapEntry> entries) {
+        return write(writer -> {
+            writer.writeStartElement("urlset");
+            writer.writeDefaultNamespace(SITEMAP_NS);
+            for (PostSitemapEntry entry : entries) {
+                writer.writeStartElement("url");
+                element(writer, "loc", postUrl.replace("{postId}", String.valueOf(entry.postId())));
+                if (entry.lastModified() != null) {
+                    element(writer, "lastmod", w3cDateTime(entry.lastModified()));
+                }
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        });
+    }
+
+    /**
+     * @param pageLastModified 페이지(1부터)별 가장 최근 수정일
+     */
+    public byte[] writeSitemapIndex(List<LocalDateTime> pageLastModified) {
+        return write(writer -> {
+            writer.writeStartElement("sitemapindex");
+            writer.writeDefaultNamespace(SITEMAP_NS);
+            for (int page = 1; page <= pageLastModified.size(); page++) {
+                writer.writeStartElement("sitemap");
+                element(writer, "loc", apiUrl + "/sitemap-" + page + ".xml");
+                if (pageLastModified.get(page - 1) != null) {
+                    element(writer, "lastmod", w3cDateTime(pageLastModified.get(page - 1)));
+                }
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        });
+    }
+
+    private byte[] write(XmlBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            body.write(writer);
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("피드 XML 생성 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private String feedUrl(String categoryName) {
+        if (categoryName == null) {
+            return apiUrl + "/feed.xml";
+        }
+        return apiUrl + "/feed/" + URLEncoder.encode(categoryName, StandardCharsets.UTF_8).replace("+", "%20") + ".xml";
+    }
+
+    private static void element(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text != null ? text : "");
+        writer.writeEndElement();
+    }
+
+    private static String rfc1123(LocalDateTime dateTime) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(dateTime.atZone(ZoneId.systemDefault()));
+    }
+
+    private static String w3cDateTime(LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                dateTime.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()).toOffsetDateTime());
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+}
@@ -0,0 +1,274 @@
+package com.blog.api.feed;
+
+import com.blog.api.cache.CachedResponse;
+import com.blog.board.dto.PostSitemapEntry;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.service.PostFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * RSS 피드와 사이트맵의 인코딩된 응답(원본 + gzip).
+ * 피드는 요청 시 만들어 두고, 게시글/카테고리 변경 이벤트가 오면 그 변경이 보이는 피드만 버린다.
+ * 사이트맵은 발행된 게시글 ID → 수정일을 메모리에 두고 이벤트로 갱신하며, 바뀐 게시글이 속한 페이지부터만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    private static final long ALL_POSTS = 0L;
+    private static final int SITEMAP_LOAD_CHUNK = 1000;
+
+    private final PostFeedService postFeedService;
+    private final FeedXmlWriter feedXmlWriter;
+    private final int feedSize;
+    private final int sitemapPageSize;
+
+    // 카테고리 ID (전체 피드는 0) → 피드
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+
+    // 사이트맵 상태는 this 로 동기화한다
+    private final NavigableMap<Long, LocalDateTime> sitemapPosts = new TreeMap<>();
+    private final Map<Integer, CachedResponse> sitemapPages = new HashMap<>();
+    private CachedResponse sitemapIndex;
+    private boolean sitemapLoaded;
+
+    public PostFeedCache(PostFeedService postFeedService,
+                         FeedXmlWriter feedXmlWriter,
+                         @Value("${blog.feed.size:20}") int feedSize,
+                         @Value("${blog.feed.sitemap-page-size:50000}") int sitemapPageSize) {
+        this.postFeedService = postFeedService;
+        this.feedXmlWriter = feedXmlWriter;
+        this.feedSize = feedSize;
+        this.sitemapPageSize = sitemapPageSize;
+    }
+
+    /**
+     * @param categoryName null 이면 전체 피드. 없는 카테고리면 빈 값
+     */
+    public Optional<CachedResponse> getFeed(String categoryName) {
+        if (categoryName == null) {
+            return Optional.of(feeds.computeIfAbsent(ALL_POSTS, key -> loadFeed(null, null)).response());
+        }
+        return postFeedService.resolveCategory(categoryName)
+                .map(categoryId -> feeds.computeIfAbsent(categoryId,
+                        key -> loadFeed(categoryId, categoryName.trim())).response());
+    }
+
+    /**
+     * 게시글이 한 페이지에 들어가면 urlset, 넘치면 /sitemap-{n}.xml 을 가리키는 sitemapindex.
+     */
+    public synchronized CachedResponse getSitemap() {
+        ensureSitemapLoaded();
+        if (sitemapPageCount() <= 1) {
+            return sitemapPage(0);
+        }
+        if (sitemapIndex == null) {
+            sitemapIndex = encode(feedXmlWriter.writeSitemapIndex(pageLastModified()));
+        }
+        return sitemapIndex;
+    }
+
+    /**
+     * @param page 1부터. 사이트맵이 나뉘지 않았거나 범위를 벗어나면 빈 값
+     */
+    public synchronized Optional<CachedResponse> getSitemapPage(int page) {
+        ensureSitemapLoaded();
+        int pageCount = sitemapPageCount();
+        if (pageCount <= 1 || page < 1 || page > pageCount) {
+            return Optional.empty();
+        }
+        return Optional.of(sitemapPage(page - 1));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.IMPORTED) {
+            feeds.clear();
+            resetSitemap();
+            return;
+        }
+        List<PostSitemapEntry> published = event.type() == PostChangedEvent.ChangeType.DELETED
+                ? List.of()
+                : postFeedService.findSitemapEntries(event.postIds());
+        evictFeeds(Set.copyOf(event.postIds()), published);
+        applySitemapChanges(event.postIds(), published);
+    }
+
+    // 카테고리 이름은 그 카테고리 피드와 전체 피드의 항목에만 나온다. 사이트맵과는 무관하다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        feeds.remove(ALL_POSTS);
+        if (event.categoryId() != null) {
+            feeds.remove(event.categoryId());
+        }
+    }
+
+    /**
+     * 바뀐 게시글을 담고 있던 피드와, 발행 상태인 게시글이 새로 들어갈 수 있는 피드(전체 + 현재 카테고리)만 버린다.
+     * 만들고 있는 피드를 버리는 경우 remove 는 만들기가 끝날 때까지 기다린다.
+     */
+    private void evictFeeds(Set<Long> changedIds, List<PostSitemapEntry> published) {
+        Set<Long> affected = new HashSet<>();
+        if (!published.isEmpty()) {
+            affected.add(ALL_POSTS);
+            published.stream()
+                    .map(PostSitemapEntry::categoryId)
+                    .filter(Objects::nonNull)
+                    .forEach(affected::add);
+        }
+        feeds.forEach((key, feed) -> {
+            if (feed.containsAny(changedIds)) {
+                affected.add(key);
+            }
+        });
+        affected.forEach(feeds::remove);
+    }
+
+    private synchronized void applySitemapChanges(Collection<Long> postIds, List<PostSitemapEntry> published) {
+        if (!sitemapLoaded) {
+            // 처음 읽을 때 DB 에서 최신 상태를 가져온다
+            return;
+        }
+        Map<Long, LocalDateTime> current = new HashMap<>();
+        published.forEach(entry -> current.put(entry.postId(), entry.lastModified()));
+        Map<Long, Integer> pages = pagesOf(postIds);
+        int firstShiftedPage = Integer.MAX_VALUE;
+        Set<Integer> touchedPages = new HashSet<>();
+        for (Long postId : pages.keySet()) {
+            int page = pages.get(postId);
+            boolean wasListed = sitemapPosts.containsKey(postId);
+            if (!current.containsKey(postId)) {
+                if (wasListed) {
+                    sitemapPosts.remove(postId);
+                    firstShiftedPage = Math.min(firstShiftedPage, page);
+                }
+                continue;
+            }
+            LocalDateTime previous = sitemapPosts.put(postId, current.get(postId));
+            if (!wasListed) {
+                firstShiftedPage = Math.min(firstShiftedPage, page);
+            } else if (!Objects.equals(previous, current.get(postId))) {
+                touchedPages.add(page);
+            }
+        }
+        // 게시글이 들어오거나 빠지면 그 페이지부터 뒤쪽이 모두 밀린다 - 새 글은 ID 가 가장 크므로 보통 마지막 페이지만
+        int shifted = firstShiftedPage;
+        sitemapPages.keySet().removeIf(page -> page >= shifted || touchedPages.contains(page));
+        if (shifted != Integer.MAX_VALUE || !touchedPages.isEmpty()) {
+            sitemapIndex = null;
+        }
+    }
+
+    // 게시글마다 앞선 게시글 수로 페이지를 구한다 - 일괄 변경 이벤트도 맵을 한 번만 훑는다
+    private Map<Long, Integer> pagesOf(Collection<Long> postIds) {
+        List<Long> sorted = postIds.stream().distinct().sorted().toList();
+        Map<Long, Integer> pages = new HashMap<>();
+        int rank = 0;
+        int next = 0;
+        for (Long listedId : sitemapPosts.keySet()) {
+            while (next < sorted.size() && sorted.get(next) <= listedId) {
+                pages.put(sorted.get(next++), rank / sitemapPageSize);
+            }
+            if (next == sorted.size()) {
+                break;
+            }
+            rank++;
+        }
+        while (next < sorted.size()) {
+            pages.put(sorted.get(next++), rank / sitemapPageSize);
+        }
+        return pages;
+    }
+
+    private synchronized void resetSitemap() {
+        sitemapLoaded = false;
+        sitemapPosts.clear();
+        sitemapPages.clear();
+        sitemapIndex = null;
+    }
+
+    private void ensureSitemapLoaded() {
+        if (sitemapLoaded) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        List<PostSitemapEntry> chunk;
+        do {
+            chunk = postFeedService.findSitemapEntriesAfter(afterId, SITEMAP_LOAD_CHUNK);
+            chunk.forEach(entry -> sitemapPosts.put(entry.postId(), entry.lastModified()));
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).postId();
+            }
+        } while (chunk.size() == SITEMAP_LOAD_CHUNK);
+        sitemapLoaded = true;
+        log.info("사이트맵 적재 완료 - 게시글: {}건, {}ms", sitemapPosts.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private int sitemapPageCount() {
+        return Math.max(1, (sitemapPosts.size() + sitemapPageSize - 1) / sitemapPageSize);
+    }
+
+    private CachedResponse sitemapPage(int page) {
+        return sitemapPages.computeIfAbsent(page, key -> {
+            List<PostSitemapEntry> entries = sitemapPosts.entrySet().stream()
+                    .skip((long) page * sitemapPageSize)
+                    .limit(sitemapPageSize)
+                    .map(entry -> new PostSitemapEntry(entry.getKey(), null, entry.getValue()))
+                    .toList();
+            return encode(feedXmlWriter.writeUrlSet(entries));
+        });
+    }
+
+    private List<LocalDateTime> pageLastModified() {
+        List<LocalDateTime> lastModified = new ArrayList<>();
+        int index = 0;
+        for (LocalDateTime modified : sitemapPosts.values()) {
+            int page = index++ / sitemapPageSize;
+            if (page == lastModified.size()) {
+                lastModified.add(modified);
+            } else if (modified != null && (lastModified.get(page) == null || modified.isAfter(lastModified.get(page)))) {
+                lastModified.set(page, modified);
+            }
+        }
+        return lastModified;
+    }
+
+    private Feed loadFeed(Long categoryId, String categoryName) {
+        List<PostSummaryProjection> posts = postFeedService.findRecent(categoryId, feedSize);
+        Set<Long> postIds = posts.stream().map(PostSummaryProjection::id).collect(Collectors.toUnmodifiableSet());
+        return new Feed(encode(feedXmlWriter.writeRss(categoryName, posts)), postIds);
+    }
+
+    // 내용이 같으면 ETag 도 같다 - 다시 만든 피드가 그대로면 구독기는 계속 304 를 받는다
+    private static CachedResponse encode(byte[] body) {
+        return CachedResponse.of(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", 0L);
+    }
+
+    private record Feed(CachedResponse response, Set<Long> postIds) {
+        private boolean containsAny(Set<Long> changedIds) {
+            return changedIds.stream().anyMatch(postIds::contains);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.blog.api.mapper;
 
+import com.blog.api.response.CategoryDeletionResponse;
 import com.blog.api.response.CategoryResponse;
+import com.blog.board.dto.CategoryDeletionJobDto;
 import com.blog.board.dto.CategoryDto;
 import org.springframework.stereotype.Component;
 
@@ -20,9 +22,35 @@ public class CategoryMapper {
                 .build();
     }
 
-    public List<CategoryResponse> toResponseList(List<CategoryDto> categoryDtos) {
+    // 관리자는 비공개 글을 포함한 전체 수, 그 외에는 발행된 글 수를 노출한다
+    public CategoryResponse toResponseWithCount(CategoryDto categoryDto, boolean isAdmin) {
+        if (categoryDto == null) {
+            return null;
+        }
+        return CategoryResponse.builder()
+                .id(categoryDto.getId())
+                .name(categoryDto.getName())
+                .postCount(isAdmin ? categoryDto.getPostCount() : categoryDto.getPublishedPostCount())
+                .build();
+    }
+
+    public List<CategoryResponse> toResponseList(List<CategoryDto> categoryDtos, boolean isAdmin) {
         return categoryDtos.stream()
-                .map(this::toResponse)
+                .map(categoryDto -> toResponseWithCount(categoryDto, isAdmin))
                 .collect(Collectors.toList());
     }
+
+    public CategoryDeletionResponse toDeletionResponse(CategoryDeletionJobDto job) {
+        return CategoryDeletionResponse.builder()
+                .jobId(job.getJobId())
+                .categoryId(job.getCategoryId())
+                .targetCategoryId(job.getTargetCategoryId())
+                .status(job.getStatus().name())
+                .totalPosts(job.getTotalPosts())
+                .processedPosts(job.getProcessedPosts())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
 }
@@ -1,6 +1,8 @@
 package com.blog.api.mapper;
 
+import com.blog.api.response.CursorPageResponse;
 import com.blog.api.response.PageResponse;
+import com.blog.board.dto.CursorPageResponseDto;
 import com.blog.board.dto.PageResponseDto;
 import org.springframework.stereotype.Component;
 
@@ -24,4 +26,19 @@ public class PageMapper {
                 .empty(pageResponseDto.isEmpty())
                 .build();
     }
+
+    public <T> CursorPageResponse<T> toCursorResponse(CursorPageResponseDto<?> cursorPageResponseDto, List<T> content) {
+        if (cursorPageResponseDto == null) {
+            return null;
+        }
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(cursorPageResponseDto.getSize())
+                .hasNext(cursorPageResponseDto.isHasNext())
+                .hasPrevious(cursorPageResponseDto.isHasPrevious())
+                .nextCursor(cursorPageResponseDto.getNextCursor())
+                .prevCursor(cursorPageResponseDto.getPrevCursor())
+                .empty(cursorPageResponseDto.isEmpty())
+                .build();
+    }
 }
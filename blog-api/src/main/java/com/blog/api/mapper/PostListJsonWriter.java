@@ -0,0 +1,142 @@
+package com.blog.api.mapper;
+
+import com.blog.board.dto.PostSummaryProjection;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 게시글 목록 페이지를 프로젝션에서 바로 JSON 으로 쓴다.
+ * PostSimpleResponseDto → PostSummaryResponse → PageResponse 를 만들지 않고 필드 단위로 기록하며,
+ * 결과는 ObjectMapper 로 PageResponse&lt;PostSummaryResponse&gt; 를 직렬화한 것과 바이트 단위로 같아야 한다.
+ * 응답 클래스의 필드 순서나 이름이 바뀌면 이 클래스도 함께 고쳐야 한다 (PostListJsonWriterTest 가 확인한다).
+ */
+@Component
+@RequiredArgsConstructor
+public class PostListJsonWriter {
+
+    // 필드 이름은 미리 인코딩해 두고 재사용한다
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString EXCERPT = new SerializedString("excerpt");
+    private static final SerializedString PUBLISHED = new SerializedString("published");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString CREATED_DATE = new SerializedString("createdDate");
+
+    // jackson-datatype-jsr310 의 LocalDateTime 기본 형식과 같다
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 출력 스트림은 닫지 않는다. 생성기 버퍼는 Jackson 의 버퍼 재사용 풀에서 빌려 쓰고 끝나면 돌려준다.
+     */
+    public void write(Page<PostSummaryProjection> page, OutputStream out) throws IOException {
+        // ObjectMapper 설정(들여쓰기 등)을 그대로 적용한 생성기
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writePage(generator, page);
+        }
+    }
+
+    public byte[] toBytes(Page<PostSummaryProjection> page) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + page.getNumberOfElements() * 512);
+        try {
+            write(page, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private void writePage(JsonGenerator generator, Page<PostSummaryProjection> page) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        for (PostSummaryProjection post : page.getContent()) {
+            writePost(generator, post);
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(PAGE_NUMBER);
+        generator.writeNumber(page.getNumber());
+        generator.writeFieldName(PAGE_SIZE);
+        generator.writeNumber(page.getSize());
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(page.getTotalPages());
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(page.getTotalElements());
+        generator.writeFieldName(FIRST);
+        generator.writeBoolean(page.isFirst());
+        generator.writeFieldName(LAST);
+        generator.writeBoolean(page.isLast());
+        generator.writeFieldName(EMPTY);
+        generator.writeBoolean(page.isEmpty());
+        generator.writeEndObject();
+    }
+
+    private void writePost(JsonGenerator generator, PostSummaryProjection post) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        writeNumberOrNull(generator, post.id());
+        generator.writeFieldName(TITLE);
+        generator.writeString(post.title());
+        // 목록 프로젝션은 작성자를 조회하지 않는다 (PostSimpleResponseDto.fromProjection 과 같음)
+        generator.writeFieldName(AUTHOR);
+        generator.writeNull();
+        generator.writeFieldName(EXCERPT);
+        generator.writeString(post.excerpt());
+        generator.writeFieldName(PUBLISHED);
+        generator.writeBoolean(post.published());
+        generator.writeFieldName(CATEGORY);
+        if (post.categoryId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            generator.writeNumber(post.categoryId());
+            generator.writeFieldName(NAME);
+            generator.writeString(post.categoryName());
+            generator.writeEndObject();
+        }
+        generator.writeFieldName(CREATED_DATE);
+        writeDateTime(generator, post.createdDate());
+        generator.writeEndObject();
+    }
+
+    private void writeNumberOrNull(JsonGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private void writeDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(DATE_TIME_FORMAT.format(value));
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.blog.api.mapper;
 
+import com.blog.api.request.PostBulkRequest;
 import com.blog.api.request.PostCreateRequest;
 import com.blog.api.request.PostUpdateRequest;
+import com.blog.api.response.PostBulkOutcomeResponse;
+import com.blog.api.response.PostBulkResponse;
 import com.blog.api.response.PostResponse;
+import com.blog.api.response.PostRevisionDiffResponse;
+import com.blog.api.response.PostRevisionResponse;
+import com.blog.api.response.PostRevisionSummaryResponse;
 import com.blog.api.response.PostSummaryResponse;
+import com.blog.api.response.TocEntryResponse;
+import com.blog.api.response.TrendingPostResponse;
+import com.blog.api.response.TrendingPostsResponse;
+import com.blog.board.dto.PostBulkCommandDto;
+import com.blog.board.dto.PostBulkResultDto;
 import com.blog.board.dto.PostRequestDto;
 import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostRevisionDiffDto;
+import com.blog.board.dto.PostRevisionDto;
+import com.blog.board.dto.PostRevisionSummary;
 import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.TocEntryDto;
+import com.blog.board.dto.TrendingPostsDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Component
@@ -50,9 +67,26 @@ public class PostMapper {
                 .category(categoryMapper.toResponse(postResponseDto.getCategory()))
                 .createdDate(postResponseDto.getCreatedDate())
                 .modifiedDate(postResponseDto.getModifiedDate())
+                .html(postResponseDto.getHtml())
+                .toc(toTocResponseList(postResponseDto.getToc()))
+                .wordCount(postResponseDto.getWordCount())
+                .readingMinutes(postResponseDto.getReadingMinutes())
                 .build();
     }
 
+    private List<TocEntryResponse> toTocResponseList(List<TocEntryDto> toc) {
+        if (toc == null) {
+            return null;
+        }
+        return toc.stream()
+                .map(entry -> TocEntryResponse.builder()
+                        .level(entry.getLevel())
+                        .anchor(entry.getAnchor())
+                        .text(entry.getText())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public PostSummaryResponse toSummaryResponse(PostSimpleResponseDto postSimpleResponseDto) {
         if (postSimpleResponseDto == null) {
             return null;
@@ -61,7 +95,7 @@ public class PostMapper {
                 .id(postSimpleResponseDto.getId())
                 .title(postSimpleResponseDto.getTitle())
                 .author(postSimpleResponseDto.getAuthor())
-                .content(postSimpleResponseDto.getContent())
+                .excerpt(postSimpleResponseDto.getExcerpt())
                 .published(postSimpleResponseDto.isPublished())
                 .category(categoryMapper.toResponse(postSimpleResponseDto.getCategory()))
                 .createdDate(postSimpleResponseDto.getCreatedDate())
@@ -73,4 +107,87 @@ public class PostMapper {
                 .map(this::toSummaryResponse)
                 .collect(Collectors.toList());
     }
+
+    public TrendingPostsResponse toTrendingResponse(TrendingPostsDto trendingPostsDto) {
+        return TrendingPostsResponse.builder()
+                .window(trendingPostsDto.getWindow().name().toLowerCase(Locale.ROOT))
+                .generatedAt(trendingPostsDto.getGeneratedAt())
+                .posts(trendingPostsDto.getPosts().stream()
+                        .map(trendingPost -> TrendingPostResponse.builder()
+                                .post(toSummaryResponse(trendingPost.getPost()))
+                                .views(trendingPost.getViews())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public PostBulkCommandDto toBulkCommand(PostBulkCommandDto.Action action, PostBulkRequest request) {
+        PostBulkRequest.Filter filter = request.getFilter();
+        return PostBulkCommandDto.builder()
+                .action(action)
+                .postIds(request.getPostIds())
+                .categoryName(filter != null ? filter.getCategoryName() : null)
+                .published(filter != null ? filter.getPublished() : null)
+                .afterId(filter != null ? filter.getAfterId() : null)
+                .targetCategoryName(request.getCategoryName())
+                .build();
+    }
+
+    public PostBulkResponse toBulkResponse(PostBulkResultDto result) {
+        return PostBulkResponse.builder()
+                .action(result.getAction().name().toLowerCase(Locale.ROOT))
+                .applied(result.count(PostBulkResultDto.Result.APPLIED))
+                .unchanged(result.count(PostBulkResultDto.Result.UNCHANGED))
+                .notFound(result.count(PostBulkResultDto.Result.NOT_FOUND))
+                .hasMore(result.isHasMore())
+                .nextAfterId(result.getNextAfterId())
+                .results(result.getOutcomes().stream()
+                        .map(outcome -> PostBulkOutcomeResponse.builder()
+                                .id(outcome.postId())
+                                .result(outcome.result().name().toLowerCase(Locale.ROOT))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public List<PostRevisionSummaryResponse> toRevisionSummaryResponseList(List<PostRevisionSummary> revisions) {
+        return revisions.stream()
+                .map(revision -> PostRevisionSummaryResponse.builder()
+                        .revision(revision.revisionNumber())
+                        .title(revision.title())
+                        .snapshot(revision.snapshot())
+                        .contentLength(revision.contentLength())
+                        .createdDate(revision.createdDate())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public PostRevisionResponse toRevisionResponse(PostRevisionDto revision) {
+        return PostRevisionResponse.builder()
+                .postId(revision.getPostId())
+                .revision(revision.getRevisionNumber())
+                .title(revision.getTitle())
+                .content(revision.getContent())
+                .createdDate(revision.getCreatedDate())
+                .build();
+    }
+
+    public PostRevisionDiffResponse toRevisionDiffResponse(PostRevisionDiffDto diff) {
+        return PostRevisionDiffResponse.builder()
+                .postId(diff.getPostId())
+                .baseRevision(diff.getBaseRevision())
+                .targetRevision(diff.getTargetRevision())
+                .baseTitle(diff.getBaseTitle())
+                .targetTitle(diff.getTargetTitle())
+                .hunks(diff.getHunks().stream()
+                        .map(hunk -> PostRevisionDiffResponse.Hunk.builder()
+                                .baseStart(hunk.baseStart())
+                                .baseLines(hunk.baseLines())
+                                .targetStart(hunk.targetStart())
+                                .targetLines(hunk.targetLines())
+                                .lines(hunk.lines())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
 }
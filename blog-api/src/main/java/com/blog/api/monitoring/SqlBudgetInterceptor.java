@@ -0,0 +1,78 @@
+package com.blog.api.monitoring;
+
+import com.blog.api.config.SqlBudgetProperties;
+import com.blog.board.support.sql.SqlStatementCounter;
+import com.blog.board.support.sql.SqlStatementCounts;
+import com.blog.board.support.sql.SqlStatementScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 요청마다 SQL 집계 범위를 열고, 끝나면 문장 수를 메트릭(blog.sql.statements)으로 남긴다.
+ * 엔드포인트는 URL 패턴으로 구분해 게시글 ID 마다 태그가 늘어나지 않게 한다.
+ */
+@Slf4j
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetInterceptor(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String endpoint = endpoint(request);
+        SqlStatementCounter.begin(endpoint, properties.limitFor(endpoint),
+                properties.mode() == SqlBudgetProperties.Mode.REJECT);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementScope scope = SqlStatementCounter.end();
+        if (scope == null) {
+            return;
+        }
+        SqlStatementCounts counts = scope.counts();
+        String method = request.getMethod();
+        String uri = uri(request);
+        DistributionSummary.builder("blog.sql.statements")
+                .description("요청당 실행한 SQL 문장 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.total());
+
+        if (scope.isOverLimit()) {
+            Counter.builder("blog.sql.budget.exceeded").tag("method", method).tag("uri", uri)
+                    .register(meterRegistry).increment();
+            log.warn("SQL 실행 한도 초과 - {}, {}회 (한도 {}) {}", scope.getName(), counts.total(), scope.getLimit(), counts);
+        }
+        Map<String, Integer> repeated = scope.repeatedStatements(properties.repeatThreshold());
+        if (!repeated.isEmpty()) {
+            Counter.builder("blog.sql.repeated").tag("method", method).tag("uri", uri)
+                    .register(meterRegistry).increment();
+            repeated.forEach((sql, count) -> log.warn("N+1 의심 - {}, 같은 SQL {}회: {}", scope.getName(), count, sql));
+        }
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        return request.getMethod() + " " + uri(request);
+    }
+
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,109 @@
+package com.blog.api.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 고정(pinning)을 JFR 이벤트 스트림으로 감시한다.
+ * synchronized 안에서 JDBC/Hibernate I/O 를 기다리면 캐리어 스레드가 묶여 가상 스레드의 이점이 사라지므로,
+ * 원인 위치별로 횟수를 세고 위치마다 처음 한 번만 스택을 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 이 패키지의 가장 위 프레임을 고정 원인 위치로 본다
+    private static final List<String> SITE_PACKAGES = List.of(
+            "com.blog.", "org.hibernate.", "com.mysql.", "com.zaxxer.hikari.", "org.springframework.jdbc.");
+    private static final int LOGGED_FRAMES = 20;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinnedCount = new LongAdder();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${blog.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("가상 스레드 pinning 감시 시작 - 기준 {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        if (recordingStream != null) {
+            recordingStream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    // 원인 위치별 횟수 - 많은 순
+    public Map<String, Long> getPinnedSites() {
+        return pinnedBySite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        List<String> methods = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList();
+        String site = pinnedSite(methods);
+        pinnedCount.increment();
+        LongAdder siteCount = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+        siteCount.increment();
+        if (siteCount.sum() == 1) {
+            log.warn("가상 스레드 pinning - {}ms, 위치: {}\n\t{}", event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES).map(this::format).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    static String pinnedSite(List<String> methods) {
+        return methods.stream()
+                .filter(method -> SITE_PACKAGES.stream().anyMatch(method::startsWith))
+                .findFirst()
+                .orElse(methods.isEmpty() ? "unknown" : methods.get(0));
+    }
+
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,28 @@
+package com.blog.api.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostBulkRequest {
+
+    // postIds 와 filter 중 하나만 지정한다
+    private List<Long> postIds;
+
+    private Filter filter;
+
+    // 이동할 카테고리 이름 (move 에서만 사용, 없으면 만든다)
+    private String categoryName;
+
+    @Getter
+    @Builder
+    public static class Filter {
+        private String categoryName;
+        private Boolean published;
+        // 이전 응답의 nextAfterId - 남은 게시글을 이어서 처리할 때 넣는다
+        private Long afterId;
+    }
+}
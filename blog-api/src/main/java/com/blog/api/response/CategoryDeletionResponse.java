@@ -0,0 +1,23 @@
+package com.blog.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CategoryDeletionResponse {
+    private String jobId;
+    private Long categoryId;
+    // 게시글을 옮길 카테고리, 없으면 게시글도 삭제
+    private Long targetCategoryId;
+    private String status;
+    private long totalPosts;
+    private long processedPosts;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -1,5 +1,6 @@
 package com.blog.api.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,4 +9,7 @@ import lombok.Getter;
 public class CategoryResponse {
     private Long id;
     private String name;
+    // 카테고리 목록에서만 채워진다 (게시글 응답에 포함된 카테고리는 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long postCount;
 }
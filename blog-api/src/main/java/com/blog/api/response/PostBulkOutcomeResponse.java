@@ -0,0 +1,12 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostBulkOutcomeResponse {
+    private Long id;
+    // applied, unchanged, not_found
+    private String result;
+}
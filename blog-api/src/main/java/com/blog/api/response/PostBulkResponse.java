@@ -0,0 +1,19 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostBulkResponse {
+    private String action;
+    private long applied;
+    private long unchanged;
+    private long notFound;
+    // 필터 대상이 남아 있음 - filter.afterId 에 nextAfterId 를 넣어 다시 보내면 이어서 처리된다
+    private boolean hasMore;
+    private Long nextAfterId;
+    private List<PostBulkOutcomeResponse> results;
+}
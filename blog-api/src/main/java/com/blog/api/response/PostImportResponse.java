@@ -0,0 +1,14 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostImportResponse {
+    private long importedPosts;
+    private long createdCategories;
+    private long skippedLines;
+    private long elapsedMillis;
+    private double postsPerSecond;
+}
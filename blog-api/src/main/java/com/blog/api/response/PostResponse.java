@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -17,4 +18,8 @@ public class PostResponse {
     private CategoryResponse category;
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
+    private String html;
+    private List<TocEntryResponse> toc;
+    private int wordCount;
+    private int readingMinutes;
 }
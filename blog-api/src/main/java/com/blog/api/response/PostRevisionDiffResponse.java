@@ -0,0 +1,31 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostRevisionDiffResponse {
+    private Long postId;
+    // 0 이면 빈 본문과 비교한 것
+    private int baseRevision;
+    private int targetRevision;
+    private String baseTitle;
+    private String targetTitle;
+    private List<Hunk> hunks;
+
+    /**
+     * unified diff 한 덩어리. 줄 번호는 1부터, lines 는 ' '(같음) / '-'(삭제) / '+'(추가) 로 시작한다.
+     */
+    @Getter
+    @Builder
+    public static class Hunk {
+        private int baseStart;
+        private int baseLines;
+        private int targetStart;
+        private int targetLines;
+        private List<String> lines;
+    }
+}
@@ -0,0 +1,16 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PostRevisionResponse {
+    private Long postId;
+    private int revision;
+    private String title;
+    private String content;
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,17 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PostRevisionSummaryResponse {
+    private int revision;
+    private String title;
+    // 전체 본문을 저장한 리비전인지 - 아니면 직전 리비전 대비 델타
+    private boolean snapshot;
+    private int contentLength;
+    private LocalDateTime createdDate;
+}
@@ -11,7 +11,7 @@ public class PostSummaryResponse {
     private Long id;
     private String title;
     private String author;
-    private String content;
+    private String excerpt;
     private boolean published;
     private CategoryResponse category;
     private LocalDateTime createdDate;
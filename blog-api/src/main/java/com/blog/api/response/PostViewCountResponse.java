@@ -0,0 +1,11 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostViewCountResponse {
+    private Long postId;
+    private long viewCount;
+}
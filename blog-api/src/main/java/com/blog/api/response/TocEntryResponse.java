@@ -0,0 +1,12 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TocEntryResponse {
+    private int level;
+    private String anchor;
+    private String text;
+}
@@ -0,0 +1,15 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TrendingPostsResponse {
+    private String window;
+    private LocalDateTime generatedAt;
+    private List<TrendingPostResponse> posts;
+}
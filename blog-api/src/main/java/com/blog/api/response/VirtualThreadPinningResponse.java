@@ -0,0 +1,14 @@
+package com.blog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class VirtualThreadPinningResponse {
+    private boolean enabled;
+    private long pinnedCount;
+    private Map<String, Long> pinnedSites;
+}
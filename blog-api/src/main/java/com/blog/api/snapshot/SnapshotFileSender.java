@@ -0,0 +1,50 @@
+package com.blog.api.snapshot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 스냅샷 파일을 응답으로 보낸다.
+ * 큰 파일은 Tomcat sendfile 로 커넥터가 커널에서 바로 보내게 한다 - 파일 내용이 JVM 을 거치지 않는 것은 이 경로뿐이다.
+ * 작은 파일이나 sendfile 을 지원하지 않는 커넥터에서는 버퍼로 읽어 응답 스트림에 복사한다.
+ * 응답 스트림은 소켓 채널이 아니므로 FileChannel.transferTo 를 써도 JDK 가 같은 복사를 한다.
+ */
+public final class SnapshotFileSender {
+
+    // 작은 파일은 sendfile 준비 비용이 더 크다 (Tomcat 의 sendfileSize 기본값과 같다)
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private SnapshotFileSender() {
+    }
+
+    public static void send(Path file, HttpServletRequest request, HttpServletResponse response,
+                            String cacheControl) throws IOException {
+        long size = Files.size(file);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, Files.getLastModifiedTime(file).toMillis());
+        response.setContentLengthLong(size);
+
+        if (size >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 파일은 원자적으로 교체되므로 커넥터가 연 파일은 전송이 끝날 때까지 같은 내용이다
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        Files.copy(file, response.getOutputStream());
+        response.flushBuffer();
+    }
+}
@@ -0,0 +1,487 @@
+package com.blog.api.snapshot;
+
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PostListJsonWriter;
+import com.blog.api.mapper.PostMapper;
+import com.blog.board.dto.CategoryDto;
+import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.exception.PostNotFoundException;
+import com.blog.board.service.CategoryService;
+import com.blog.board.service.PostService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 정적 JSON 스냅샷 (GitHub Pages 프런트엔드용).
+ * 발행된 게시글 상세(posts/{id}.json), 고정 크기 목록 페이지(lists/all/{page}.json,
+ * lists/categories/{categoryId}/{page}.json), 카테고리 목록(categories.json)을 출력 디렉터리에 쓴다.
+ * 변경 이벤트는 모아 두었다가 주기마다 반영하며, 바뀐 게시글과 그 게시글이 속했던/속한 목록만 다시 만들고
+ * 내용이 같은 파일은 건드리지 않는다. 파일은 임시 파일에 쓴 뒤 원자적으로 교체한다.
+ * 기동 직후의 전체 생성과 카테고리 변경 반영은 요청·이벤트 스레드를 잡지 않도록 실행기에서 돈다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.snapshot", name = "enabled", havingValue = "true")
+public class StaticSnapshotPublisher {
+
+    static final String CATEGORIES_FILE = "categories.json";
+    private static final String POSTS_DIR = "posts";
+    private static final String ALL_LIST_DIR = "lists/all";
+    private static final String CATEGORY_LIST_DIR = "lists/categories";
+    private static final String JSON_SUFFIX = ".json";
+    private static final long NO_CATEGORY = 0L;
+    private static final int POST_CHUNK_SIZE = 100;
+    private static final Pattern POST_PATH = Pattern.compile("/api/posts/(\\d+)");
+
+    private final PostService postService;
+    private final CategoryService categoryService;
+    private final PostMapper postMapper;
+    private final CategoryMapper categoryMapper;
+    private final PostListJsonWriter postListJsonWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final Path outputDir;
+    private final int pageSize;
+
+    private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingCategoryIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullRebuildPending = true;
+    // 마지막으로 쓴 게시글 → 카테고리 ID (카테고리 없으면 0). 게시글이 빠진 이전 목록을 찾는 데 쓴다
+    private final Map<Long, Long> publishedPosts = new HashMap<>();
+    private volatile Map<String, Long> categoryIds = Map.of();
+
+    public StaticSnapshotPublisher(PostService postService,
+                                   CategoryService categoryService,
+                                   PostMapper postMapper,
+                                   CategoryMapper categoryMapper,
+                                   PostListJsonWriter postListJsonWriter,
+                                   ObjectMapper objectMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                   @Value("${blog.snapshot.output-dir:data/snapshot}") String outputDir,
+                                   @Value("${blog.snapshot.page-size:10}") int pageSize) {
+        this.postService = postService;
+        this.categoryService = categoryService;
+        this.postMapper = postMapper;
+        this.categoryMapper = categoryMapper;
+        this.postListJsonWriter = postListJsonWriter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.outputDir = Path.of(outputDir).toAbsolutePath().normalize();
+        this.pageSize = pageSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.IMPORTED) {
+            fullRebuildPending = true;
+            return;
+        }
+        pendingPostIds.addAll(event.postIds());
+    }
+
+    // 카테고리 이름이 바뀌면 그 카테고리의 게시글 파일과 목록만 다시 쓴다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.categoryId() == null) {
+            fullRebuildPending = true;
+        } else {
+            pendingCategoryIds.add(event.categoryId());
+        }
+        taskExecutor.execute(this::publishPending);
+    }
+
+    // 전체 생성이 끝날 때까지 기동 완료가 늦어지지 않게 실행기에 맡긴다
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishOnStartup() {
+        taskExecutor.execute(this::publishPending);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.snapshot.rebuild-delay:PT2S}")
+    public synchronized void publishPending() {
+        try {
+            if (fullRebuildPending) {
+                fullRebuildPending = false;
+                pendingPostIds.clear();
+                pendingCategoryIds.clear();
+                rebuildAll();
+                return;
+            }
+            if (pendingPostIds.isEmpty() && pendingCategoryIds.isEmpty()) {
+                return;
+            }
+            Set<Long> postIds = drain(pendingPostIds);
+            Set<Long> changedCategories = drain(pendingCategoryIds);
+            publishedPosts.forEach((postId, categoryId) -> {
+                if (changedCategories.contains(categoryId)) {
+                    postIds.add(postId);
+                }
+            });
+            rebuildPosts(postIds, changedCategories);
+        } catch (RuntimeException e) {
+            // 일부 파일만 바뀐 상태일 수 있으므로 다음 주기에 전체를 다시 맞춘다
+            fullRebuildPending = true;
+            log.warn("정적 스냅샷 갱신 실패 - 다음 주기에 전체를 다시 생성합니다", e);
+        }
+    }
+
+    /**
+     * 출력 디렉터리 아래의 스냅샷 파일을 찾는다. 디렉터리 밖을 가리키거나 JSON 이 아니면 빈 값.
+     */
+    public Optional<Path> resolve(String relativePath) {
+        if (relativePath == null || !relativePath.endsWith(JSON_SUFFIX)) {
+            return Optional.empty();
+        }
+        Path file = outputDir.resolve(relativePath.replaceFirst("^/+", "")).normalize();
+        if (!file.startsWith(outputDir) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * DB 를 쓸 수 없을 때 요청에 해당하는 스냅샷 파일. 스냅샷이 같은 응답을 가진 공개 GET 요청만 대응한다.
+     */
+    public Optional<Path> resolveFallback(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return Optional.empty();
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("/api/categories".equals(path)) {
+            return resolve(CATEGORIES_FILE);
+        }
+        Matcher matcher = POST_PATH.matcher(path);
+        if (matcher.matches()) {
+            return resolve(POSTS_DIR + "/" + matcher.group(1) + JSON_SUFFIX);
+        }
+        if ("/api/posts".equals(path) && request.getParameter("mode") == null && request.getParameter("sort") == null) {
+            return resolveListFallback(request);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Path> resolveListFallback(HttpServletRequest request) {
+        int page;
+        int size;
+        try {
+            page = parseOrDefault(request.getParameter("page"), 0);
+            size = parseOrDefault(request.getParameter("size"), pageSize);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (size != pageSize || page < 0) {
+            return Optional.empty();
+        }
+        String categoryName = request.getParameter("categoryName");
+        if (categoryName == null || categoryName.isBlank()) {
+            return resolve(ALL_LIST_DIR + "/" + page + JSON_SUFFIX);
+        }
+        Long categoryId = categoryIds().get(categoryName.trim());
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        return resolve(CATEGORY_LIST_DIR + "/" + categoryId + "/" + page + JSON_SUFFIX);
+    }
+
+    /**
+     * primary 에서 한 트랜잭션으로 목록·카테고리 파일을 써서 같은 시점을 보게 한다 (레플리카 지연 회피).
+     * 게시글 파일은 묶음마다 새 트랜잭션으로 읽어 영속성 컨텍스트가 전체 게시글만큼 커지지 않게 한다.
+     * 그 사이 바뀐 게시글은 변경 이벤트로 다음 주기에 다시 쓴다.
+     */
+    private void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        Set<Path> written = new HashSet<>();
+        int[] changed = {0};
+        Map<Long, Long> posts = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CategoryDto> categories = categoryService.findAllCategories();
+            changed[0] += writeCategories(categories, written);
+            changed[0] += writeList(null, Path.of(ALL_LIST_DIR), written,
+                    summary -> posts.put(summary.id(), categoryKey(summary.categoryId())));
+            for (CategoryDto category : categories) {
+                changed[0] += writeList(category.getName(), categoryListDir(category.getId()), written, summary -> { });
+            }
+        });
+        forEachInChunks(posts.keySet(), postId -> {
+            PostResponseDto post = findPublished(postId);
+            if (post != null && write(postPath(postId), toJson(postMapper.toResponse(post)), written)) {
+                changed[0]++;
+            }
+        });
+        int deleted = deleteUnwritten(written);
+        publishedPosts.clear();
+        publishedPosts.putAll(posts);
+        log.info("정적 스냅샷 전체 생성 완료 - 게시글: {}건, 변경: {}개, 삭제: {}개, {}ms",
+                posts.size(), changed[0], deleted, System.currentTimeMillis() - startedAt);
+    }
+
+    private void rebuildPosts(Set<Long> postIds, Set<Long> changedCategories) {
+        int[] changed = {0};
+        Set<Long> affectedCategories = new HashSet<>(changedCategories);
+        forEachInChunks(postIds, postId -> {
+            Long previousCategory = publishedPosts.remove(postId);
+            if (previousCategory != null) {
+                affectedCategories.add(previousCategory);
+            }
+            PostResponseDto post = findPublished(postId);
+            if (post == null) {
+                changed[0] += delete(postPath(postId));
+                return;
+            }
+            long categoryId = categoryKey(post.getCategory() != null ? post.getCategory().getId() : null);
+            publishedPosts.put(postId, categoryId);
+            affectedCategories.add(categoryId);
+            if (write(postPath(postId), toJson(postMapper.toResponse(post)), new HashSet<>())) {
+                changed[0]++;
+            }
+        });
+
+        // 목록은 바뀐 게시글이 있던/있는 곳만 - 발행 여부와 카테고리별 글 수도 함께 바뀐다
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CategoryDto> categories = categoryService.findAllCategories();
+            changed[0] += writeCategories(categories, new HashSet<>());
+            changed[0] += rewriteList(null, Path.of(ALL_LIST_DIR));
+            Set<Long> removedCategories = new HashSet<>(affectedCategories);
+            for (CategoryDto category : categories) {
+                removedCategories.remove(category.getId());
+                if (affectedCategories.contains(category.getId())) {
+                    changed[0] += rewriteList(category.getName(), categoryListDir(category.getId()));
+                }
+            }
+            // 지워진 카테고리의 목록
+            for (Long categoryId : removedCategories) {
+                changed[0] += deleteList(categoryListDir(categoryId));
+            }
+        });
+        log.debug("정적 스냅샷 갱신 - 게시글: {}건, 변경 파일: {}개", postIds.size(), changed[0]);
+    }
+
+    private void forEachInChunks(Collection<Long> postIds, Consumer<Long> action) {
+        List<Long> ids = List.copyOf(postIds);
+        for (int from = 0; from < ids.size(); from += POST_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + POST_CHUNK_SIZE, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(action));
+        }
+    }
+
+    private PostResponseDto findPublished(Long postId) {
+        try {
+            PostResponseDto post = postService.getPostById(postId);
+            return post.isPublished() ? post : null;
+        } catch (PostNotFoundException e) {
+            return null;
+        }
+    }
+
+    private int writeCategories(List<CategoryDto> categories, Set<Path> written) {
+        Map<String, Long> ids = new HashMap<>();
+        categories.forEach(category -> ids.put(category.getName(), category.getId()));
+        categoryIds = Map.copyOf(ids);
+        return write(Path.of(CATEGORIES_FILE), toJson(categoryMapper.toResponseList(categories, false)), written) ? 1 : 0;
+    }
+
+    // 목록 페이지를 다시 쓰고 줄어든 만큼 뒤쪽 페이지 파일을 지운다
+    private int rewriteList(String categoryName, Path dir) {
+        Set<Path> written = new HashSet<>();
+        int changed = writeList(categoryName, dir, written, summary -> { });
+        try (Stream<Path> files = Files.list(outputDir.resolve(dir))) {
+            for (Path file : files.toList()) {
+                if (!written.contains(outputDir.relativize(file))) {
+                    changed += delete(outputDir.relativize(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return changed;
+    }
+
+    private int writeList(String categoryName, Path dir, Set<Path> written, Consumer<PostSummaryProjection> visitor) {
+        int changed = 0;
+        int page = 0;
+        Page<PostSummaryProjection> result;
+        do {
+            result = postService.getPostSummaryPage(categoryName, PageRequest.of(page, pageSize), false);
+            result.forEach(visitor);
+            // 빈 목록도 0 페이지는 쓴다 - 프런트엔드는 항상 첫 페이지를 읽는다
+            if (write(dir.resolve(page + JSON_SUFFIX), postListJsonWriter.toBytes(result), written)) {
+                changed++;
+            }
+            page++;
+        } while (result.hasNext());
+        return changed;
+    }
+
+    /**
+     * 내용이 다를 때만 임시 파일에 쓴 뒤 원자적으로 교체한다.
+     * 교체 전 파일을 열고 있던 전송(sendfile 등)은 이전 내용을 끝까지 보낸다.
+     */
+    private boolean write(Path relativePath, byte[] content, Set<Path> written) {
+        written.add(relativePath);
+        Path target = outputDir.resolve(relativePath);
+        try {
+            if (Files.isRegularFile(target) && Files.size(target) == content.length
+                    && Arrays.equals(Files.readAllBytes(target), content)) {
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".snapshot-", ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int delete(Path relativePath) {
+        try {
+            return Files.deleteIfExists(outputDir.resolve(relativePath)) ? 1 : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int deleteList(Path dir) {
+        Path target = outputDir.resolve(dir);
+        if (!Files.isDirectory(target)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(target)) {
+            for (Path file : files.toList()) {
+                deleted += delete(outputDir.relativize(file));
+            }
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deleted;
+    }
+
+    // 전체 생성에서 쓰지 않은 JSON 파일(삭제·비공개된 게시글, 사라진 카테고리)과 빈 디렉터리를 지운다
+    private int deleteUnwritten(Set<Path> written) {
+        if (!Files.isDirectory(outputDir)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                if (path.equals(outputDir)) {
+                    continue;
+                }
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> children = Files.list(path)) {
+                        if (children.findAny().isEmpty()) {
+                            Files.delete(path);
+                        }
+                    }
+                } else if (path.toString().endsWith(JSON_SUFFIX) && !written.contains(outputDir.relativize(path))) {
+                    Files.delete(path);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deleted;
+    }
+
+    // 기동 직후 DB 없이 폴백할 때는 이전에 쓴 categories.json 에서 이름 → ID 를 읽는다
+    private Map<String, Long> categoryIds() {
+        if (!categoryIds.isEmpty()) {
+            return categoryIds;
+        }
+        Path file = outputDir.resolve(CATEGORIES_FILE);
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try {
+            List<Map<String, Object>> categories = objectMapper.readValue(file.toFile(), new TypeReference<>() {
+            });
+            Map<String, Long> ids = new HashMap<>();
+            categories.forEach(category -> ids.put(String.valueOf(category.get("name")),
+                    ((Number) category.get("id")).longValue()));
+            return ids;
+        } catch (IOException e) {
+            log.warn("스냅샷 카테고리 목록을 읽지 못했습니다 - {}", file, e);
+            return Map.of();
+        }
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : pending) {
+            pending.remove(id);
+            drained.add(id);
+        }
+        return drained;
+    }
+
+    private static Path postPath(Long postId) {
+        return Path.of(POSTS_DIR, postId + JSON_SUFFIX);
+    }
+
+    private static Path categoryListDir(Long categoryId) {
+        return Path.of(CATEGORY_LIST_DIR, String.valueOf(categoryId));
+    }
+
+    private static long categoryKey(Long categoryId) {
+        return categoryId != null ? categoryId : NO_CATEGORY;
+    }
+
+    private static int parseOrDefault(String value, int defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,97 @@
+package com.blog.api.cache;
+
+import com.blog.board.event.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostListResponseCache 단위 테스트")
+class PostListResponseCacheTest {
+
+    private PostListResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostListResponseCache(DataSize.ofKilobytes(4), DataSize.ofKilobytes(2));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 로더를 다시 호출하지 않음")
+    void getOrLoad_HitOnSameVersion() throws Exception {
+        // when
+        CachedResponse first = cache.getOrLoad("개발 일지", PageRequest.of(0, 10), 1L, "\"e1\"", this::load);
+        CachedResponse second = cache.getOrLoad(" 개발 일지 ", PageRequest.of(0, 10), 1L, "\"e1\"", this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.getBody());
+        }
+    }
+
+    @Test
+    @DisplayName("콘텐츠 버전이 바뀌면 이전 항목을 쓰지 않음")
+    void getOrLoad_MissOnNewVersion() {
+        // when
+        cache.getOrLoad(null, PageRequest.of(0, 10), 1L, "\"e1\"", this::load);
+        CachedResponse reloaded = cache.getOrLoad("all", PageRequest.of(0, 10), 2L, "\"e2\"", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(reloaded.getEtag()).isEqualTo("\"e2\"");
+    }
+
+    @Test
+    @DisplayName("전체 크기를 넘으면 오래된 항목부터 제거")
+    void put_EvictsByBytes() {
+        // when
+        for (int page = 0; page < 20; page++) {
+            cache.getOrLoad(null, PageRequest.of(page, 10), 1L, "\"e\"", () -> "x".repeat(500).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // then
+        assertThat(cache.sizeInBytes()).isLessThanOrEqualTo(DataSize.ofKilobytes(4).toBytes());
+        assertThat(cache.size()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트로 전체 비움")
+    void onPostChanged_Clears() {
+        // given
+        cache.getOrLoad(null, PageRequest.of(0, 10), 1L, "\"e1\"", this::load);
+
+        // when
+        cache.onPostChanged(PostChangedEvent.of(PostChangedEvent.ChangeType.UPDATED, 1L));
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.sizeInBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("정렬이 지정된 요청은 캐시 대상이 아님")
+    void isCacheable_OnlyDefaultSort() {
+        assertThat(cache.isCacheable(PageRequest.of(0, 10))).isTrue();
+        assertThat(cache.isCacheable(PageRequest.of(0, 10, Sort.by("title")))).isFalse();
+    }
+
+    private byte[] load() {
+        loads.incrementAndGet();
+        return "{\"content\":[\"게시글\"]}".getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,288 @@
+package com.blog.api.controller;
+
+import com.blog.api.cache.PostListResponseCache;
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PageMapper;
+import com.blog.api.mapper.PostListJsonWriter;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.validation.AdminValidation;
+import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostVersionProjection;
+import com.blog.board.service.ContentVersion;
+import com.blog.board.service.PostSearchService;
+import com.blog.board.service.PostService;
+import com.blog.board.service.PostTrendingService;
+import com.blog.board.service.PostViewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PostController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({PostMapper.class, PageMapper.class, CategoryMapper.class, PostListResponseCache.class,
+        PostListJsonWriter.class})
+@DisplayName("PostController 조건부 GET / 응답 캐시 테스트")
+class PostControllerConditionalGetTest {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostListResponseCache postListResponseCache;
+
+    @MockitoBean
+    private ContentVersion contentVersion;
+
+    @MockitoBean
+    private PostService postService;
+
+    @MockitoBean
+    private PostSearchService postSearchService;
+
+    @MockitoBean
+    private AdminValidation adminValidation;
+
+    @MockitoBean
+    private PostViewService postViewService;
+
+    @MockitoBean
+    private PostTrendingService postTrendingService;
+
+    @BeforeEach
+    void setUp() {
+        postListResponseCache.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - 같은 ETag 로 재요청하면 본문을 읽지 않고 304")
+    void getPost_NotModified() throws Exception {
+        // given
+        given(postService.findPostVersion(1L)).willReturn(Optional.of(new PostVersionProjection(1L, MODIFIED, "개발 일지")));
+        given(postService.getPostById(1L)).willReturn(PostResponseDto.builder().id(1L).title("제목").build());
+
+        String etag = mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(postService, times(1)).getPostById(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - 수정된 게시글은 새 ETag 로 200")
+    void getPost_ModifiedAfterEtag() throws Exception {
+        // given
+        given(postService.findPostVersion(1L)).willReturn(
+                Optional.of(new PostVersionProjection(1L, MODIFIED, "개발 일지")),
+                Optional.of(new PostVersionProjection(1L, MODIFIED.plusMinutes(1), "개발 일지")));
+        given(postService.getPostById(1L)).willReturn(PostResponseDto.builder().id(1L).title("제목").build());
+
+        String etag = mockMvc.perform(get("/api/posts/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        String newEtag = mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - If-Modified-Since 가 수정 시각 이후면 304")
+    void getPost_NotModifiedSince() throws Exception {
+        // given
+        given(postService.findPostVersion(1L)).willReturn(Optional.of(new PostVersionProjection(1L, MODIFIED, "개발 일지")));
+        given(postService.getPostById(1L)).willReturn(PostResponseDto.builder().id(1L).title("제목").build());
+
+        String lastModified = mockMvc.perform(get("/api/posts/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // when & then
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("게시글 조회 후 조건부 재요청 - 304 여도 조회수는 별도 응답에서 늘어난 값으로 보임")
+    void getPost_ThenConditionalGet_ViewCountNotFrozen() throws Exception {
+        // given
+        given(postService.findPostVersion(1L)).willReturn(Optional.of(new PostVersionProjection(1L, MODIFIED, "개발 일지")));
+        given(postService.getPostById(1L)).willReturn(PostResponseDto.builder().id(1L).title("제목").build());
+        given(postService.getViewCount(1L)).willReturn(1L, 2L);
+
+        String etag = mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/posts/1/views"))
+                .andExpect(jsonPath("$.viewCount").value(1));
+
+        // when
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // then
+        mockMvc.perform(get("/api/posts/1/views"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.viewCount").value(2));
+        verify(postViewService, times(2)).record(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 콘텐츠 버전이 같으면 목록 쿼리 없이 304")
+    void getPosts_NotModified() throws Exception {
+        // given
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(false)))
+                .willReturn(Page.empty());
+
+        String etag = mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(postService, times(1)).getPostSummaryPage(any(), any(Pageable.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 게시글 변경 후에는 이전 ETag 로 200")
+    void getPosts_ModifiedAfterPostChange() throws Exception {
+        // given
+        given(contentVersion.current()).willReturn(1L, 2L);
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(false)))
+                .willReturn(Page.empty());
+
+        String etag = mockMvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        String newEtag = mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 관리자와 일반 사용자는 ETag 가 다름")
+    void getPosts_AdminEtagDiffers() throws Exception {
+        // given
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), anyBoolean()))
+                .willReturn(Page.empty());
+
+        String publicEtag = mockMvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        given(adminValidation.isAdminUser(any())).willReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, publicEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 비로그인 재요청은 캐시된 JSON 으로 응답")
+    void getPosts_AnonymousServedFromCache() throws Exception {
+        // given
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(false)))
+                .willReturn(Page.empty());
+
+        String first = mockMvc.perform(get("/api/posts").param("categoryName", "캐시"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // when & then
+        mockMvc.perform(get("/api/posts").param("categoryName", "캐시"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().json(first));
+        verify(postService, times(1)).getPostSummaryPage(eq("캐시"), any(Pageable.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - gzip 을 허용하면 압축본으로 응답하고 ETag 도 원본과 구분")
+    void getPosts_GzipVariant() throws Exception {
+        // given
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(false)))
+                .willReturn(Page.empty());
+        String identityEtag = mockMvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        String gzipEtag = mockMvc.perform(get("/api/posts").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(gzipEtag).isNotEqualTo(identityEtag).endsWith("-gzip\"");
+
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+        // 압축본의 ETag 로 원본을 재검증하면 원본을 새로 받는다
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - gzip 의 q 값이 0 이면 원본으로 응답")
+    void getPosts_GzipRefusedByQuality() throws Exception {
+        // given
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(false)))
+                .willReturn(Page.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip; q=0.0, *;q=1"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.ACCEPT_ENCODING, "br, *;q=0.5"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 관리자 요청은 캐시를 우회")
+    void getPosts_AdminBypassesCache() throws Exception {
+        // given
+        given(adminValidation.isAdminUser(any())).willReturn(true);
+        given(postService.getPostSummaryPage(any(), any(Pageable.class), eq(true)))
+                .willReturn(Page.empty());
+
+        // when
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+        // then
+        verify(postService, times(2)).getPostSummaryPage(any(), any(Pageable.class), eq(true));
+    }
+}
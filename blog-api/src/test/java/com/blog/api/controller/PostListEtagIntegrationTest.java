@@ -0,0 +1,122 @@
+package com.blog.api.controller;
+
+import com.blog.board.dto.PostRequestDto;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.ContentVersionCounterRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRenderRepository;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.service.ContentVersion;
+import com.blog.board.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 목록 ETag 가 DB 의 콘텐츠 버전에서 나오는지 실제 커밋을 거쳐 확인한다
+@SpringBootTest(properties = "blog.search.index-path=build/tmp/post-list-etag-test/posts.idx")
+@AutoConfigureMockMvc
+@DisplayName("게시글 목록 ETag 통합 테스트")
+class PostListEtagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private PostService postService;
+
+    @Autowired
+    private ContentVersion contentVersion;
+
+    @Autowired
+    private ContentVersionCounterRepository contentVersionCounterRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostRenderRepository postRenderRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            postRenderRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            contentVersionCounterRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("변경 없으면 목록 쿼리 없이 304, 게시글 수정이 커밋되면 새 ETag 로 200")
+    void getPosts_EtagFollowsCommittedVersion() throws Exception {
+        // given
+        Long postId = postService.createPost(request("첫 글")).getId();
+        String etag = mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then - 변경 없음
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(postService, times(1)).getPostSummaryPage(any(), any(Pageable.class), anyBoolean());
+
+        // when & then - 수정 커밋 후
+        long before = contentVersion.current();
+        postService.updatePost(postId, request("고친 글"));
+        String newEtag = mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("고친 글")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+        assertThat(contentVersion.current()).isGreaterThan(before);
+        verify(postService, times(2)).getPostSummaryPage(any(), any(Pageable.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스나 재시작한 인스턴스도 같은 버전을 봄")
+    void current_SharedThroughDatabase() {
+        // given
+        postService.createPost(request("첫 글"));
+
+        // when - 메모리 상태 없이 새로 만든 인스턴스
+        ContentVersion otherNode = new ContentVersion(contentVersionCounterRepository, transactionManager);
+
+        // then
+        assertThat(otherNode.current()).isEqualTo(contentVersion.current()).isPositive();
+    }
+
+    private static PostRequestDto request(String title) {
+        return PostRequestDto.builder()
+                .title(title)
+                .content("본문")
+                .published(true)
+                .categoryName("개발")
+                .build();
+    }
+}
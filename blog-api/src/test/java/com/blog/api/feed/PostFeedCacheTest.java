@@ -0,0 +1,119 @@
+package com.blog.api.feed;
+
+import com.blog.api.cache.CachedResponse;
+import com.blog.board.dto.PostSitemapEntry;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.service.PostFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostFeedCache 단위 테스트")
+class PostFeedCacheTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    @Mock
+    private PostFeedService postFeedService;
+
+    private PostFeedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        FeedXmlWriter writer = new FeedXmlWriter("https://blog.example", "https://blog.example/posts/{postId}",
+                "https://api.example", "블로그", "");
+        cache = new PostFeedCache(postFeedService, writer, 20, 2);
+    }
+
+    @Test
+    @DisplayName("피드 - 발행 글을 RSS 로 만들고, 변경된 게시글이 보이는 피드만 다시 만듦")
+    void getFeed_EvictsAffectedFeedsOnly() {
+        // given
+        when(postFeedService.resolveCategory("개발")).thenReturn(Optional.of(1L));
+        when(postFeedService.resolveCategory("일상")).thenReturn(Optional.of(2L));
+        when(postFeedService.findRecent(null, 20)).thenReturn(List.of(summary(10L, 1L, "개발"), summary(20L, 2L, "일상")));
+        when(postFeedService.findRecent(1L, 20)).thenReturn(List.of(summary(10L, 1L, "개발")));
+        when(postFeedService.findRecent(2L, 20)).thenReturn(List.of(summary(20L, 2L, "일상")));
+        CachedResponse all = cache.getFeed(null).orElseThrow();
+        CachedResponse dev = cache.getFeed("개발").orElseThrow();
+        CachedResponse life = cache.getFeed("일상").orElseThrow();
+
+        // when - 개발 카테고리 글 수정
+        when(postFeedService.findSitemapEntries(List.of(10L))).thenReturn(List.of(new PostSitemapEntry(10L, 1L, CREATED)));
+        cache.onPostChanged(PostChangedEvent.of(PostChangedEvent.ChangeType.UPDATED, 10L));
+
+        // then
+        String xml = new String(all.getBody(), StandardCharsets.UTF_8);
+        assertThat(xml).contains("<link>https://blog.example/posts/10</link>", "<category>개발</category>",
+                "href=\"https://api.example/feed.xml\"");
+        assertThat(cache.getFeed("일상").orElseThrow()).isSameAs(life);
+        assertThat(cache.getFeed("개발").orElseThrow()).isNotSameAs(dev);
+        assertThat(cache.getFeed(null).orElseThrow()).isNotSameAs(all);
+        verify(postFeedService, times(1)).findRecent(2L, 20);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 - 그 카테고리와 전체 피드만 버리고, 없는 카테고리는 빈 값")
+    void onCategoryChanged_EvictsCategoryFeed() {
+        // given
+        when(postFeedService.resolveCategory("개발")).thenReturn(Optional.of(1L));
+        when(postFeedService.resolveCategory("일상")).thenReturn(Optional.of(2L));
+        when(postFeedService.resolveCategory("없음")).thenReturn(Optional.empty());
+        when(postFeedService.findRecent(anyLong(), eq(20))).thenReturn(List.of());
+        CachedResponse dev = cache.getFeed("개발").orElseThrow();
+        CachedResponse life = cache.getFeed("일상").orElseThrow();
+
+        // when
+        cache.onCategoryChanged(new CategoryChangedEvent(1L));
+
+        // then
+        assertThat(cache.getFeed("개발").orElseThrow()).isNotSameAs(dev);
+        assertThat(cache.getFeed("일상").orElseThrow()).isSameAs(life);
+        assertThat(cache.getFeed("없음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사이트맵 - 페이지 크기를 넘으면 인덱스로 나누고, 새 글은 마지막 페이지만 다시 만듦")
+    void getSitemap_SplitsIntoIndex() {
+        // given
+        when(postFeedService.findSitemapEntriesAfter(0L, 1000)).thenReturn(List.of(
+                new PostSitemapEntry(1L, null, CREATED),
+                new PostSitemapEntry(2L, null, CREATED),
+                new PostSitemapEntry(3L, null, CREATED)));
+        String index = new String(cache.getSitemap().getBody(), StandardCharsets.UTF_8);
+        CachedResponse first = cache.getSitemapPage(1).orElseThrow();
+        CachedResponse second = cache.getSitemapPage(2).orElseThrow();
+
+        // when
+        when(postFeedService.findSitemapEntries(List.of(4L))).thenReturn(List.of(new PostSitemapEntry(4L, null, CREATED)));
+        cache.onPostChanged(PostChangedEvent.of(PostChangedEvent.ChangeType.CREATED, 4L));
+
+        // then
+        assertThat(index).contains("<sitemapindex", "<loc>https://api.example/sitemap-2.xml</loc>");
+        assertThat(cache.getSitemapPage(3)).isEmpty();
+        assertThat(cache.getSitemapPage(1).orElseThrow()).isSameAs(first);
+        CachedResponse updated = cache.getSitemapPage(2).orElseThrow();
+        assertThat(updated).isNotSameAs(second);
+        assertThat(new String(updated.getBody(), StandardCharsets.UTF_8))
+                .contains("<loc>https://blog.example/posts/4</loc>");
+    }
+
+    private PostSummaryProjection summary(Long postId, Long categoryId, String categoryName) {
+        return new PostSummaryProjection(postId, "글 " + postId, "요약", true, categoryId, categoryName, CREATED);
+    }
+}
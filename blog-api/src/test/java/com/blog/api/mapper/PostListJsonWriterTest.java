@@ -0,0 +1,81 @@
+package com.blog.api.mapper;
+
+import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostListJsonWriter 단위 테스트")
+class PostListJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+    private PostListJsonWriter writer;
+    private PostMapper postMapper;
+    private PageMapper pageMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Spring Boot 기본 ObjectMapper 설정과 같게 만든다
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = new PostListJsonWriter(objectMapper);
+        postMapper = new PostMapper(new CategoryMapper());
+        pageMapper = new PageMapper();
+    }
+
+    @Test
+    @DisplayName("PageResponse<PostSummaryResponse> 직렬화 결과와 바이트 단위로 같음")
+    void toBytes_SameAsObjectMapper() throws Exception {
+        // given
+        Page<PostSummaryProjection> page = new PageImpl<>(List.of(
+                new PostSummaryProjection(361_510_010_564_583L, "스프링 \"부트\" 3.4", "본문\n<b>요약</b> \\ \u0001 😀",
+                        true, 3L, "개발 일지", LocalDateTime.of(2025, 1, 1, 9, 0)),
+                new PostSummaryProjection(361_510_010_564_584L, "카테고리 없음", null,
+                        false, null, null, LocalDateTime.of(2025, 1, 2, 9, 30, 15, 120_000_000)),
+                new PostSummaryProjection(361_510_010_564_585L, "나노초", "",
+                        true, 4L, "기록", LocalDateTime.of(2025, 1, 3, 0, 0, 0, 123_456_789))
+        ), PageRequest.of(1, 3), 10);
+
+        // when
+        byte[] streamed = writer.toBytes(page);
+
+        // then
+        assertThat(new String(streamed, StandardCharsets.UTF_8))
+                .isEqualTo(new String(viaResponseObjects(page), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("빈 페이지와 마지막 페이지의 페이지 정보도 같음")
+    void toBytes_PageMetadata() throws Exception {
+        // given - 카운터가 실제보다 작아도 PageImpl 이 전체 건수를 보정한다
+        Page<PostSummaryProjection> lastPage = new PageImpl<>(List.of(
+                new PostSummaryProjection(1L, "제목", "요약", true, 1L, "개발", LocalDateTime.of(2025, 1, 1, 9, 0))
+        ), PageRequest.of(2, 10), 5);
+        Page<PostSummaryProjection> emptyPage = Page.empty(PageRequest.of(0, 10));
+
+        // when & then
+        assertThat(writer.toBytes(lastPage)).isEqualTo(viaResponseObjects(lastPage));
+        assertThat(writer.toBytes(emptyPage)).isEqualTo(viaResponseObjects(emptyPage));
+    }
+
+    // 기존 경로: 프로젝션 → PostSimpleResponseDto → PostSummaryResponse → PageResponse → ObjectMapper
+    private byte[] viaResponseObjects(Page<PostSummaryProjection> page) throws Exception {
+        PageResponseDto<PostSimpleResponseDto> dto = new PageResponseDto<>(page.map(PostSimpleResponseDto::fromProjection));
+        return objectMapper.writeValueAsBytes(pageMapper.toResponse(dto, postMapper.toSummaryResponseList(dto.getContent())));
+    }
+}
@@ -0,0 +1,37 @@
+package com.blog.api.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VirtualThreadPinningMonitor 단위 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("JDK 내부 프레임을 건너뛰고 우리 코드/JDBC 프레임을 원인 위치로 선택")
+    void pinnedSite_SkipsJdkFrames() {
+        // given
+        List<String> methods = List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "java.util.concurrent.locks.LockSupport.park",
+                "com.mysql.cj.protocol.a.NativeProtocol.readMessage",
+                "com.blog.board.service.PostService.getPost");
+
+        // when
+        String site = VirtualThreadPinningMonitor.pinnedSite(methods);
+
+        // then
+        assertThat(site).isEqualTo("com.mysql.cj.protocol.a.NativeProtocol.readMessage");
+    }
+
+    @Test
+    @DisplayName("해당 패키지 프레임이 없으면 가장 위 프레임")
+    void pinnedSite_FallsBackToTopFrame() {
+        assertThat(VirtualThreadPinningMonitor.pinnedSite(List.of("java.lang.Object.wait0", "java.lang.Object.wait")))
+                .isEqualTo("java.lang.Object.wait0");
+        assertThat(VirtualThreadPinningMonitor.pinnedSite(List.of())).isEqualTo("unknown");
+    }
+}
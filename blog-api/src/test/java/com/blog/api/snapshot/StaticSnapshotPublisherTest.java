@@ -0,0 +1,201 @@
+package com.blog.api.snapshot;
+
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PostListJsonWriter;
+import com.blog.api.mapper.PostMapper;
+import com.blog.board.dto.CategoryDto;
+import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.exception.PostNotFoundException;
+import com.blog.board.service.CategoryService;
+import com.blog.board.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaticSnapshotPublisher 단위 테스트")
+class StaticSnapshotPublisherTest {
+
+    private static final FileTime UNTOUCHED = FileTime.fromMillis(0);
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @TempDir
+    Path outputDir;
+
+    private StaticSnapshotPublisher publisher;
+    private final List<PostResponseDto> posts = new ArrayList<>();
+    private final CategoryDto dev = CategoryDto.builder().id(1L).name("개발").build();
+    private final CategoryDto life = CategoryDto.builder().id(2L).name("일상").build();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        CategoryMapper categoryMapper = new CategoryMapper();
+        publisher = new StaticSnapshotPublisher(postService, categoryService, new PostMapper(categoryMapper),
+                categoryMapper, new PostListJsonWriter(objectMapper), objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SyncTaskExecutor(),
+                outputDir.toString(), 2);
+
+        lenient().when(categoryService.findAllCategories()).thenReturn(List.of(dev, life));
+        lenient().when(postService.getPostById(anyLong())).thenAnswer(invocation -> posts.stream()
+                .filter(post -> post.getId().equals(invocation.getArgument(0)))
+                .findFirst()
+                .orElseThrow(PostNotFoundException::new));
+        lenient().when(postService.getPostSummaryPage(any(), any(), eq(false))).thenAnswer(invocation -> {
+            String categoryName = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            List<PostSummaryProjection> matched = posts.stream()
+                    .filter(PostResponseDto::isPublished)
+                    .filter(post -> categoryName == null || post.getCategory().getName().equals(categoryName))
+                    .sorted(Comparator.comparing(PostResponseDto::getCreatedDate).reversed())
+                    .map(post -> new PostSummaryProjection(post.getId(), post.getTitle(), "요약", true,
+                            post.getCategory().getId(), post.getCategory().getName(), post.getCreatedDate()))
+                    .toList();
+            int from = (int) Math.min(pageable.getOffset(), matched.size());
+            int to = Math.min(from + pageable.getPageSize(), matched.size());
+            return new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+        });
+    }
+
+    @Test
+    @DisplayName("전체 생성 - 발행된 게시글과 고정 크기 목록 페이지, 카테고리 목록을 파일로 씀")
+    void publishPending_WritesAllFiles() throws Exception {
+        // given
+        post(1L, dev, true);
+        post(2L, dev, true);
+        post(3L, dev, true);
+        post(4L, life, false);
+
+        // when
+        publisher.publishPending();
+
+        // then
+        assertThat(outputDir.resolve("posts/1.json")).exists();
+        assertThat(outputDir.resolve("posts/4.json")).doesNotExist();
+        assertThat(outputDir.resolve("lists/all/1.json")).exists();
+        assertThat(outputDir.resolve("lists/all/2.json")).doesNotExist();
+        assertThat(outputDir.resolve("lists/categories/1/1.json")).exists();
+        assertThat(outputDir.resolve("lists/categories/2/0.json")).exists();
+        assertThat(Files.readString(outputDir.resolve("categories.json"))).contains("\"name\":\"일상\"");
+    }
+
+    @Test
+    @DisplayName("게시글 변경 - 그 게시글과 영향받는 목록만 다시 쓰고 남는 페이지는 지움")
+    void publishPending_RewritesAffectedFilesOnly() throws Exception {
+        // given
+        post(1L, dev, true);
+        post(2L, dev, true);
+        post(3L, life, true);
+        publisher.publishPending();
+        Path devList = outputDir.resolve("lists/categories/1/0.json");
+        Files.setLastModifiedTime(devList, UNTOUCHED);
+        Files.setLastModifiedTime(outputDir.resolve("posts/1.json"), UNTOUCHED);
+        clearInvocations(postService);
+
+        // when
+        posts.removeIf(post -> post.getId() == 3L);
+        post(3L, life, false);
+        publisher.onPostChanged(PostChangedEvent.of(PostChangedEvent.ChangeType.UPDATED, 3L));
+        publisher.publishPending();
+
+        // then
+        assertThat(outputDir.resolve("posts/3.json")).doesNotExist();
+        assertThat(outputDir.resolve("lists/all/1.json")).doesNotExist();
+        assertThat(Files.readString(outputDir.resolve("lists/categories/2/0.json"))).contains("\"content\":[]");
+        assertThat(Files.getLastModifiedTime(devList)).isEqualTo(UNTOUCHED);
+        assertThat(Files.getLastModifiedTime(outputDir.resolve("posts/1.json"))).isEqualTo(UNTOUCHED);
+        verify(postService, never()).getPostById(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 - 전체를 다시 만들지 않고 그 카테고리의 게시글과 목록만 다시 씀")
+    void onCategoryChanged_RewritesCategoryPostsOnly() throws Exception {
+        // given
+        post(1L, dev, true);
+        post(2L, life, true);
+        publisher.publishPending();
+        clearInvocations(postService);
+
+        // when - 이름이 바뀐 카테고리
+        CategoryDto renamed = CategoryDto.builder().id(1L).name("개발노트").build();
+        when(categoryService.findAllCategories()).thenReturn(List.of(renamed, life));
+        posts.removeIf(post -> post.getId() == 1L);
+        post(1L, renamed, true);
+        publisher.onCategoryChanged(new CategoryChangedEvent(1L));
+
+        // then
+        assertThat(Files.readString(outputDir.resolve("posts/1.json"))).contains("개발노트");
+        assertThat(Files.readString(outputDir.resolve("lists/categories/1/0.json"))).contains("개발노트");
+        verify(postService, never()).getPostById(2L);
+        verify(postService, never()).getPostSummaryPage(eq("일상"), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("DB 장애 대체 응답 - 같은 응답을 가진 요청만 파일로 매핑")
+    void resolveFallback() {
+        // given
+        post(1L, dev, true);
+        publisher.publishPending();
+
+        // when & then
+        assertThat(publisher.resolveFallback(get("/api/posts/1"))).contains(outputDir.resolve("posts/1.json"));
+        assertThat(publisher.resolveFallback(get("/api/categories"))).contains(outputDir.resolve("categories.json"));
+        MockHttpServletRequest byCategory = get("/api/posts");
+        byCategory.setParameter("categoryName", "개발");
+        assertThat(publisher.resolveFallback(byCategory)).contains(outputDir.resolve("lists/categories/1/0.json"));
+        MockHttpServletRequest otherSize = get("/api/posts");
+        otherSize.setParameter("size", "20");
+        assertThat(publisher.resolveFallback(otherSize)).isEmpty();
+        assertThat(publisher.resolve("../categories.json")).isEmpty();
+    }
+
+    private void post(Long id, CategoryDto category, boolean published) {
+        posts.add(PostResponseDto.builder()
+                .id(id)
+                .title("글 " + id)
+                .content("본문")
+                .published(published)
+                .category(category)
+                .createdDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id))
+                .build());
+    }
+
+    private MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,78 @@
+package com.blog.bench;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.dto.TocEntryDto;
+import com.blog.board.fixture.SampleWords;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 고정 데이터. 실제 게시글과 비슷한 길이의 한글/영문 혼합 본문을 시드 고정 난수로 만든다.
+ */
+public final class BenchFixtures {
+
+    public static final int PAGE_SIZE = 20;
+
+    private BenchFixtures() {
+    }
+
+    public static String text(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(SampleWords.next(random));
+            builder.append(random.nextInt(12) == 0 ? ".\n\n" : " ");
+        }
+        return builder.substring(0, length);
+    }
+
+    // 목록 한 페이지 - excerpt 는 PostExcerpt 최대 길이에 맞춘다
+    public static List<PostSummaryProjection> summaries(int count) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<PostSummaryProjection> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            summaries.add(new PostSummaryProjection(
+                    361_510_010_564_583L + i,
+                    text(random, 30),
+                    text(random, 300),
+                    true,
+                    (long) (i % 5 + 1),
+                    "카테고리 " + (i % 5 + 1),
+                    base.plusHours(i)));
+        }
+        return summaries;
+    }
+
+    // 상세 - 본문 약 8천 자
+    public static Post post() {
+        Random random = new Random(7);
+        return Post.builder()
+                .postId(361_510_010_564_583L)
+                .title(text(random, 30))
+                .content(text(random, 8_000))
+                .published(true)
+                .category(Category.builder().categoryId(1L).categoryName("개발 일지").build())
+                .build();
+    }
+
+    public static PostRenderDto render(Post post) {
+        Random random = new Random(11);
+        List<TocEntryDto> toc = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            toc.add(TocEntryDto.builder().level(i % 3 + 1).anchor("section-" + i).text(text(random, 20)).build());
+        }
+        return PostRenderDto.builder()
+                .contentHash("0".repeat(64))
+                .html("<p>" + post.getContent().replace("\n\n", "</p>\n<p>") + "</p>")
+                .toc(toc)
+                .wordCount(1_500)
+                .readingMinutes(6)
+                .build();
+    }
+}
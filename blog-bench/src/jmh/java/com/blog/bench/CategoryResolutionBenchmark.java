@@ -0,0 +1,95 @@
+package com.blog.bench;
+
+import com.blog.board.domain.Category;
+import com.blog.board.service.CategoryFilterResolver;
+import com.blog.board.service.CategoryService;
+import com.blog.board.service.PostCounterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카테고리 이름 해석: 게시글 저장 시 findOrCreateCategory, 목록 필터의 CategoryFilterResolver.
+ * 인메모리 H2 와 운영과 같은 2차 캐시/쿼리 캐시 설정으로 띄운 최소 컨텍스트에서 측정한다.
+ */
+@State(Scope.Benchmark)
+public class CategoryResolutionBenchmark {
+
+    private static final int CATEGORY_COUNT = 50;
+    private static final int UNKNOWN_NAME_COUNT = 100;
+
+    private ConfigurableApplicationContext context;
+    private CategoryService categoryService;
+    private CategoryFilterResolver categoryFilterResolver;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+                        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+                        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+                        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:ehcache.xml",
+                        "logging.level.root=WARN")
+                .run();
+        categoryService = context.getBean(CategoryService.class);
+        categoryFilterResolver = context.getBean(CategoryFilterResolver.class);
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categoryService.createCategory(categoryName(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 게시글 작성/수정 시 기존 카테고리 이름 해석
+    @Benchmark
+    public Category findExisting() {
+        return categoryService.findOrCreateCategory(categoryName(ThreadLocalRandom.current().nextInt(CATEGORY_COUNT)));
+    }
+
+    @Benchmark
+    public Optional<Long> filterKnown() {
+        return categoryFilterResolver.resolve(categoryName(ThreadLocalRandom.current().nextInt(CATEGORY_COUNT)));
+    }
+
+    // 없는 이름은 음수 캐시에서 끝나야 한다
+    @Benchmark
+    public Optional<Long> filterUnknown() {
+        return categoryFilterResolver.resolve("없는 카테고리 " + ThreadLocalRandom.current().nextInt(UNKNOWN_NAME_COUNT));
+    }
+
+    private static String categoryName(int index) {
+        return "카테고리 " + index;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackages = "com.blog.board.domain")
+    @EnableJpaRepositories(basePackages = "com.blog.board.repository")
+    @Import({CategoryService.class, PostCounterService.class, CategoryFilterResolver.class})
+    static class BenchConfig {
+    }
+}
@@ -0,0 +1,78 @@
+package com.blog.bench;
+
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PageMapper;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.response.PageResponse;
+import com.blog.api.response.PostResponse;
+import com.blog.api.response.PostSummaryResponse;
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록/상세 응답 JSON 직렬화. ObjectMapper 는 Spring Boot 기본 설정과 같게 만든다.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PageResponse<PostSummaryResponse> listPayload;
+    private PostResponse detailPayload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        PostMapper postMapper = new PostMapper(new CategoryMapper());
+
+        List<PostSimpleResponseDto> content = BenchFixtures.summaries(BenchFixtures.PAGE_SIZE).stream()
+                .map(PostSimpleResponseDto::fromProjection)
+                .toList();
+        PageResponseDto<PostSimpleResponseDto> page = new PageResponseDto<>(
+                new PageImpl<>(content, PageRequest.of(0, BenchFixtures.PAGE_SIZE), 1_000));
+        listPayload = new PageMapper().toResponse(page, postMapper.toSummaryResponseList(page.getContent()));
+
+        // 엔티티 감사 필드는 저장 전이라 비어 있으므로 응답 DTO 에 직접 채운다
+        Post post = BenchFixtures.post();
+        PostResponseDto dto = PostResponseDto.fromEntity(post, BenchFixtures.render(post));
+        detailPayload = postMapper.toResponse(PostResponseDto.builder()
+                .id(dto.getId())
+                .title(dto.getTitle())
+                .content(dto.getContent())
+                .published(dto.isPublished())
+                .category(dto.getCategory())
+                .createdDate(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .modifiedDate(LocalDateTime.of(2025, 1, 2, 9, 0))
+                .html(dto.getHtml())
+                .toc(dto.getToc())
+                .wordCount(dto.getWordCount())
+                .readingMinutes(dto.getReadingMinutes())
+                .build());
+    }
+
+    @Benchmark
+    public byte[] listPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listPayload);
+    }
+
+    @Benchmark
+    public byte[] detail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailPayload);
+    }
+}
@@ -0,0 +1,59 @@
+package com.blog.bench;
+
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PageMapper;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.response.PageResponse;
+import com.blog.api.response.PostResponse;
+import com.blog.api.response.PostSummaryResponse;
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * 목록/상세 요청의 변환 단계: 프로젝션/엔티티 → board DTO → api 응답 객체.
+ */
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private final PostMapper postMapper = new PostMapper(new CategoryMapper());
+    private final PageMapper pageMapper = new PageMapper();
+
+    private List<PostSummaryProjection> summaries;
+    private Post post;
+    private PostRenderDto render;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchFixtures.summaries(BenchFixtures.PAGE_SIZE);
+        post = BenchFixtures.post();
+        render = BenchFixtures.render(post);
+    }
+
+    // PostService.getAllPosts 와 PostController 목록 변환 경로
+    @Benchmark
+    public PageResponse<PostSummaryResponse> listPage() {
+        List<PostSimpleResponseDto> content = summaries.stream()
+                .map(PostSimpleResponseDto::fromProjection)
+                .toList();
+        PageResponseDto<PostSimpleResponseDto> page = new PageResponseDto<>(
+                new PageImpl<>(content, PageRequest.of(0, BenchFixtures.PAGE_SIZE), 1_000));
+        return pageMapper.toResponse(page, postMapper.toSummaryResponseList(page.getContent()));
+    }
+
+    @Benchmark
+    public PostResponse detail() {
+        return postMapper.toResponse(PostResponseDto.fromEntity(post, render));
+    }
+}
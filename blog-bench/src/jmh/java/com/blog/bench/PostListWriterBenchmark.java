@@ -0,0 +1,71 @@
+package com.blog.bench;
+
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PageMapper;
+import com.blog.api.mapper.PostListJsonWriter;
+import com.blog.api.mapper.PostMapper;
+import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 목록 페이지 프로젝션 → 응답 바이트 전체 구간.
+ * 응답 객체를 거쳐 ObjectMapper 로 쓰는 기존 경로와 PostListJsonWriter 로 바로 쓰는 경로를 비교한다.
+ * 출력은 버리는 스트림으로 보내 응답 버퍼 할당은 빼고 본다.
+ */
+@State(Scope.Benchmark)
+public class PostListWriterBenchmark {
+
+    // ObjectMapper.writeValue 는 스트림을 닫으므로 닫혀도 계속 받아 주는 스트림을 쓴다
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private ObjectMapper objectMapper;
+    private PostMapper postMapper;
+    private PageMapper pageMapper;
+    private PostListJsonWriter postListJsonWriter;
+    private Page<PostSummaryProjection> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        postMapper = new PostMapper(new CategoryMapper());
+        pageMapper = new PageMapper();
+        postListJsonWriter = new PostListJsonWriter(objectMapper);
+        page = new PageImpl<>(BenchFixtures.summaries(BenchFixtures.PAGE_SIZE),
+                PageRequest.of(0, BenchFixtures.PAGE_SIZE), 1_000);
+    }
+
+    @Benchmark
+    public void responseObjects() throws IOException {
+        PageResponseDto<PostSimpleResponseDto> dto = new PageResponseDto<>(page.map(PostSimpleResponseDto::fromProjection));
+        objectMapper.writeValue(DISCARD, pageMapper.toResponse(dto, postMapper.toSummaryResponseList(dto.getContent())));
+    }
+
+    @Benchmark
+    public void streamingWriter() throws IOException {
+        postListJsonWriter.write(page, DISCARD);
+    }
+}
@@ -0,0 +1,129 @@
+package com.blog.bench;
+
+import com.blog.board.domain.PostRevision;
+import com.blog.board.revision.RevisionDelta;
+import com.blog.board.service.PostRevisionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 게시글 수정 이력: 약 2만 자 글을 문단 1~3개씩 고치며 저장한 400개 리비전.
+ * 저장과 복원은 PostRevisionService 의 encode / replay 를 그대로 호출한다 - snapshotInterval 번째마다,
+ * 또는 델타가 압축한 전체 본문보다 크면 스냅샷.
+ * 저장 용량(전체 본문 저장 대비)은 @Setup 에서 한 번 로그로 남기고, 측정은 복원과 저장(델타/스냅샷 인코딩) CPU 시간만 한다.
+ */
+@State(Scope.Benchmark)
+public class PostRevisionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PostRevisionBenchmark.class);
+
+    private static final int REVISION_COUNT = 400;
+    private static final int CONTENT_LENGTH = 20_000;
+
+    @Param({"1", "10", "20", "50"})
+    public int snapshotInterval;
+
+    // 리비전 번호 n 은 n - 1 번째
+    private List<PostRevision> revisions;
+    private String previousContent;
+    private String latestContent;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> paragraphs = new ArrayList<>(Arrays.asList(
+                BenchFixtures.text(random, CONTENT_LENGTH).split("\n", -1)));
+        revisions = new ArrayList<>(REVISION_COUNT);
+
+        long plainBytes = 0;
+        long storedBytes = 0;
+        int snapshots = 0;
+        int baseRevision = 1;
+        String previous = null;
+        for (int number = 1; number <= REVISION_COUNT; number++) {
+            if (number > 1) {
+                edit(random, paragraphs);
+            }
+            String content = String.join("\n", paragraphs);
+            RevisionDelta.Encoded encoded = PostRevisionService.encode(
+                    previous, content, number, baseRevision, previous != null, snapshotInterval);
+            baseRevision = encoded.snapshot() ? number : baseRevision;
+            revisions.add(PostRevision.builder()
+                    .revisionNumber(number)
+                    .baseRevision(baseRevision)
+                    .snapshot(encoded.snapshot())
+                    .contentLength(content.length())
+                    .data(encoded.data())
+                    .build());
+            snapshots += encoded.snapshot() ? 1 : 0;
+            plainBytes += content.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += encoded.data().length;
+            previousContent = previous;
+            latestContent = content;
+            previous = content;
+        }
+        log.info("snapshotInterval={}, 리비전 {}개 (스냅샷 {}개): 전체 본문 {} bytes → 저장 {} bytes ({}%)",
+                snapshotInterval, REVISION_COUNT, snapshots, plainBytes, storedBytes,
+                String.format("%.1f", storedBytes * 100.0 / plainBytes));
+    }
+
+    // 수정 화면에서 가장 많이 읽는 최신 리비전 - 가장 긴 델타 체인을 적용할 수 있다
+    @Benchmark
+    public String reconstructLatest() {
+        return reconstruct(REVISION_COUNT);
+    }
+
+    @Benchmark
+    public String reconstructMiddle() {
+        return reconstruct(REVISION_COUNT / 2);
+    }
+
+    // 스냅샷 차례가 아닌 수정 한 번 저장 - 줄 단위 diff + 델타 압축
+    @Benchmark
+    public RevisionDelta.Encoded recordDelta() {
+        return PostRevisionService.encode(previousContent, latestContent, REVISION_COUNT, REVISION_COUNT - 1,
+                true, Integer.MAX_VALUE);
+    }
+
+    // 직전 리비전과 이어지지 않는 저장 - 전체 본문 압축
+    @Benchmark
+    public RevisionDelta.Encoded recordSnapshot() {
+        return PostRevisionService.encode(previousContent, latestContent, REVISION_COUNT, REVISION_COUNT - 1,
+                false, snapshotInterval);
+    }
+
+    // PostRevisionRepository.findChain 과 같이 기준 스냅샷부터 해당 리비전까지를 넘긴다
+    private String reconstruct(int number) {
+        int baseRevision = revisions.get(number - 1).getBaseRevision();
+        return PostRevisionService.replay(revisions.subList(baseRevision - 1, number), Set.of(number)).get(number);
+    }
+
+    // 문단 1~3개 수정, 가끔 문단 추가/삭제
+    private void edit(Random random, List<String> paragraphs) {
+        int changes = 1 + random.nextInt(3);
+        for (int i = 0; i < changes; i++) {
+            int index = random.nextInt(paragraphs.size());
+            switch (random.nextInt(10)) {
+                case 0 -> paragraphs.add(index, BenchFixtures.text(random, 200));
+                case 1 -> {
+                    if (paragraphs.size() > 1) {
+                        paragraphs.remove(index);
+                    }
+                }
+                default -> paragraphs.set(index, paragraphs.get(index) + " " + BenchFixtures.text(random, 20));
+            }
+        }
+    }
+}
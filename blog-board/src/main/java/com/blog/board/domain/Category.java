@@ -2,27 +2,40 @@ package com.blog.board.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Table(name = "categories")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category {
 
+    public static final String ID_SEQUENCE_TABLE = "id_sequences";
+    public static final String ID_SEQUENCE_NAME = "categories";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // pooled 테이블 생성기 - 한 번 조회로 ID 50개를 확보하므로 노드가 여러 개여도 겹치지 않는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "category_id")
+    @TableGenerator(name = "category_id", table = ID_SEQUENCE_TABLE,
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = ID_SEQUENCE_NAME, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "category_id")
     private Long categoryId;
 
     @Column(name="category_name", nullable = false, unique = true)
     private String categoryName;
 
-    @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 삭제 시 게시글은 CategoryDeletionService 가 청크 단위 bulk DML 로 옮기거나 지운다 (cascade 로 전부 로딩하지 않는다)
+    @OneToMany(mappedBy = "category")
     private List<Post> posts = new ArrayList<>();
 
     public void updateName(String categoryName) {
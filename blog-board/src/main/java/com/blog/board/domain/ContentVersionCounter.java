@@ -0,0 +1,26 @@
+package com.blog.board.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글/카테고리 변경마다 1씩 증가하는 콘텐츠 버전 (id = 1 행 하나). 목록 응답 ETag 의 근거가 된다.
+ * DB 에 두므로 여러 인스턴스와 재시작 후에도 같은 데이터에 같은 버전을 돌려준다.
+ */
+@Entity
+@Table(name = "content_version")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentVersionCounter {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -1,18 +1,30 @@
 package com.blog.board.domain;
 
+import com.blog.board.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name ="posts")
+@Table(name ="posts", indexes = {
+        // 키셋 페이지네이션 (createdDate, postId) 탐색용
+        @Index(name = "idx_posts_created_date_post_id", columnList = "created_date, post_id"),
+        @Index(name = "idx_posts_published_created_date", columnList = "published, created_date, post_id"),
+        @Index(name = "idx_posts_category_created_date", columnList = "category_id, published, created_date, post_id")
+})
 public class Post extends BaseTimeEntity {
 
+    // insert 전에 ID 를 발급해 JDBC 배치 insert 가 가능하고, ID 순서가 작성 순서와 같다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "post_id")
     private Long postId;
 
@@ -23,9 +35,22 @@ public class Post extends BaseTimeEntity {
     @Column(name="content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 요약 - 본문 저장 시 함께 갱신된다
+    @Column(name="excerpt", length = 300)
+    private String excerpt;
+
+    // 렌더링 결과(post_renders) 키
+    @Column(name="content_hash", length = 64)
+    private String contentHash;
+
     @Column(name="published", nullable = false)
     private boolean published;
 
+    // 조회수는 PostViewService 가 모아서 JDBC 로 더한다 - 엔티티 수정이 누적값을 덮어쓰지 않도록 JPA 로는 갱신하지 않는다
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -36,6 +61,15 @@ public class Post extends BaseTimeEntity {
         this.content = content;
         this.published = published;
         this.category = category;
+        refreshExcerpt();
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public void refreshExcerpt() {
+        this.excerpt = PostExcerpt.from(this.content);
     }
 
     // 카테고리 연관관계 편의 메서드
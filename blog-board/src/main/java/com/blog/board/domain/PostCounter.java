@@ -0,0 +1,34 @@
+package com.blog.board.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 카테고리별 게시글 수. category_id = 0 행은 전체 게시글 수를 담는다.
+ * 게시글 쓰기와 같은 트랜잭션에서 증감되며, 목록 페이지의 전체 건수를 COUNT 쿼리 없이 제공한다.
+ */
+@Entity
+@Table(name = "post_counters")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCounter {
+
+    public static final long GLOBAL_ID = 0L;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "published_count", nullable = false)
+    private long publishedCount;
+
+    public void reset(long totalCount, long publishedCount) {
+        this.totalCount = totalCount;
+        this.publishedCount = publishedCount;
+    }
+}
@@ -0,0 +1,47 @@
+package com.blog.board.domain;
+
+import java.util.regex.Pattern;
+
+/**
+ * 목록 화면에 보여줄 본문 요약 생성기.
+ * 마크다운 문법을 걷어낸 평문 앞부분을 잘라 저장해두고, 목록 조회 시 본문(TEXT)을 읽지 않도록 한다.
+ */
+public final class PostExcerpt {
+
+    public static final int MAX_LENGTH = 200;
+    private static final String ELLIPSIS = "…";
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("(?s)```.*?(```|$)|~~~.*?(~~~|$)");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern LINE_MARKER = Pattern.compile("(?m)^\\s*(#{1,6}\\s+|>+\\s?|[-*+]\\s+|\\d+\\.\\s+)");
+    private static final Pattern INLINE_MARKER = Pattern.compile("[*_~`]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PostExcerpt() {
+    }
+
+    public static String from(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+        String text = CODE_BLOCK.matcher(markdown).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = LINE_MARKER.matcher(text).replaceAll("");
+        text = INLINE_MARKER.matcher(text).replaceAll("");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+        return truncate(text);
+    }
+
+    // 서로게이트 쌍(이모지 등)이 잘리지 않도록 코드 포인트 단위로 자른다
+    private static String truncate(String text) {
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        int end = text.offsetByCodePoints(0, MAX_LENGTH);
+        return text.substring(0, end).trim() + ELLIPSIS;
+    }
+}
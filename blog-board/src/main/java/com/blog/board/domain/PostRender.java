@@ -0,0 +1,36 @@
+package com.blog.board.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 본문 해시 기준으로 저장되는 렌더링 결과.
+ * 같은 본문은 한 번만 렌더링되고 여러 게시글/수정 이력이 결과를 공유한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_renders")
+public class PostRender {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(name = "html", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String html;
+
+    // 목차 - TocEntryDto 목록의 JSON
+    @Lob
+    @Column(name = "toc", nullable = false, columnDefinition = "TEXT")
+    private String toc;
+
+    @Column(name = "word_count", nullable = false)
+    private int wordCount;
+
+    @Column(name = "reading_minutes", nullable = false)
+    private int readingMinutes;
+}
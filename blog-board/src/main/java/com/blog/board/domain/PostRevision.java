@@ -0,0 +1,60 @@
+package com.blog.board.domain;
+
+import com.blog.board.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글 수정 이력.
+ * 대부분의 리비전은 직전 리비전과의 줄 단위 델타만 저장하고, 일정 간격마다 전체 본문 스냅샷을 둔다.
+ * N 번째 리비전은 baseRevision 스냅샷부터 N 까지의 델타를 차례로 적용해 복원한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_revisions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_revisions_post_number", columnNames = {"post_id", "revision_number"})
+})
+public class PostRevision extends BaseTimeEntity {
+
+    @Id
+    @TimeOrderedId
+    @Column(name = "revision_id")
+    private Long revisionId;
+
+    // 게시글이 벌크 DELETE 로 지워져도 함께 지워지도록 DB 에서 cascade 한다
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    // 복원을 시작할 스냅샷 리비전 번호 - 스냅샷이면 자기 자신
+    @Column(name = "base_revision", nullable = false)
+    private int baseRevision;
+
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    // 이 리비전 본문의 렌더링 해시 - 다음 리비전이 이 본문을 기준으로 델타를 만들어도 되는지 확인한다
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    // 복원 결과 검증용 본문 길이 (문자 수)
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    // 스냅샷이면 deflate 한 본문, 아니면 직전 리비전 대비 델타 (RevisionDelta)
+    @Lob
+    @Column(name = "data", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+}
@@ -0,0 +1,18 @@
+package com.blog.board.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 {@link TimeOrderedIdGenerator} 로 insert 전에 발급한다.
+ * IDENTITY 와 달리 DB 에서 키를 돌려받을 필요가 없어 Hibernate JDBC 배치 insert 가 동작한다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
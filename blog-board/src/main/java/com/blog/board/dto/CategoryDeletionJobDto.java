@@ -0,0 +1,24 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CategoryDeletionJobDto {
+    private final String jobId;
+    private final Long categoryId;
+    private final Long targetCategoryId;   // null 이면 게시글도 함께 삭제
+    private final Status status;
+    private final long totalPosts;         // 시작 시점의 게시글 수 (카운터 기준)
+    private final long processedPosts;     // 옮기거나 삭제한 게시글 수
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -1,6 +1,7 @@
 package com.blog.board.dto;
 
 import com.blog.board.domain.Category;
+import com.blog.board.domain.PostCounter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,11 +10,19 @@ import lombok.Getter;
 public class CategoryDto {
     private final Long id;
     private final String name;
+    private final long postCount;          // 전체 게시글 수
+    private final long publishedPostCount; // 발행된 게시글 수
 
     public static CategoryDto fromEntity(Category category) {
+        return fromEntity(category, null);
+    }
+
+    public static CategoryDto fromEntity(Category category, PostCounter counter) {
         return category == null ? null : CategoryDto.builder()
                 .id(category.getCategoryId())
                 .name(category.getCategoryName())
+                .postCount(counter != null ? counter.getTotalCount() : 0)
+                .publishedPostCount(counter != null ? counter.getPublishedCount() : 0)
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+    private final List<T> content;      // 현재 페이지의 데이터 목록
+    private final int size;             // 요청한 페이지 크기
+    private final boolean hasNext;      // 다음(더 오래된) 페이지 존재 여부
+    private final boolean hasPrevious;  // 이전(더 최신) 페이지 존재 여부
+    private final String nextCursor;    // 다음 페이지 커서
+    private final String prevCursor;    // 이전 페이지 커서
+    private final boolean empty;        // 현재 페이지가 비어있는지 여부
+}
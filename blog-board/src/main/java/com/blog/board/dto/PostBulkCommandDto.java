@@ -0,0 +1,35 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 변경 요청. 대상은 postIds 또는 필터(categoryName, published) 중 하나로 지정한다.
+ */
+@Getter
+@Builder
+public class PostBulkCommandDto {
+    private final Action action;
+    private final List<Long> postIds;
+    // 필터 - postIds 가 없을 때만 사용하며 최소 하나는 있어야 한다
+    private final String categoryName;
+    private final Boolean published;
+    // 이전 응답의 nextAfterId - 필터 대상 중 이 ID 다음 게시글부터 이어서 처리한다
+    private final Long afterId;
+    // MOVE 대상 카테고리 이름 (없으면 만든다)
+    private final String targetCategoryName;
+
+    public enum Action {
+        PUBLISH, UNPUBLISH, MOVE, DELETE
+    }
+
+    public boolean hasPostIds() {
+        return postIds != null && !postIds.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return (categoryName != null && !categoryName.isBlank()) || published != null;
+    }
+}
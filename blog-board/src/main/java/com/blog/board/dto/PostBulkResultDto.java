@@ -0,0 +1,31 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostBulkResultDto {
+    private final PostBulkCommandDto.Action action;
+    private final List<Outcome> outcomes;
+    // 필터 대상이 한 번에 처리하는 최대 건수를 넘어 남은 게시글이 있음 - nextAfterId 를 afterId 로 넣어 다시 보내면 이어서 처리된다
+    private final boolean hasMore;
+    // 이번 요청에서 마지막으로 처리한 게시글 ID (hasMore 일 때만)
+    private final Long nextAfterId;
+
+    public long count(Result result) {
+        return outcomes.stream().filter(outcome -> outcome.result() == result).count();
+    }
+
+    public record Outcome(Long postId, Result result) {
+    }
+
+    public enum Result {
+        APPLIED,
+        // 이미 요청한 상태라 바꾸지 않음
+        UNCHANGED,
+        NOT_FOUND
+    }
+}
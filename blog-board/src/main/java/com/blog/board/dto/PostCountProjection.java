@@ -0,0 +1,5 @@
+package com.blog.board.dto;
+
+// 카테고리별 게시글 수 집계 결과 (카운터 재계산용)
+public record PostCountProjection(Long categoryId, Long totalCount, Long publishedCount) {
+}
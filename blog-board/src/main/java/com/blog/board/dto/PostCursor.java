@@ -0,0 +1,81 @@
+package com.blog.board.dto;
+
+import com.blog.board.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdDate, postId) 기준 키셋 커서.
+ * 클라이언트에는 방향까지 포함한 불투명 문자열로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    // MySQL DATETIME 최댓값 - 첫 페이지는 이 값보다 이전의 모든 글을 조회한다
+    private static final LocalDateTime HEAD = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String DELIMITER = "|";
+
+    private final Direction direction;
+    private final LocalDateTime createdDate;
+    private final Long postId;
+
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    public static PostCursor first() {
+        return new PostCursor(Direction.NEXT, HEAD, Long.MAX_VALUE);
+    }
+
+    // 해당 날짜(포함) 이전에 작성된 글부터 조회. HEAD 날짜는 첫 페이지와 같고, 그 뒤 날짜는 저장될 수 없어 잘못된 입력으로 본다
+    public static PostCursor seek(LocalDate date) {
+        LocalDate last = HEAD.toLocalDate();
+        if (date.isAfter(last)) {
+            throw new InvalidCursorException();
+        }
+        return date.isEqual(last) ? first() : new PostCursor(Direction.NEXT, date.plusDays(1).atStartOfDay(), 0L);
+    }
+
+    public static PostCursor next(LocalDateTime createdDate, Long postId) {
+        return new PostCursor(Direction.NEXT, createdDate, postId);
+    }
+
+    public static PostCursor prev(LocalDateTime createdDate, Long postId) {
+        return new PostCursor(Direction.PREV, createdDate, postId);
+    }
+
+    public boolean isNext() {
+        return direction == Direction.NEXT;
+    }
+
+    public String encode() {
+        String raw = direction.name().charAt(0) + DELIMITER + createdDate + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+            Direction direction = switch (parts[0]) {
+                case "N" -> Direction.NEXT;
+                case "P" -> Direction.PREV;
+                default -> throw new InvalidCursorException();
+            };
+            return new PostCursor(direction, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostImportResultDto {
+    private final long importedPosts;
+    private final long createdCategories;
+    private final long skippedLines;
+    private final long elapsedMillis;
+    private final double postsPerSecond;
+}
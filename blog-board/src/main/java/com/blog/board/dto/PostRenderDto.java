@@ -0,0 +1,16 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+public class PostRenderDto {
+    private final String contentHash;
+    private final String html;
+    private final List<TocEntryDto> toc;
+    private final int wordCount;
+    private final int readingMinutes;
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -21,6 +22,10 @@ public class PostResponseDto {
     private CategoryDto category;
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
+    private String html;
+    private List<TocEntryDto> toc;
+    private int wordCount;
+    private int readingMinutes;
 
     public static PostResponseDto fromEntity(Post post) {
         return PostResponseDto.builder()
@@ -33,4 +38,20 @@ public class PostResponseDto {
                 .modifiedDate(post.getModifiedDate())
                 .build();
     }
+
+    public static PostResponseDto fromEntity(Post post, PostRenderDto render) {
+        return PostResponseDto.builder()
+                .id(post.getPostId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .published(post.isPublished())
+                .category(CategoryDto.fromEntity(post.getCategory()))
+                .createdDate(post.getCreatedDate())
+                .modifiedDate(post.getModifiedDate())
+                .html(render.getHtml())
+                .toc(render.getToc())
+                .wordCount(render.getWordCount())
+                .readingMinutes(render.getReadingMinutes())
+                .build();
+    }
 }
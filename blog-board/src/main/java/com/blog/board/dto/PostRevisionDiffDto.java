@@ -0,0 +1,21 @@
+package com.blog.board.dto;
+
+import com.blog.board.revision.LineDiff;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 두 리비전 사이의 unified diff. hunks 의 각 줄은 ' '(같음), '-'(삭제), '+'(추가) 로 시작한다.
+ */
+@Getter
+@Builder
+public class PostRevisionDiffDto {
+    private final Long postId;
+    private final int baseRevision;
+    private final int targetRevision;
+    private final String baseTitle;
+    private final String targetTitle;
+    private final List<LineDiff.Hunk> hunks;
+}
@@ -0,0 +1,16 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PostRevisionDto {
+    private final Long postId;
+    private final int revisionNumber;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdDate;
+}
@@ -0,0 +1,17 @@
+package com.blog.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수정 이력 목록 전용 프로젝션. 본문 데이터(data) 컬럼은 선택하지 않는다.
+ */
+public record PostRevisionSummary(
+        int revisionNumber,
+        int baseRevision,
+        boolean snapshot,
+        String title,
+        String contentHash,
+        int contentLength,
+        LocalDateTime createdDate
+) {
+}
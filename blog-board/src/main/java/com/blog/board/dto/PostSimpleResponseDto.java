@@ -1,6 +1,5 @@
 package com.blog.board.dto;
 
-import com.blog.board.domain.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,19 +15,22 @@ public class PostSimpleResponseDto {
     private Long id;
     private String title;
     private String author;
-    private String content;
+    private String excerpt;
     private boolean published;
     private CategoryDto category;
     private LocalDateTime createdDate;
 
-    public static PostSimpleResponseDto fromEntity(Post post) {
+    public static PostSimpleResponseDto fromProjection(PostSummaryProjection projection) {
         return PostSimpleResponseDto.builder()
-                .id(post.getPostId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .published(post.isPublished())
-                .category(CategoryDto.fromEntity(post.getCategory()))
-                .createdDate(post.getCreatedDate())
+                .id(projection.id())
+                .title(projection.title())
+                .excerpt(projection.excerpt())
+                .published(projection.published())
+                .category(projection.categoryId() == null ? null : CategoryDto.builder()
+                        .id(projection.categoryId())
+                        .name(projection.categoryName())
+                        .build())
+                .createdDate(projection.createdDate())
                 .build();
     }
 }
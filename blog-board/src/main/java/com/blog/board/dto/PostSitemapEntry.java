@@ -0,0 +1,13 @@
+package com.blog.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드/사이트맵 갱신용 발행 게시글 상태. 수정일이 없으면 작성일을 쓴다.
+ */
+public record PostSitemapEntry(
+        Long postId,
+        Long categoryId,
+        LocalDateTime lastModified
+) {
+}
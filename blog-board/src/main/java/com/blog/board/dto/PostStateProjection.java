@@ -0,0 +1,5 @@
+package com.blog.board.dto;
+
+// 일괄 변경/카테고리 삭제 작업용 - 본문 없이 카운터 보정과 결과 판정에 필요한 값만 조회한다
+public record PostStateProjection(Long postId, Long categoryId, boolean published) {
+}
@@ -0,0 +1,17 @@
+package com.blog.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회 전용 프로젝션. 본문(content) 컬럼은 선택하지 않는다.
+ */
+public record PostSummaryProjection(
+        Long id,
+        String title,
+        String excerpt,
+        boolean published,
+        Long categoryId,
+        String categoryName,
+        LocalDateTime createdDate
+) {
+}
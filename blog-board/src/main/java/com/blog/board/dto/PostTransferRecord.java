@@ -0,0 +1,33 @@
+package com.blog.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * NDJSON 내보내기/가져오기 한 줄. type 이 "category" 면 name 만, "post" 면 게시글 필드를 채운다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostTransferRecord(String type,
+                                 Long id,
+                                 String name,
+                                 String title,
+                                 String content,
+                                 Boolean published,
+                                 String categoryName,
+                                 LocalDateTime createdDate,
+                                 LocalDateTime modifiedDate) {
+
+    public static final String TYPE_CATEGORY = "category";
+    public static final String TYPE_POST = "post";
+
+    public static PostTransferRecord category(Long id, String name) {
+        return new PostTransferRecord(TYPE_CATEGORY, id, name, null, null, null, null, null, null);
+    }
+
+    public static PostTransferRecord post(Long id, String title, String content, boolean published, String categoryName,
+                                          LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        return new PostTransferRecord(TYPE_POST, id, null, title, content, published, categoryName,
+                createdDate, modifiedDate);
+    }
+}
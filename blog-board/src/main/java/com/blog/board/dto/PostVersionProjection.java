@@ -0,0 +1,7 @@
+package com.blog.board.dto;
+
+import java.time.LocalDateTime;
+
+// 조건부 GET 검증용 - 본문 없이 변경 여부 판단에 필요한 값만 조회한다
+public record PostVersionProjection(Long postId, LocalDateTime modifiedDate, String categoryName) {
+}
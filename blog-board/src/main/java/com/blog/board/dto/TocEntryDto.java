@@ -0,0 +1,16 @@
+package com.blog.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TocEntryDto {
+    private int level;      // 제목 수준 (1~6)
+    private String anchor;  // 본문 HTML 의 제목 id
+    private String text;
+}
@@ -0,0 +1,11 @@
+package com.blog.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrendingPostDto {
+    private final PostSimpleResponseDto post;
+    private final long views;   // 집계 기간 동안의 조회수
+}
@@ -0,0 +1,16 @@
+package com.blog.board.dto;
+
+import com.blog.board.trending.TrendingWindow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TrendingPostsDto {
+    private final TrendingWindow window;
+    private final LocalDateTime generatedAt;   // 스냅샷 생성 시각
+    private final List<TrendingPostDto> posts;
+}
@@ -0,0 +1,7 @@
+package com.blog.board.event;
+
+/**
+ * 카테고리 생성/수정/삭제 후 발행된다. 커밋 이후 리스너에서 메모리 캐시를 정리하는 데 사용한다.
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -0,0 +1,19 @@
+package com.blog.board.event;
+
+import java.util.List;
+
+/**
+ * 게시글 생성/수정/삭제 후 발행된다. 커밋 이후 리스너에서 버전 카운터와 캐시를 갱신하는 데 사용한다.
+ */
+public record PostChangedEvent(ChangeType type, List<Long> postIds) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED,
+        // 대량 가져오기 - postIds 가 비어 있으며 리스너는 전체가 바뀐 것으로 처리한다
+        IMPORTED
+    }
+
+    public static PostChangedEvent of(ChangeType type, Long postId) {
+        return new PostChangedEvent(type, List.of(postId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class CategoryDeletionJobNotFoundException extends BusinessException {
+    public CategoryDeletionJobNotFoundException() {
+        super(ErrorCode.CATEGORY_DELETION_JOB_NOT_FOUND);
+    }
+}
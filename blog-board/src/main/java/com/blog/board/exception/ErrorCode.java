@@ -9,13 +9,22 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     // Post 관련 에러
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "게시글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "P002", "잘못된 페이지 커서입니다."),
+    INVALID_TRENDING_WINDOW(HttpStatus.BAD_REQUEST, "P003", "지원하지 않는 집계 기간입니다. (hour, day, week)"),
+    INVALID_POST_BULK_REQUEST(HttpStatus.BAD_REQUEST, "P004", "일괄 변경 요청이 올바르지 않습니다. (대상은 ID 목록 또는 필터 중 하나, 이동은 카테고리 이름 필요)"),
+    POST_REVISION_NOT_FOUND(HttpStatus.NOT_FOUND, "P005", "게시글 수정 이력을 찾을 수 없습니다."),
 
     // Category 관련 에러
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "C001", "카테고리를 찾을 수 없습니다."),
     CATEGORY_ALREADY_EXISTS(HttpStatus.CONFLICT, "C002", "이미 존재하는 카테고리입니다."),
+    CATEGORY_DELETION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "카테고리 삭제 작업을 찾을 수 없습니다."),
+    INVALID_CATEGORY_TARGET(HttpStatus.BAD_REQUEST, "C004", "게시글을 옮길 카테고리는 삭제할 카테고리와 달라야 합니다."),
 
     // 권한 관련 에러
-    ACCESS_DENIED(HttpStatus.FORBIDDEN, "A001", "접근 권한이 없습니다.");
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "A001", "접근 권한이 없습니다."),
+
+    // 서버 보호 관련 에러
+    SQL_BUDGET_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "S001", "요청 처리 중 허용된 SQL 실행 횟수를 초과했습니다.");
 
     private final HttpStatus status;
     private final String code;
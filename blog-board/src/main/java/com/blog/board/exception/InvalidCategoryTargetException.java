@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class InvalidCategoryTargetException extends BusinessException {
+    public InvalidCategoryTargetException() {
+        super(ErrorCode.INVALID_CATEGORY_TARGET);
+    }
+}
@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
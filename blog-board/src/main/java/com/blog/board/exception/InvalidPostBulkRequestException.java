@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class InvalidPostBulkRequestException extends BusinessException {
+    public InvalidPostBulkRequestException() {
+        super(ErrorCode.INVALID_POST_BULK_REQUEST);
+    }
+}
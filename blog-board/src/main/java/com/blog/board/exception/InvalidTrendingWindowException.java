@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class InvalidTrendingWindowException extends BusinessException {
+    public InvalidTrendingWindowException() {
+        super(ErrorCode.INVALID_TRENDING_WINDOW);
+    }
+}
@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class PostRevisionNotFoundException extends BusinessException {
+    public PostRevisionNotFoundException() {
+        super(ErrorCode.POST_REVISION_NOT_FOUND);
+    }
+}
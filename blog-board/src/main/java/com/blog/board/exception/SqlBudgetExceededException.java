@@ -0,0 +1,7 @@
+package com.blog.board.exception;
+
+public class SqlBudgetExceededException extends BusinessException {
+    public SqlBudgetExceededException() {
+        super(ErrorCode.SQL_BUDGET_EXCEEDED);
+    }
+}
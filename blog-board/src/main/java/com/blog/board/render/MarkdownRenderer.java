@@ -0,0 +1,135 @@
+package com.blog.board.render;
+
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.dto.TocEntryDto;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 마크다운 본문을 정제된 HTML, 목차, 단어 수/읽기 시간으로 변환한다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final TextContentRenderer textRenderer = TextContentRenderer.builder().extensions(EXTENSIONS).build();
+    private final Safelist safelist = Safelist.relaxed()
+            .addAttributes("h1", "id")
+            .addAttributes("h2", "id")
+            .addAttributes("h3", "id")
+            .addAttributes("h4", "id")
+            .addAttributes("h5", "id")
+            .addAttributes("h6", "id")
+            .addAttributes("code", "class")
+            .preserveRelativeLinks(true);
+    private final Document.OutputSettings outputSettings = new Document.OutputSettings().prettyPrint(false);
+
+    public PostRenderDto render(String markdown) {
+        Node document = parser.parse(markdown);
+
+        Map<Heading, String> anchors = new IdentityHashMap<>();
+        List<TocEntryDto> toc = collectHeadings(document, anchors);
+
+        // 목차와 같은 id 를 제목 태그에 부여한다
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    if (node instanceof Heading heading && anchors.containsKey(heading)) {
+                        attributes.put("id", anchors.get(heading));
+                    }
+                })
+                .build();
+        String html = Jsoup.clean(htmlRenderer.render(document), "", safelist, outputSettings);
+
+        int wordCount = countWords(textRenderer.render(document));
+        return PostRenderDto.builder()
+                .html(html)
+                .toc(toc)
+                .wordCount(wordCount)
+                .readingMinutes(Math.max(1, (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE)))
+                .build();
+    }
+
+    private List<TocEntryDto> collectHeadings(Node document, Map<Heading, String> anchors) {
+        List<TocEntryDto> toc = new ArrayList<>();
+        Map<String, Integer> usedAnchors = new HashMap<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading).trim();
+                String anchor = uniqueAnchor(slugify(text), usedAnchors);
+                anchors.put(heading, anchor);
+                toc.add(TocEntryDto.builder()
+                        .level(heading.getLevel())
+                        .anchor(anchor)
+                        .text(text)
+                        .build());
+            }
+        });
+        return toc;
+    }
+
+    private static String textOf(Node node) {
+        StringBuilder builder = new StringBuilder();
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            if (child instanceof Text text) {
+                builder.append(text.getLiteral());
+            } else if (child instanceof Code code) {
+                builder.append(code.getLiteral());
+            } else {
+                builder.append(textOf(child));
+            }
+        }
+        return builder.toString();
+    }
+
+    // 한글/영문/숫자는 유지하고 공백은 '-' 로, 나머지 문자는 제거한다
+    static String slugify(String text) {
+        StringBuilder slug = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                slug.appendCodePoint(cp);
+            } else if ((Character.isWhitespace(cp) || cp == '-') && slug.length() > 0
+                    && slug.charAt(slug.length() - 1) != '-') {
+                slug.append('-');
+            }
+        });
+        int end = slug.length();
+        while (end > 0 && slug.charAt(end - 1) == '-') {
+            end--;
+        }
+        return end == 0 ? "section" : slug.substring(0, end);
+    }
+
+    private static String uniqueAnchor(String slug, Map<String, Integer> usedAnchors) {
+        int count = usedAnchors.merge(slug, 1, Integer::sum);
+        return count == 1 ? slug : slug + "-" + (count - 1);
+    }
+
+    private static int countWords(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? 0 : trimmed.split("\\s+").length;
+    }
+}
@@ -0,0 +1,23 @@
+package com.blog.board.repository;
+
+import com.blog.board.domain.ContentVersionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ContentVersionCounterRepository extends JpaRepository<ContentVersionCounter, Long> {
+
+    // 변경한 트랜잭션에 참여해 함께 커밋된다. 트랜잭션 밖에서 발행된 변경 이벤트면 따로 트랜잭션을 연다
+    @Transactional
+    @Modifying
+    @Query("update ContentVersionCounter v set v.version = v.version + 1 where v.id = :id")
+    int increment(@Param("id") Long id);
+
+    // 엔티티로 읽으면 2차 캐시/영속성 컨텍스트에 남은 값을 볼 수 있으므로 값만 조회한다
+    @Query("select v.version from ContentVersionCounter v where v.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+}
@@ -0,0 +1,27 @@
+package com.blog.board.repository;
+
+import com.blog.board.domain.PostCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostCounterRepository extends JpaRepository<PostCounter, Long> {
+
+    // 읽고 쓰지 않고 한 문장으로 증감해 동시 쓰기에서도 값이 유실되지 않게 한다
+    @Modifying
+    @Query("update PostCounter c set c.totalCount = c.totalCount + :total, " +
+            "c.publishedCount = c.publishedCount + :published where c.categoryId = :categoryId")
+    int adjust(@Param("categoryId") Long categoryId,
+               @Param("total") long total,
+               @Param("published") long published);
+
+    // 재계산이 집계하고 덮어쓰는 동안 증감이 끼어들지 못하게 카운터 행을 모두 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from PostCounter c")
+    List<PostCounter> findAllForUpdate();
+}
@@ -0,0 +1,7 @@
+package com.blog.board.repository;
+
+import com.blog.board.domain.PostRender;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostRenderRepository extends JpaRepository<PostRender, String> {
+}
@@ -2,18 +2,188 @@ package com.blog.board.repository;
 
 import com.blog.board.domain.Category;
 import com.blog.board.domain.Post;
-import org.springframework.data.domain.Page;
+import com.blog.board.dto.PostCountProjection;
+import com.blog.board.dto.PostSitemapEntry;
+import com.blog.board.dto.PostStateProjection;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.dto.PostVersionProjection;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    Page<Post> findByPublishedTrueOrderByCreatedDateDesc(Pageable pageable);
+    // 목록 조회는 본문(content)을 읽지 않도록 프로젝션으로만 조회한다.
+    // 전체 건수는 post_counters 에서 읽으므로 오프셋 목록도 COUNT 쿼리 없이 List 로 받는다
+    String SUMMARY_SELECT = "select new com.blog.board.dto.PostSummaryProjection(" +
+            "p.postId, p.title, p.excerpt, p.published, c.categoryId, c.categoryName, p.createdDate) " +
+            "from Post p left join p.category c ";
+
+    @Query(SUMMARY_SELECT + "where p.published = true order by p.createdDate desc")
+    List<PostSummaryProjection> findByPublishedTrueOrderByCreatedDateDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId and p.published = true order by p.createdDate desc")
+    List<PostSummaryProjection> findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(@Param("categoryId") Long categoryId,
+                                                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "order by p.createdDate desc")
+    List<PostSummaryProjection> findAllByOrderByCreatedDateDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId order by p.createdDate desc")
+    List<PostSummaryProjection> findByCategoryIdOrderByCreatedDateDesc(@Param("categoryId") Long categoryId,
+                                                                      Pageable pageable);
+
+    // 키셋 페이지네이션 - Before: 커서보다 오래된 글(내림차순), After: 커서보다 최신 글(오름차순)
+    @Query(SUMMARY_SELECT + "where p.published = true " +
+            "and (p.createdDate < :createdDate or (p.createdDate = :createdDate and p.postId < :postId)) " +
+            "order by p.createdDate desc, p.postId desc")
+    Slice<PostSummaryProjection> findPublishedBefore(@Param("createdDate") LocalDateTime createdDate,
+                                                     @Param("postId") Long postId,
+                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.published = true " +
+            "and (p.createdDate > :createdDate or (p.createdDate = :createdDate and p.postId > :postId)) " +
+            "order by p.createdDate asc, p.postId asc")
+    Slice<PostSummaryProjection> findPublishedAfter(@Param("createdDate") LocalDateTime createdDate,
+                                                    @Param("postId") Long postId,
+                                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId and p.published = true " +
+            "and (p.createdDate < :createdDate or (p.createdDate = :createdDate and p.postId < :postId)) " +
+            "order by p.createdDate desc, p.postId desc")
+    Slice<PostSummaryProjection> findPublishedByCategoryBefore(@Param("categoryId") Long categoryId,
+                                                               @Param("createdDate") LocalDateTime createdDate,
+                                                               @Param("postId") Long postId,
+                                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId and p.published = true " +
+            "and (p.createdDate > :createdDate or (p.createdDate = :createdDate and p.postId > :postId)) " +
+            "order by p.createdDate asc, p.postId asc")
+    Slice<PostSummaryProjection> findPublishedByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                              @Param("createdDate") LocalDateTime createdDate,
+                                                              @Param("postId") Long postId,
+                                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where p.createdDate < :createdDate or (p.createdDate = :createdDate and p.postId < :postId) " +
+            "order by p.createdDate desc, p.postId desc")
+    Slice<PostSummaryProjection> findAllBefore(@Param("createdDate") LocalDateTime createdDate,
+                                               @Param("postId") Long postId,
+                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where p.createdDate > :createdDate or (p.createdDate = :createdDate and p.postId > :postId) " +
+            "order by p.createdDate asc, p.postId asc")
+    Slice<PostSummaryProjection> findAllAfter(@Param("createdDate") LocalDateTime createdDate,
+                                              @Param("postId") Long postId,
+                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId " +
+            "and (p.createdDate < :createdDate or (p.createdDate = :createdDate and p.postId < :postId)) " +
+            "order by p.createdDate desc, p.postId desc")
+    Slice<PostSummaryProjection> findByCategoryBefore(@Param("categoryId") Long categoryId,
+                                                      @Param("createdDate") LocalDateTime createdDate,
+                                                      @Param("postId") Long postId,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.category.categoryId = :categoryId " +
+            "and (p.createdDate > :createdDate or (p.createdDate = :createdDate and p.postId > :postId)) " +
+            "order by p.createdDate asc, p.postId asc")
+    Slice<PostSummaryProjection> findByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                     @Param("createdDate") LocalDateTime createdDate,
+                                                     @Param("postId") Long postId,
+                                                     Pageable pageable);
+
+    @Query("select new com.blog.board.dto.PostVersionProjection(p.postId, p.modifiedDate, c.categoryName) " +
+            "from Post p left join p.category c where p.postId = :postId")
+    Optional<PostVersionProjection> findVersionById(@Param("postId") Long postId);
+
+    @Query("select p.viewCount from Post p where p.postId = :postId")
+    Optional<Long> findViewCountById(@Param("postId") Long postId);
+
+    // 수정은 리비전 번호를 읽고 다음 번호를 넣으므로 같은 게시글의 수정끼리 순서대로 실행되게 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.postId = :postId")
+    Optional<Post> findByIdForUpdate(@Param("postId") Long postId);
+
+    // 카운터 재계산용 집계 - 주기적 보정 작업에서만 사용한다
+    @Query("select new com.blog.board.dto.PostCountProjection(p.category.categoryId, count(p), " +
+            "sum(case when p.published = true then 1 else 0 end)) from Post p group by p.category.categoryId")
+    List<PostCountProjection> countGroupByCategory();
+
+    // 검색 결과 조회용 - 순서는 호출 측에서 검색 점수 순으로 맞춘다
+    @Query(SUMMARY_SELECT + "where p.postId in :postIds")
+    List<PostSummaryProjection> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 색인 재구성용 - postId 기준 청크 조회
+    List<Post> findByPostIdGreaterThanOrderByPostIdAsc(Long postId, Pageable pageable);
+
+    List<Post> findByModifiedDateGreaterThanEqualOrderByPostIdAsc(LocalDateTime modifiedDate, Pageable pageable);
+
+    @Query("select p.postId from Post p")
+    List<Long> findAllPostIds();
+
+    // 카테고리 삭제 작업용 - 처리한 행은 카테고리를 벗어나므로 정렬/오프셋 없이 앞에서부터 읽는다
+    @Query("select new com.blog.board.dto.PostStateProjection(p.postId, c.categoryId, p.published) " +
+            "from Post p join p.category c where c.categoryId = :categoryId")
+    List<PostStateProjection> findStatesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query("select new com.blog.board.dto.PostStateProjection(p.postId, c.categoryId, p.published) " +
+            "from Post p left join p.category c where p.postId in :postIds")
+    List<PostStateProjection> findStatesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 일괄 변경 필터용 키셋 조회 - 조건이 null 이면 해당 조건을 적용하지 않는다
+    @Query("select new com.blog.board.dto.PostStateProjection(p.postId, c.categoryId, p.published) " +
+            "from Post p left join p.category c " +
+            "where p.postId > :afterId " +
+            "and (:categoryId is null or c.categoryId = :categoryId) " +
+            "and (:published is null or p.published = :published) " +
+            "order by p.postId")
+    List<PostStateProjection> findStatesAfter(@Param("afterId") Long afterId,
+                                              @Param("categoryId") Long categoryId,
+                                              @Param("published") Boolean published,
+                                              Pageable pageable);
+
+    // 사이트맵 적재용 - 발행된 게시글을 postId 키셋으로 훑는다
+    @Query("select new com.blog.board.dto.PostSitemapEntry(p.postId, c.categoryId, coalesce(p.modifiedDate, p.createdDate)) " +
+            "from Post p left join p.category c where p.published = true and p.postId > :afterId order by p.postId")
+    List<PostSitemapEntry> findSitemapEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 변경 이벤트로 받은 게시글 중 발행된 것만
+    @Query("select new com.blog.board.dto.PostSitemapEntry(p.postId, c.categoryId, coalesce(p.modifiedDate, p.createdDate)) " +
+            "from Post p left join p.category c where p.published = true and p.postId in :postIds")
+    List<PostSitemapEntry> findSitemapEntriesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // bulk DML 은 영속성 컨텍스트를 거치지 않으며, Hibernate 가 post 2차 캐시 영역을 비운다.
+    // 감사(auditing) 리스너도 거치지 않으므로 수정일은 직접 넣는다 - 상세 ETag 가 수정일을 쓴다
+    @Modifying
+    @Query("update Post p set p.published = :published, p.modifiedDate = :modifiedDate " +
+            "where p.postId in :postIds and p.published <> :published")
+    int updatePublished(@Param("postIds") Collection<Long> postIds,
+                        @Param("published") boolean published,
+                        @Param("modifiedDate") LocalDateTime modifiedDate);
 
-    Page<Post> findByCategoryAndPublishedTrueOrderByCreatedDateDesc(Category category, Pageable pageable);
+    @Modifying
+    @Query("update Post p set p.category = :category, p.modifiedDate = :modifiedDate where p.postId in :postIds")
+    int moveToCategory(@Param("postIds") Collection<Long> postIds,
+                       @Param("category") Category category,
+                       @Param("modifiedDate") LocalDateTime modifiedDate);
 
-    Page<Post> findAllByOrderByCreatedDateDesc(Pageable pageable);
+    @Modifying
+    @Query("delete from Post p where p.postId in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 
-    Page<Post> findByCategoryOrderByCreatedDateDesc(Category category, Pageable pageable);
+    // 요약이 비어있는 기존 게시글 백필용
+    List<Post> findByExcerptIsNull(Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package com.blog.board.repository;
+
+import com.blog.board.domain.PostRevision;
+import com.blog.board.dto.PostRevisionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    // 목록과 최신 리비전 확인은 본문 데이터(data)를 읽지 않도록 프로젝션으로만 조회한다
+    @Query("select new com.blog.board.dto.PostRevisionSummary(" +
+            "r.revisionNumber, r.baseRevision, r.snapshot, r.title, r.contentHash, r.contentLength, r.createdDate) " +
+            "from PostRevision r where r.post.postId = :postId order by r.revisionNumber desc")
+    List<PostRevisionSummary> findSummaries(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * number 번째 리비전과, 그 리비전을 복원하는 데 필요한 스냅샷부터의 리비전을 번호 순으로 한 번에 읽는다.
+     */
+    @Query("select r from PostRevision r where r.post.postId = :postId and r.revisionNumber between " +
+            "(select b.baseRevision from PostRevision b where b.post.postId = :postId and b.revisionNumber = :number) " +
+            "and :number order by r.revisionNumber")
+    List<PostRevision> findChain(@Param("postId") Long postId, @Param("number") int number);
+}
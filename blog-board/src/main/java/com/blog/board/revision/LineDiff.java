@@ -0,0 +1,234 @@
+package com.blog.board.revision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 줄 단위 최소 편집 스크립트 (Myers O(ND)).
+ * 공통 앞/뒤 줄을 먼저 떼어 내고 가운데만 비교하므로 일부만 고친 글은 바뀐 줄 수에 비례해 끝난다.
+ * 편집 거리가 maxEdits 를 넘으면 계산을 멈춘다 - 이런 글은 차이보다 전체 스냅샷이 작다.
+ */
+public final class LineDiff {
+
+    // 편집 거리 상한 - 역추적 기록이 O(D²) 로 커지므로 거의 다시 쓴 글은 비교하지 않는다
+    public static final int DEFAULT_MAX_EDITS = 2_000;
+
+    public enum Type { EQUAL, DELETE, INSERT }
+
+    /**
+     * @param baseIndex   기준 줄 번호 (INSERT 면 -1)
+     * @param targetIndex 대상 줄 번호 (DELETE 면 -1)
+     */
+    public record Edit(Type type, int baseIndex, int targetIndex) {
+    }
+
+    /**
+     * unified diff 의 한 덩어리. 줄 번호는 1부터, lines 는 ' '/'-'/'+' 로 시작한다.
+     */
+    public record Hunk(int baseStart, int baseLines, int targetStart, int targetLines, List<String> lines) {
+    }
+
+    private LineDiff() {
+    }
+
+    // 줄 구분자를 포함해 그대로 되돌릴 수 있도록 마지막 빈 줄도 남긴다
+    public static List<String> lines(String text) {
+        return Arrays.asList(text.split("\n", -1));
+    }
+
+    public static String join(List<String> lines) {
+        return String.join("\n", lines);
+    }
+
+    // join 결과의 길이 - 잇지 않고 복원 결과를 검증할 때 쓴다
+    public static int joinedLength(List<String> lines) {
+        int length = Math.max(0, lines.size() - 1);
+        for (String line : lines) {
+            length += line.length();
+        }
+        return length;
+    }
+
+    /**
+     * @return 기준 → 대상 편집 목록. 편집 거리가 maxEdits 를 넘으면 빈 값
+     */
+    public static Optional<List<Edit>> diff(List<String> base, List<String> target, int maxEdits) {
+        int prefix = 0;
+        while (prefix < base.size() && prefix < target.size() && base.get(prefix).equals(target.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < base.size() - prefix && suffix < target.size() - prefix
+                && base.get(base.size() - 1 - suffix).equals(target.get(target.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        // 가운데 바뀐 구간만 번호로 바꿔 비교한다
+        int[] a = new int[base.size() - prefix - suffix];
+        int[] b = new int[target.size() - prefix - suffix];
+        intern(base.subList(prefix, prefix + a.length), target.subList(prefix, prefix + b.length), a, b);
+        List<Edit> middle = myers(a, b, prefix, maxEdits);
+        if (middle == null) {
+            return Optional.empty();
+        }
+        List<Edit> edits = new ArrayList<>(base.size() + target.size() - prefix - suffix);
+        for (int i = 0; i < prefix; i++) {
+            edits.add(new Edit(Type.EQUAL, i, i));
+        }
+        edits.addAll(middle);
+        for (int i = suffix; i > 0; i--) {
+            edits.add(new Edit(Type.EQUAL, base.size() - i, target.size() - i));
+        }
+        return Optional.of(edits);
+    }
+
+    /**
+     * diff 와 같되 편집 거리가 상한을 넘으면 전체 삭제 후 전체 추가로 대신한다 (최소는 아니지만 올바른 편집 목록).
+     */
+    public static List<Edit> diffOrReplace(List<String> base, List<String> target) {
+        return diff(base, target, DEFAULT_MAX_EDITS).orElseGet(() -> {
+            List<Edit> edits = new ArrayList<>(base.size() + target.size());
+            for (int i = 0; i < base.size(); i++) {
+                edits.add(new Edit(Type.DELETE, i, -1));
+            }
+            for (int i = 0; i < target.size(); i++) {
+                edits.add(new Edit(Type.INSERT, -1, i));
+            }
+            return edits;
+        });
+    }
+
+    // 같은 줄은 같은 번호로 바꿔 비교를 int 비교로 만든다
+    private static void intern(List<String> base, List<String> target, int[] a, int[] b) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < a.length; i++) {
+            a[i] = ids.computeIfAbsent(base.get(i), line -> ids.size());
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = ids.computeIfAbsent(target.get(i), line -> ids.size());
+        }
+    }
+
+    /**
+     * a → b 의 최단 편집 경로. 결과 줄 번호에는 offset 을 더한다.
+     * 라운드마다 대각선 k ∈ [-d-1, d+1] 구간의 끝점만 저장해 두었다가 역추적한다 (메모리 O(D²)).
+     */
+    private static List<Edit> myers(int[] a, int[] b, int offset, int maxEdits) {
+        int n = a.length;
+        int m = b.length;
+        int limit = Math.min(n + m, maxEdits);
+        int center = limit + 1;
+        int[] v = new int[2 * limit + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= limit; d++) {
+            trace.add(Arrays.copyOfRange(v, center - d - 1, center + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[center + k - 1] < v[center + k + 1]))
+                        ? v[center + k + 1]
+                        : v[center + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[center + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, d, n, m, offset);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, int distance, int n, int m, int offset) {
+        List<Edit> edits = new ArrayList<>(n + m);
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            // trace[d] 의 0 번째 칸이 대각선 -d-1
+            boolean down = k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1]);
+            int previousK = down ? k + 1 : k - 1;
+            int previousX = v[previousK + d + 1];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+                edits.add(new Edit(Type.EQUAL, offset + x, offset + y));
+            }
+            if (down) {
+                edits.add(new Edit(Type.INSERT, -1, offset + previousY));
+            } else {
+                edits.add(new Edit(Type.DELETE, offset + previousX, -1));
+            }
+            x = previousX;
+            y = previousY;
+        }
+        while (x > 0 && y > 0) {
+            x--;
+            y--;
+            edits.add(new Edit(Type.EQUAL, offset + x, offset + y));
+        }
+        Collections.reverse(edits);
+        return edits;
+    }
+
+    /**
+     * 편집 목록을 앞뒤로 context 줄씩 붙인 unified diff 덩어리로 묶는다.
+     */
+    public static List<Hunk> hunks(List<Edit> edits, List<String> base, List<String> target, int context) {
+        List<Hunk> hunks = new ArrayList<>();
+        int i = 0;
+        while (i < edits.size()) {
+            while (i < edits.size() && edits.get(i).type() == Type.EQUAL) {
+                i++;
+            }
+            if (i == edits.size()) {
+                break;
+            }
+            int start = Math.max(0, i - context);
+            // 다음 변경까지 같은 줄이 context * 2 이하로 떨어져 있으면 한 덩어리로 합친다
+            int end = i;
+            int equalRun = 0;
+            while (end < edits.size() && equalRun <= context * 2) {
+                equalRun = edits.get(end).type() == Type.EQUAL ? equalRun + 1 : 0;
+                end++;
+            }
+            end -= Math.max(0, equalRun - context);
+            hunks.add(toHunk(edits.subList(start, end), base, target));
+            i = end;
+        }
+        return hunks;
+    }
+
+    private static Hunk toHunk(List<Edit> edits, List<String> base, List<String> target) {
+        int baseStart = -1;
+        int targetStart = -1;
+        int baseLines = 0;
+        int targetLines = 0;
+        List<String> lines = new ArrayList<>(edits.size());
+        for (Edit edit : edits) {
+            if (edit.type() != Type.INSERT) {
+                baseStart = baseStart < 0 ? edit.baseIndex() : baseStart;
+                baseLines++;
+            }
+            if (edit.type() != Type.DELETE) {
+                targetStart = targetStart < 0 ? edit.targetIndex() : targetStart;
+                targetLines++;
+            }
+            lines.add(switch (edit.type()) {
+                case EQUAL -> " " + base.get(edit.baseIndex());
+                case DELETE -> "-" + base.get(edit.baseIndex());
+                case INSERT -> "+" + target.get(edit.targetIndex());
+            });
+        }
+        return new Hunk(baseStart + 1, baseLines, targetStart + 1, targetLines, lines);
+    }
+}
@@ -0,0 +1,206 @@
+package com.blog.board.revision;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 리비전 본문 인코딩.
+ * <ul>
+ *   <li>스냅샷: 전체 본문 UTF-8 을 deflate 한 것</li>
+ *   <li>델타: 이전 본문 → 다음 본문 줄 단위 연산(COPY n / SKIP n / INSERT 줄들)을 varint 로 적고 deflate 한 것</li>
+ * </ul>
+ * 줄은 "\n" 으로 나누고 다시 "\n" 으로 이으므로 마지막 개행 유무까지 그대로 복원된다.
+ */
+public final class RevisionDelta {
+
+    private static final int COPY = 0;
+    private static final int SKIP = 1;
+    private static final int INSERT = 2;
+    private static final int END = 3;
+
+    // 델타가 본문 길이의 1/4 보다 작으면 전체 본문을 압축해 비교하지 않는다 - 4:1 넘게 압축되는 글은 드물다
+    private static final int COMPARE_RATIO = 4;
+
+    /**
+     * 저장할 데이터. snapshot 이면 전체 본문, 아니면 델타.
+     */
+    public record Encoded(byte[] data, boolean snapshot) {
+    }
+
+    private RevisionDelta() {
+    }
+
+    /**
+     * base → target 델타가 압축한 전체 본문보다 작으면 델타, 아니면 스냅샷.
+     * base 가 null 이면 바로 스냅샷을 만든다.
+     */
+    public static Encoded pack(String base, String target) {
+        Optional<byte[]> delta = base != null ? encode(base, target) : Optional.empty();
+        if (delta.isPresent() && (long) delta.get().length * COMPARE_RATIO < target.length()) {
+            return new Encoded(delta.get(), false);
+        }
+        byte[] snapshot = snapshot(target);
+        return delta.filter(bytes -> bytes.length < snapshot.length)
+                .map(bytes -> new Encoded(bytes, false))
+                .orElseGet(() -> new Encoded(snapshot, true));
+    }
+
+    public static byte[] snapshot(String content) {
+        return deflate(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String fromSnapshot(byte[] data) {
+        return new String(inflate(data), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return base → target 델타. 두 본문이 너무 많이 달라 편집 거리가 상한을 넘으면 빈 값 - 이런 글은 스냅샷이 더 작다
+     */
+    public static Optional<byte[]> encode(String base, String target) {
+        List<String> baseLines = LineDiff.lines(base);
+        List<String> targetLines = LineDiff.lines(target);
+        return LineDiff.diff(baseLines, targetLines, LineDiff.DEFAULT_MAX_EDITS)
+                .map(edits -> write(edits, targetLines));
+    }
+
+    public static String apply(String base, byte[] delta) {
+        return LineDiff.join(apply(LineDiff.lines(base), delta));
+    }
+
+    /**
+     * 줄 목록에 델타를 적용한다. 델타를 여러 개 이어 적용할 때 매번 본문을 나누고 잇지 않도록 줄 목록으로 주고받는다.
+     */
+    public static List<String> apply(List<String> baseLines, byte[] delta) {
+        List<String> result = new ArrayList<>(baseLines.size() + 16);
+        int position = 0;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(delta)))) {
+            for (int op = in.readUnsignedByte(); op != END; op = in.readUnsignedByte()) {
+                int count = readVarInt(in);
+                switch (op) {
+                    case COPY -> {
+                        result.addAll(baseLines.subList(position, position + count));
+                        position += count;
+                    }
+                    case SKIP -> position += count;
+                    case INSERT -> {
+                        for (int i = 0; i < count; i++) {
+                            byte[] line = new byte[readVarInt(in)];
+                            in.readFully(line);
+                            result.add(new String(line, StandardCharsets.UTF_8));
+                        }
+                    }
+                    default -> throw new IllegalStateException("알 수 없는 델타 연산: " + op);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (position != baseLines.size()) {
+            throw new IllegalStateException("델타가 기준 본문과 맞지 않습니다. 남은 줄: " + (baseLines.size() - position));
+        }
+        return result;
+    }
+
+    private static byte[] write(List<LineDiff.Edit> edits, List<String> targetLines) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            int i = 0;
+            while (i < edits.size()) {
+                LineDiff.Type type = edits.get(i).type();
+                int from = i;
+                while (i < edits.size() && edits.get(i).type() == type) {
+                    i++;
+                }
+                switch (type) {
+                    case EQUAL -> writeOp(out, COPY, i - from);
+                    case DELETE -> writeOp(out, SKIP, i - from);
+                    case INSERT -> {
+                        writeOp(out, INSERT, i - from);
+                        for (int j = from; j < i; j++) {
+                            byte[] line = targetLines.get(edits.get(j).targetIndex()).getBytes(StandardCharsets.UTF_8);
+                            writeVarInt(out, line.length);
+                            out.write(line);
+                        }
+                    }
+                }
+            }
+            out.writeByte(END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deflate(buffer.toByteArray());
+    }
+
+    // 기본 압축 수준 - 반복이 많은 글에서 BEST_COMPRESSION 은 몇 배 느리고 크기는 거의 같다
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 리비전 데이터가 잘렸습니다.");
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("리비전 데이터를 풀 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeOp(DataOutputStream out, int op, int count) throws IOException {
+        out.writeByte(op);
+        writeVarInt(out, count);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.blog.board.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 역색인. BM25 로 순위를 매긴다.
+ * 질의 토큰 중 색인에 있는 것을 모두 포함한 문서만 결과에 넣는다 (바이그램 OR 검색은 잡음이 너무 많다).
+ * 문서별 토큰 빈도를 함께 보관해 수정/삭제 시 해당 문서의 포스팅만 제거하고, 파일 저장도 이 값으로 한다.
+ */
+public class PostSearchIndex {
+
+    // 파일 형식이나 토크나이저가 바뀌면 올려서 기존 파일을 버리고 재색인하게 한다
+    static final int FORMAT_VERSION = 1;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    private long watermark;
+    // 변경마다 올리는 번호. 저장한 스냅샷의 번호와 다르면 저장할 것이 남아 있다
+    private long version;
+    private final AtomicLong savedVersion = new AtomicLong();
+
+    /**
+     * 게시글을 색인한다. 이미 더 최신 수정 시각으로 색인된 게시글이면 무시한다.
+     */
+    public void index(long postId, String title, String content, boolean published, long modifiedMillis) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(content)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            IndexedPost existing = posts.get(postId);
+            if (existing != null && existing.modifiedMillis() > modifiedMillis) {
+                return;
+            }
+            put(postId, new IndexedPost(published, length, modifiedMillis, termFrequencies));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            if (removePostings(postId)) {
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, boolean includeUnpublished, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return SearchResult.empty();
+        }
+        lock.readLock().lock();
+        try {
+            // 색인에 없는 토큰은 건너뛴다 - 띄어쓰기 없이 붙여 쓴 질의("스프링부트")의 경계 바이그램("링부") 때문
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> termPosting = postings.get(term);
+                if (termPosting != null) {
+                    termPostings.add(termPosting);
+                }
+            }
+            if (termPostings.isEmpty()) {
+                return SearchResult.empty();
+            }
+            // 가장 짧은 포스팅 목록을 기준으로 교집합을 구한다
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            int documentCount = posts.size();
+            double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            List<SearchHit> matches = new ArrayList<>();
+            candidates:
+            for (Long postId : termPostings.get(0).keySet()) {
+                IndexedPost post = posts.get(postId);
+                if (!includeUnpublished && !post.published()) {
+                    continue;
+                }
+                double score = 0;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Integer tf = termPostings.get(i).get(postId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double norm = K1 * (1 - B + B * post.length() / averageLength);
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                matches.add(new SearchHit(postId, score));
+            }
+            matches.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(Comparator.comparingLong(SearchHit::postId).reversed()));
+            int from = Math.min(Math.max(offset, 0), matches.size());
+            int to = Math.min(from + Math.max(limit, 0), matches.size());
+            return new SearchResult(matches.size(), List.copyOf(matches.subList(from, to)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> postIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(posts.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 게시글 중 가장 최근 수정 시각 - 재기동 시 이 시각 이후 변경분만 다시 색인한다
+    public long watermark() {
+        lock.readLock().lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDirty() {
+        lock.readLock().lock();
+        try {
+            return version != savedVersion.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체해 저장 도중 종료되어도 이전 파일이 남도록 한다.
+     * 파일 교체까지 끝나야 저장된 것으로 표시하며, 쓰는 동안 들어온 변경은 다음 저장 대상으로 남는다.
+     */
+    public void writeTo(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        long snapshotVersion;
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            snapshotVersion = version;
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(watermark);
+            out.writeInt(posts.size());
+            for (Map.Entry<Long, IndexedPost> entry : posts.entrySet()) {
+                IndexedPost post = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeBoolean(post.published());
+                out.writeLong(post.modifiedMillis());
+                out.writeInt(post.termFrequencies().size());
+                for (Map.Entry<String, Integer> term : post.termFrequencies().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // 동시에 저장한 더 최신 스냅샷 표시를 되돌리지 않는다
+        savedVersion.accumulateAndGet(snapshotVersion, Math::max);
+    }
+
+    /**
+     * 저장된 색인을 읽는다. 형식 버전이 다르면 null 을 반환해 전체 재색인하게 한다.
+     */
+    public static PostSearchIndex readFrom(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            PostSearchIndex index = new PostSearchIndex();
+            long watermark = in.readLong();
+            int postCount = in.readInt();
+            for (int i = 0; i < postCount; i++) {
+                long postId = in.readLong();
+                boolean published = in.readBoolean();
+                long modifiedMillis = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+                int length = 0;
+                for (int j = 0; j < termCount; j++) {
+                    String term = in.readUTF();
+                    int tf = in.readInt();
+                    termFrequencies.put(term, tf);
+                    length += tf;
+                }
+                index.put(postId, new IndexedPost(published, length, modifiedMillis, termFrequencies));
+            }
+            index.watermark = Math.max(index.watermark, watermark);
+            index.savedVersion.set(index.version);
+            return index;
+        }
+    }
+
+    private void put(long postId, IndexedPost post) {
+        removePostings(postId);
+        for (Map.Entry<String, Integer> term : post.termFrequencies().entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(postId, term.getValue());
+        }
+        posts.put(postId, post);
+        totalLength += post.length();
+        watermark = Math.max(watermark, post.modifiedMillis());
+        version++;
+    }
+
+    private boolean removePostings(long postId) {
+        IndexedPost removed = posts.remove(postId);
+        if (removed == null) {
+            return false;
+        }
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Long, Integer> termPosting = postings.get(term);
+            if (termPosting != null) {
+                termPosting.remove(postId);
+                if (termPosting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= removed.length();
+        return true;
+    }
+
+    private record IndexedPost(boolean published, int length, long modifiedMillis, Map<String, Integer> termFrequencies) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.blog.board.search;
+
+public record SearchHit(long postId, double score) {
+}
@@ -0,0 +1,11 @@
+package com.blog.board.search;
+
+import java.util.List;
+
+// total 은 페이지와 무관한 전체 일치 건수
+public record SearchResult(long total, List<SearchHit> hits) {
+
+    public static SearchResult empty() {
+        return new SearchResult(0, List.of());
+    }
+}
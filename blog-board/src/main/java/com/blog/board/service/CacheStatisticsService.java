@@ -0,0 +1,51 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.CacheStatisticsDto;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 적중률 조회 (hibernate.generate_statistics 가 켜져 있어야 집계된다)
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private static final List<String> ENTITY_REGIONS = List.of("category", "post");
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStatisticsDto> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheStatisticsDto> result = new ArrayList<>();
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics != null) {
+                result.add(toDto(region, regionStatistics));
+            }
+        }
+        CacheRegionStatistics queryStatistics = statistics.getQueryRegionStatistics(QUERY_REGION);
+        if (queryStatistics != null) {
+            result.add(toDto(QUERY_REGION, queryStatistics));
+        }
+        return result;
+    }
+
+    private CacheStatisticsDto toDto(String region, CacheRegionStatistics statistics) {
+        return CacheStatisticsDto.builder()
+                .region(region)
+                .hitCount(statistics.getHitCount())
+                .missCount(statistics.getMissCount())
+                .putCount(statistics.getPutCount())
+                .elementCountInMemory(statistics.getElementCountInMemory())
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.dto.CategoryDeletionJobDto;
+import com.blog.board.dto.CategoryDeletionJobDto.Status;
+import com.blog.board.dto.PostStateProjection;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.exception.CategoryDeletionJobNotFoundException;
+import com.blog.board.exception.CategoryNotFoundException;
+import com.blog.board.exception.InvalidCategoryTargetException;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 삭제 작업.
+ * 게시글을 다른 카테고리로 옮기거나(targetCategoryId) 함께 지운 뒤 카테고리를 삭제한다.
+ * 청크마다 ID/발행 여부만 조회하고 ID 목록으로 bulk UPDATE/DELETE 하므로 본문을 읽지 않으며,
+ * 트랜잭션 하나가 잡는 행 잠금은 카테고리 크기와 관계없이 청크 크기로 제한된다.
+ * 작업 상태는 이 노드의 메모리에만 있으며, 끝난 작업은 일정 시간 뒤 정리된다.
+ */
+@Slf4j
+@Service
+public class CategoryDeletionService {
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+
+    public CategoryDeletionService(CategoryRepository categoryRepository,
+                                   PostRepository postRepository,
+                                   PostCounterService postCounterService,
+                                   CategoryService categoryService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                   @Value("${blog.category-deletion.chunk-size:500}") int chunkSize) {
+        this.categoryRepository = categoryRepository;
+        this.postRepository = postRepository;
+        this.postCounterService = postCounterService;
+        this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 삭제 작업을 시작한다. 같은 카테고리에 진행 중인 작업이 있으면 그 작업을 돌려준다.
+     *
+     * @param targetCategoryId 게시글을 옮길 카테고리, null 이면 게시글도 삭제
+     */
+    public CategoryDeletionJobDto start(Long categoryId, Long targetCategoryId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            log.warn("카테고리를 찾을 수 없습니다 - ID: {}", categoryId);
+            throw new CategoryNotFoundException();
+        }
+        if (targetCategoryId != null) {
+            if (Objects.equals(categoryId, targetCategoryId)) {
+                throw new InvalidCategoryTargetException();
+            }
+            if (!categoryRepository.existsById(targetCategoryId)) {
+                log.warn("게시글을 옮길 카테고리를 찾을 수 없습니다 - ID: {}", targetCategoryId);
+                throw new CategoryNotFoundException();
+            }
+        }
+        pruneFinishedJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), categoryId, targetCategoryId,
+                postCounterService.count(categoryId, true));
+        synchronized (jobs) {
+            for (Job running : jobs.values()) {
+                if (running.categoryId.equals(categoryId) && !running.isFinished()) {
+                    return running.toDto();
+                }
+            }
+            jobs.put(job.jobId, job);
+        }
+        log.info("카테고리 삭제 작업 등록 - 작업: {}, 카테고리 ID: {}, 이동 대상: {}, 게시글: {}건",
+                job.jobId, categoryId, targetCategoryId, job.totalPosts);
+        taskExecutor.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    public CategoryDeletionJobDto getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new CategoryDeletionJobNotFoundException();
+        }
+        return job.toDto();
+    }
+
+    private void run(Job job) {
+        job.running();
+        try {
+            int processed;
+            do {
+                Integer chunk = transactionTemplate.execute(status -> processChunk(job));
+                processed = chunk != null ? chunk : 0;
+                job.processed(processed);
+            } while (processed > 0);
+            transactionTemplate.executeWithoutResult(status -> categoryService.deleteCategory(job.categoryId));
+            job.finish(Status.COMPLETED, null);
+            log.info("카테고리 삭제 작업 완료 - 작업: {}, 카테고리 ID: {}, 게시글: {}건",
+                    job.jobId, job.categoryId, job.processedPosts);
+        } catch (RuntimeException e) {
+            // 이미 처리한 청크는 커밋된 상태로 남는다 - 같은 요청을 다시 보내면 남은 게시글부터 이어서 처리한다
+            job.finish(Status.FAILED, e.getMessage());
+            log.error("카테고리 삭제 작업 실패 - 작업: {}, 카테고리 ID: {}, 처리: {}건",
+                    job.jobId, job.categoryId, job.processedPosts, e);
+        }
+    }
+
+    private int processChunk(Job job) {
+        List<PostStateProjection> states = postRepository.findStatesByCategoryId(job.categoryId, PageRequest.of(0, chunkSize));
+        if (states.isEmpty()) {
+            return 0;
+        }
+        List<Long> postIds = states.stream().map(PostStateProjection::postId).toList();
+
+        if (job.targetCategoryId != null) {
+            Category target = categoryRepository.getReferenceById(job.targetCategoryId);
+            postRepository.moveToCategory(postIds, target, LocalDateTime.now());
+            postCounterService.onBulkMoved(states, job.targetCategoryId);
+            // 옮긴 게시글의 카테고리가 바뀌었으므로 게시글 단위 캐시·색인·스냅샷도 청크 커밋 후 갱신한다
+            eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.ChangeType.UPDATED, postIds));
+            eventPublisher.publishEvent(new CategoryChangedEvent(job.targetCategoryId));
+        } else {
+            postRepository.deleteAllByPostIdIn(postIds);
+            postCounterService.onBulkDeleted(states);
+            eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.ChangeType.DELETED, postIds));
+        }
+        return postIds.size();
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(threshold));
+    }
+
+    // 진행 상황은 작업 스레드만 쓰고 조회 요청이 읽는다
+    private static final class Job {
+        private final String jobId;
+        private final Long categoryId;
+        private final Long targetCategoryId;
+        private final long totalPosts;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile Status status = Status.QUEUED;
+        private volatile long processedPosts;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(String jobId, Long categoryId, Long targetCategoryId, long totalPosts) {
+            this.jobId = jobId;
+            this.categoryId = categoryId;
+            this.targetCategoryId = targetCategoryId;
+            this.totalPosts = totalPosts;
+        }
+
+        private void running() {
+            status = Status.RUNNING;
+        }
+
+        private void processed(int count) {
+            processedPosts += count;
+        }
+
+        private void finish(Status result, String message) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            status = result;
+        }
+
+        private boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        private CategoryDeletionJobDto toDto() {
+            return CategoryDeletionJobDto.builder()
+                    .jobId(jobId)
+                    .categoryId(categoryId)
+                    .targetCategoryId(targetCategoryId)
+                    .status(status)
+                    .totalPosts(totalPosts)
+                    .processedPosts(processedPosts)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.support.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회용 카테고리 필터 해석기.
+ * 메모리의 이름→ID 맵으로만 응답하고, 없는 이름은 부정 캐시에 넣어 맵 갱신 주기와 무관하게 바로 빈 결과를 돌려준다.
+ * 카테고리를 생성하지 않으므로 익명 GET 요청이 쓰기 트랜잭션을 열지 않는다.
+ * 카테고리 변경 이벤트를 받으면 맵과 부정 캐시를 비우고, 그 전에 시작한 조회가 변경 전 결과를 다시 넣지 못하게 세대를 올린다.
+ */
+@Slf4j
+@Component
+public class CategoryFilterResolver {
+
+    private final CategoryRepository categoryRepository;
+    private final LruCache<String, Boolean> unknownNames;
+    private final long refreshIntervalMillis;
+    // 카테고리 변경 이벤트마다 올라간다 - 조회 중에 바뀌었으면 그 조회 결과는 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public CategoryFilterResolver(CategoryRepository categoryRepository,
+                                  @Value("${blog.category-filter.negative-cache-size:1000}") int negativeCacheSize,
+                                  @Value("${blog.category-filter.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.categoryRepository = categoryRepository;
+        this.unknownNames = new LruCache<>(negativeCacheSize);
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+    }
+
+    public Optional<Long> resolve(String categoryName) {
+        String trimmedName = categoryName.trim();
+        if (unknownNames.contains(trimmedName)) {
+            return Optional.empty();
+        }
+        long seen = generation.get();
+        Long categoryId = categories().get(trimmedName);
+        if (categoryId == null) {
+            unknownNames.put(trimmedName, Boolean.TRUE);
+            // 변경 전 맵으로 판단한 이름이 invalidate 뒤에 들어갔으면 되돌린다 - 새로 만든 카테고리가 막히지 않게
+            if (generation.get() != seen) {
+                unknownNames.remove(trimmedName);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(categoryId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        unknownNames.clear();
+    }
+
+    // 다른 인스턴스에서 변경된 카테고리도 반영되도록 주기적으로 다시 읽는다
+    private Map<String, Long> categories() {
+        Snapshot current = snapshot;
+        long currentGeneration = generation.get();
+        if (current == null || current.generation() != currentGeneration
+                || System.currentTimeMillis() - current.loadedAt() > refreshIntervalMillis) {
+            // 읽는 중에 카테고리가 바뀌면 세대가 달라 다음 조회에서 다시 읽는다
+            current = new Snapshot(categoryRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(Category::getCategoryName, Category::getCategoryId)),
+                    currentGeneration, System.currentTimeMillis());
+            snapshot = current;
+            unknownNames.clear();
+            log.debug("카테고리 필터 맵 갱신 - {}건", current.nameToId().size());
+        }
+        return current.nameToId();
+    }
+
+    private record Snapshot(Map<String, Long> nameToId, long generation, long loadedAt) {
+    }
+}
@@ -3,27 +3,36 @@ package com.blog.board.service;
 import com.blog.board.exception.CategoryAlreadyExistsException;
 import com.blog.board.exception.CategoryNotFoundException;
 import com.blog.board.domain.Category;
+import com.blog.board.domain.PostCounter;
 import com.blog.board.dto.CategoryDto;
+import com.blog.board.event.CategoryChangedEvent;
 import com.blog.board.repository.CategoryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "blog.service", histogram = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostCounterService postCounterService;
 
     @Transactional(readOnly = true)
     public List<CategoryDto> findAllCategories() {
+        Map<Long, PostCounter> counters = postCounterService.findAllByCategory();
         return categoryRepository.findAll().stream()
-                .map(CategoryDto::fromEntity)
+                .map(category -> CategoryDto.fromEntity(category, counters.get(category.getCategoryId())))
                 .toList();
     }
 
@@ -40,7 +49,9 @@ public class CategoryService {
                 .categoryName(trimmedName)
                 .build();
 
-        return categoryRepository.save(newCategory);
+        Category savedCategory = categoryRepository.save(newCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getCategoryId()));
+        return savedCategory;
     }
 
     @Transactional
@@ -56,6 +67,7 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(newCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getCategoryId()));
         return CategoryDto.fromEntity(savedCategory);
     }
 
@@ -74,9 +86,13 @@ public class CategoryService {
         }
 
         category.updateName(trimmedName);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
         return CategoryDto.fromEntity(category);
     }
 
+    /**
+     * 카테고리 행과 카운터만 지운다. 게시글은 먼저 CategoryDeletionService 가 옮기거나 지운 상태여야 한다.
+     */
     @Transactional
     public void deleteCategory(Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
@@ -86,6 +102,8 @@ public class CategoryService {
                 });
         String categoryName = category.getCategoryName();
         categoryRepository.delete(category);
+        postCounterService.onCategoryDeleted(categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
         log.info("카테고리 삭제 완료 - ID: {}, 이름: {}", categoryId, categoryName);
     }
 }
@@ -0,0 +1,86 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.ContentVersionCounter;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.repository.ContentVersionCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글/카테고리 변경 시마다 증가하는 콘텐츠 버전. 목록 응답의 ETag 로 사용한다.
+ * 버전은 content_version 행에 두고 변경한 트랜잭션의 커밋 직전에 올리므로, 변경과 함께 커밋/롤백되고
+ * 인스턴스가 여러 개이거나 재시작해도 같은 데이터에는 같은 버전이 나온다.
+ * 쓰기 트랜잭션들은 커밋 직전에만 이 행을 잠그므로 다른 행을 잠근 채 기다리는 일은 없다.
+ */
+@Slf4j
+@Component
+public class ContentVersion {
+
+    private final ContentVersionCounterRepository contentVersionCounterRepository;
+    private final TransactionTemplate createTransaction;
+
+    // 행이 있는 것을 확인했는지 - 처음 한 번만 존재를 확인한다
+    private volatile boolean rowExists;
+
+    public ContentVersion(ContentVersionCounterRepository contentVersionCounterRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.contentVersionCounterRepository = contentVersionCounterRepository;
+        // 호출한 트랜잭션과 따로 커밋해, 같은 행을 동시에 만들려던 다른 요청이 곧바로 중복 키를 받게 한다
+        this.createTransaction = new TransactionTemplate(transactionManager);
+        this.createTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long current() {
+        return contentVersionCounterRepository.findVersion(ContentVersionCounter.SINGLETON_ID).orElse(0L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        increment();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        increment();
+    }
+
+    private void increment() {
+        if (!rowExists) {
+            ensureRow();
+        }
+        if (contentVersionCounterRepository.increment(ContentVersionCounter.SINGLETON_ID) == 0) {
+            // 확인한 뒤에 행이 지워졌다 - 이 트랜잭션에서 다시 만든다
+            rowExists = false;
+            contentVersionCounterRepository.save(ContentVersionCounter.builder()
+                    .id(ContentVersionCounter.SINGLETON_ID)
+                    .version(System.currentTimeMillis())
+                    .build());
+        }
+    }
+
+    /**
+     * 버전 행이 없으면 만든다. 시작 값을 현재 시각으로 두어 DB 를 새로 만든 뒤에도 이전 ETag 와 겹치지 않게 한다.
+     * 동시에 만들면 한 요청만 성공하고 나머지는 중복 키 예외를 받는데, 행은 이미 있으므로 무시한다.
+     */
+    private void ensureRow() {
+        if (!contentVersionCounterRepository.existsById(ContentVersionCounter.SINGLETON_ID)) {
+            try {
+                createTransaction.executeWithoutResult(status -> contentVersionCounterRepository.saveAndFlush(
+                        ContentVersionCounter.builder()
+                                .id(ContentVersionCounter.SINGLETON_ID)
+                                .version(System.currentTimeMillis())
+                                .build()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("콘텐츠 버전 행을 다른 요청이 먼저 만들었습니다");
+            }
+        }
+        rowExists = true;
+    }
+}
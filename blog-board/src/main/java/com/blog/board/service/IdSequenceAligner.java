@@ -0,0 +1,57 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * IDENTITY 로 만들어진 기존 행이 있을 때 pooled 테이블 생성기의 다음 값을 기존 최대 ID 뒤로 옮긴다.
+ * 생성기가 첫 ID 를 발급하기 전(웹 서버 시작 전)에 실행되며, 값을 올리기만 하므로 여러 노드가 동시에 실행해도 된다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align("categories", "category_id", Category.ID_SEQUENCE_NAME, Category.ID_ALLOCATION_SIZE);
+    }
+
+    void align(String table, String idColumn, String sequenceName, int allocationSize) {
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // pooled 최적화기는 읽은 값 v 에 대해 (v - allocationSize, v] 구간을 쓰므로 최대 ID + allocationSize 이상이어야 한다
+        long required = maxId + allocationSize;
+        String updateSql = "update " + Category.ID_SEQUENCE_TABLE + " set next_val = ? where sequence_name = ? and next_val < ?";
+        if (jdbcTemplate.update(updateSql, required, sequenceName, required) > 0) {
+            log.info("ID 시퀀스 보정 - {} 다음 값을 {} 로 올렸습니다", sequenceName, required);
+            return;
+        }
+        Integer exists = jdbcTemplate.queryForObject(
+                "select count(*) from " + Category.ID_SEQUENCE_TABLE + " where sequence_name = ?", Integer.class, sequenceName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("insert into " + Category.ID_SEQUENCE_TABLE + " (sequence_name, next_val) values (?, ?)",
+                    sequenceName, required);
+            log.info("ID 시퀀스 생성 - {} 다음 값 {}", sequenceName, required);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 만든 경우 - 값만 다시 맞춘다
+            jdbcTemplate.update(updateSql, required, sequenceName, required);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.PostBulkCommandDto;
+import com.blog.board.dto.PostBulkCommandDto.Action;
+import com.blog.board.dto.PostBulkResultDto;
+import com.blog.board.dto.PostBulkResultDto.Outcome;
+import com.blog.board.dto.PostBulkResultDto.Result;
+import com.blog.board.dto.PostStateProjection;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.event.PostChangedEvent.ChangeType;
+import com.blog.board.exception.InvalidPostBulkRequestException;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 일괄 발행/비공개/카테고리 이동/삭제.
+ * 청크마다 ID·카테고리·발행 여부만 조회해 바뀌어야 하는 게시글을 고르고, ID 목록으로 UPDATE/DELETE 한 문장을 실행한다.
+ * 엔티티를 읽지 않으므로 본문을 올리지 않고, 이벤트(캐시 무효화)는 요청 전체에 대해 한 번만 발행한다.
+ * 청크는 각각 커밋되므로 중간에 실패하면 앞선 청크의 변경은 남는다 - 같은 요청을 다시 보내면 남은 게시글만 바뀐다.
+ * 필터 대상이 최대 건수를 넘으면 마지막으로 처리한 ID 를 돌려주고, 다음 요청은 그 ID 다음부터 훑는다.
+ */
+@Slf4j
+@Service
+@Timed(value = "blog.service", histogram = true)
+public class PostBulkService {
+
+    private final PostRepository postRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final CategoryFilterResolver categoryFilterResolver;
+    private final PostCounterService postCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxPosts;
+
+    public PostBulkService(PostRepository postRepository,
+                           CategoryRepository categoryRepository,
+                           CategoryService categoryService,
+                           CategoryFilterResolver categoryFilterResolver,
+                           PostCounterService postCounterService,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${blog.post-bulk.chunk-size:500}") int chunkSize,
+                           @Value("${blog.post-bulk.max-posts:10000}") int maxPosts) {
+        this.postRepository = postRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.categoryFilterResolver = categoryFilterResolver;
+        this.postCounterService = postCounterService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxPosts = maxPosts;
+    }
+
+    public PostBulkResultDto apply(PostBulkCommandDto command) {
+        validate(command);
+        Action action = command.getAction();
+        Long targetCategoryId = action == Action.MOVE
+                ? categoryService.findOrCreateCategory(command.getTargetCategoryName()).getCategoryId()
+                : null;
+
+        List<Outcome> outcomes = new ArrayList<>();
+        Long nextAfterId = null;
+        try {
+            if (command.hasPostIds()) {
+                List<Long> postIds = command.getPostIds().stream().filter(Objects::nonNull).distinct().toList();
+                applyToPostIds(action, postIds, targetCategoryId, outcomes);
+            } else {
+                nextAfterId = applyToFilter(command, targetCategoryId, outcomes);
+            }
+        } finally {
+            // 실패하더라도 이미 커밋된 청크의 변경은 캐시에 반영한다
+            publishChanged(action, outcomes);
+        }
+        PostBulkResultDto result = PostBulkResultDto.builder()
+                .action(action)
+                .outcomes(outcomes)
+                .hasMore(nextAfterId != null)
+                .nextAfterId(nextAfterId)
+                .build();
+        log.info("게시글 일괄 변경 완료 - 작업: {}, 적용: {}건, 변경 없음: {}건, 없음: {}건", action,
+                result.count(Result.APPLIED), result.count(Result.UNCHANGED), result.count(Result.NOT_FOUND));
+        return result;
+    }
+
+    private void applyToPostIds(Action action, List<Long> postIds, Long targetCategoryId, List<Outcome> outcomes) {
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + chunkSize, postIds.size()));
+            outcomes.addAll(transactionTemplate.execute(status -> {
+                Map<Long, PostStateProjection> states = postRepository.findStatesByPostIdIn(chunk).stream()
+                        .collect(Collectors.toMap(PostStateProjection::postId, Function.identity()));
+                List<PostStateProjection> changed = applyChunk(action, List.copyOf(states.values()), targetCategoryId);
+                Set<Long> changedIds = changed.stream().map(PostStateProjection::postId).collect(Collectors.toSet());
+                return chunk.stream()
+                        .map(postId -> new Outcome(postId, !states.containsKey(postId) ? Result.NOT_FOUND
+                                : changedIds.contains(postId) ? Result.APPLIED : Result.UNCHANGED))
+                        .toList();
+            }));
+        }
+    }
+
+    /**
+     * 필터는 게시글 ID 키셋으로 훑는다 - 처리한 게시글이 필터에서 빠져도 건너뛰거나 다시 읽지 않는다.
+     * 바꿀 필요가 없는(UNCHANGED) 게시글은 필터에 남으므로, 다음 요청이 처음부터 다시 훑지 않도록 이어서 시작할 ID 를 돌려준다.
+     *
+     * @return 남은 대상이 있으면 마지막으로 처리한 게시글 ID, 없으면 null
+     */
+    private Long applyToFilter(PostBulkCommandDto command, Long targetCategoryId, List<Outcome> outcomes) {
+        Long categoryId = null;
+        if (command.getCategoryName() != null && !command.getCategoryName().isBlank()) {
+            Optional<Long> resolved = categoryFilterResolver.resolve(command.getCategoryName());
+            if (resolved.isEmpty()) {
+                return null;
+            }
+            categoryId = resolved.get();
+        }
+        Long filterCategoryId = categoryId;
+        long afterId = command.getAfterId() != null ? command.getAfterId() : 0L;
+        while (outcomes.size() < maxPosts) {
+            long lastId = afterId;
+            int limit = Math.min(chunkSize, maxPosts - outcomes.size());
+            List<Outcome> chunk = transactionTemplate.execute(status -> {
+                List<PostStateProjection> states = postRepository.findStatesAfter(
+                        lastId, filterCategoryId, command.getPublished(), PageRequest.of(0, limit));
+                Set<Long> changedIds = applyChunk(command.getAction(), states, targetCategoryId).stream()
+                        .map(PostStateProjection::postId)
+                        .collect(Collectors.toSet());
+                return states.stream()
+                        .map(state -> new Outcome(state.postId(),
+                                changedIds.contains(state.postId()) ? Result.APPLIED : Result.UNCHANGED))
+                        .toList();
+            });
+            outcomes.addAll(chunk);
+            if (chunk.size() < limit) {
+                return null;
+            }
+            afterId = chunk.get(chunk.size() - 1).postId();
+        }
+        boolean hasMore = !postRepository.findStatesAfter(afterId, filterCategoryId, command.getPublished(),
+                PageRequest.of(0, 1)).isEmpty();
+        return hasMore ? afterId : null;
+    }
+
+    /**
+     * 바뀌어야 하는 게시글만 골라 한 문장으로 변경하고 카운터를 카테고리별로 한 번씩 보정한다.
+     */
+    private List<PostStateProjection> applyChunk(Action action, List<PostStateProjection> states, Long targetCategoryId) {
+        List<PostStateProjection> changed = states.stream()
+                .filter(state -> switch (action) {
+                    case PUBLISH -> !state.published();
+                    case UNPUBLISH -> state.published();
+                    case MOVE -> !Objects.equals(state.categoryId(), targetCategoryId);
+                    case DELETE -> true;
+                })
+                .toList();
+        if (changed.isEmpty()) {
+            return changed;
+        }
+        List<Long> postIds = changed.stream().map(PostStateProjection::postId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        switch (action) {
+            case PUBLISH, UNPUBLISH -> {
+                boolean published = action == Action.PUBLISH;
+                postRepository.updatePublished(postIds, published, now);
+                postCounterService.onBulkPublished(changed, published);
+            }
+            case MOVE -> {
+                postRepository.moveToCategory(postIds, categoryRepository.getReferenceById(targetCategoryId), now);
+                postCounterService.onBulkMoved(changed, targetCategoryId);
+            }
+            case DELETE -> {
+                postRepository.deleteAllByPostIdIn(postIds);
+                postCounterService.onBulkDeleted(changed);
+            }
+        }
+        return changed;
+    }
+
+    private void publishChanged(Action action, List<Outcome> outcomes) {
+        List<Long> applied = outcomes.stream()
+                .filter(outcome -> outcome.result() == Result.APPLIED)
+                .map(Outcome::postId)
+                .toList();
+        if (applied.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(
+                action == Action.DELETE ? ChangeType.DELETED : ChangeType.UPDATED, applied));
+    }
+
+    private void validate(PostBulkCommandDto command) {
+        if (command.getAction() == null || command.hasPostIds() == command.hasFilter()) {
+            throw new InvalidPostBulkRequestException();
+        }
+        if (command.hasPostIds() && command.getPostIds().size() > maxPosts) {
+            throw new InvalidPostBulkRequestException();
+        }
+        if (command.getAction() == Action.MOVE
+                && (command.getTargetCategoryName() == null || command.getTargetCategoryName().isBlank())) {
+            throw new InvalidPostBulkRequestException();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.blog.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 카운터 재계산 스케줄.
+ * 기동 시 한 번 실행해 카운터 테이블이 비어있는 기존 데이터도 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconcileJob {
+
+    private final PostCounterService postCounterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        postCounterService.reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.post-counter.reconcile-interval:PT1H}",
+            initialDelayString = "${blog.post-counter.reconcile-interval:PT1H}")
+    public void reconcilePeriodically() {
+        postCounterService.reconcile();
+    }
+}
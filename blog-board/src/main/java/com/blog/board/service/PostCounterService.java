@@ -0,0 +1,245 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.domain.PostCounter;
+import com.blog.board.dto.PostCountProjection;
+import com.blog.board.dto.PostStateProjection;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 수 카운터 관리.
+ * 쓰기 메서드는 호출한 서비스의 트랜잭션에 참여해 게시글 변경과 함께 커밋/롤백된다.
+ * 카운터가 어긋나더라도 주기적 재계산(reconcile)에서 실제 집계값으로 보정된다.
+ * 카운터 행이 없으면 증감 전에 별도 트랜잭션에서 0으로 만들어 두므로 증감은 항상 UPDATE 한 문장이다.
+ */
+@Slf4j
+@Service
+public class PostCounterService {
+
+    private final PostCounterRepository postCounterRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate createTransaction;
+
+    // 행이 있는 것을 확인한 카운터 - 카테고리마다 처음 한 번만 존재를 확인한다
+    private final Set<Long> existingCounters = ConcurrentHashMap.newKeySet();
+
+    public PostCounterService(PostCounterRepository postCounterRepository,
+                              PostRepository postRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.postCounterRepository = postCounterRepository;
+        this.postRepository = postRepository;
+        // 호출한 트랜잭션과 따로 커밋해, 같은 행을 동시에 만들려던 다른 요청이 곧바로 중복 키를 받게 한다
+        this.createTransaction = new TransactionTemplate(transactionManager);
+        this.createTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Post post) {
+        adjust(categoryIdOf(post), 1, post.isPublished() ? 1 : 0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Post post) {
+        adjust(categoryIdOf(post), -1, post.isPublished() ? -1 : 0);
+    }
+
+    // 발행 여부 변경과 카테고리 이동을 한 번에 반영한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUpdated(Long oldCategoryId, boolean wasPublished, Post post) {
+        Long newCategoryId = categoryIdOf(post);
+        int oldPublished = wasPublished ? 1 : 0;
+        int newPublished = post.isPublished() ? 1 : 0;
+        if (!Objects.equals(oldCategoryId, newCategoryId)) {
+            adjustCategory(oldCategoryId, -1, -oldPublished);
+            adjustCategory(newCategoryId, 1, newPublished);
+        } else {
+            adjustCategory(newCategoryId, 0, newPublished - oldPublished);
+        }
+        adjustCategory(PostCounter.GLOBAL_ID, 0, newPublished - oldPublished);
+    }
+
+    // 일괄 변경은 엔티티 없이 변경 전 상태(PostStateProjection)로 카테고리별 합계를 한 번씩 반영한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBulkPublished(List<PostStateProjection> changed, boolean published) {
+        int sign = published ? 1 : -1;
+        Map<Long, long[]> byCategory = sumByCategory(changed);
+        byCategory.forEach((categoryId, sums) -> adjustCategory(categoryId, 0, sign * sums[0]));
+        adjustCategory(PostCounter.GLOBAL_ID, 0, sign * (long) changed.size());
+    }
+
+    // 카테고리 이동 - 전체 수는 그대로
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBulkMoved(List<PostStateProjection> moved, Long targetCategoryId) {
+        Map<Long, long[]> byCategory = sumByCategory(moved);
+        long published = 0;
+        for (Map.Entry<Long, long[]> entry : byCategory.entrySet()) {
+            adjustCategory(entry.getKey(), -entry.getValue()[1], -entry.getValue()[0]);
+            published += entry.getValue()[0];
+        }
+        adjustCategory(targetCategoryId, moved.size(), published);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBulkDeleted(List<PostStateProjection> deleted) {
+        Map<Long, long[]> byCategory = sumByCategory(deleted);
+        long published = 0;
+        for (Map.Entry<Long, long[]> entry : byCategory.entrySet()) {
+            adjustCategory(entry.getKey(), -entry.getValue()[1], -entry.getValue()[0]);
+            published += entry.getValue()[0];
+        }
+        adjustCategory(PostCounter.GLOBAL_ID, -deleted.size(), -published);
+    }
+
+    // 카테고리 삭제 시 소속 게시글 수만큼 전체 카운터를 줄이고 카테고리 행을 지운다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCategoryDeleted(Long categoryId) {
+        postCounterRepository.findById(categoryId).ifPresent(counter -> {
+            adjustCategory(PostCounter.GLOBAL_ID, -counter.getTotalCount(), -counter.getPublishedCount());
+            postCounterRepository.delete(counter);
+        });
+        existingCounters.remove(categoryId);
+    }
+
+    @Transactional(readOnly = true)
+    public long count(Long categoryId, boolean isAdmin) {
+        return postCounterRepository.findById(categoryId != null ? categoryId : PostCounter.GLOBAL_ID)
+                .map(counter -> isAdmin ? counter.getTotalCount() : counter.getPublishedCount())
+                .orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, PostCounter> findAllByCategory() {
+        return postCounterRepository.findAll().stream()
+                .filter(counter -> counter.getCategoryId() != PostCounter.GLOBAL_ID)
+                .collect(Collectors.toMap(PostCounter::getCategoryId, Function.identity()));
+    }
+
+    /**
+     * 실제 집계와 비교해 어긋난 카운터만 고친다.
+     * 카운터 행을 먼저 잠그고 집계한다 - 집계와 덮어쓰기 사이에 커밋된 증감이 덮여 사라지지 않도록,
+     * 진행 중인 게시글 쓰기는 커밋한 뒤에 집계하고 이후의 쓰기는 재계산이 끝난 뒤 증감한다.
+     */
+    @Transactional
+    public int reconcile() {
+        Map<Long, PostCounter> counters = postCounterRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(PostCounter::getCategoryId, Function.identity()));
+        List<PostCountProjection> actual = postRepository.countGroupByCategory();
+        Map<Long, long[]> expected = new HashMap<>();
+        long total = 0;
+        long published = 0;
+        for (PostCountProjection row : actual) {
+            total += row.totalCount();
+            published += row.publishedCount();
+            if (row.categoryId() != null) {
+                expected.put(row.categoryId(), new long[]{row.totalCount(), row.publishedCount()});
+            }
+        }
+        expected.put(PostCounter.GLOBAL_ID, new long[]{total, published});
+
+        int fixed = 0;
+        for (Map.Entry<Long, long[]> entry : expected.entrySet()) {
+            long[] values = entry.getValue();
+            PostCounter counter = counters.remove(entry.getKey());
+            if (counter == null) {
+                postCounterRepository.save(PostCounter.builder()
+                        .categoryId(entry.getKey())
+                        .totalCount(values[0])
+                        .publishedCount(values[1])
+                        .build());
+                fixed++;
+            } else if (counter.getTotalCount() != values[0] || counter.getPublishedCount() != values[1]) {
+                log.warn("게시글 카운터 보정 - 카테고리 ID: {}, 전체: {} -> {}, 발행: {} -> {}", entry.getKey(),
+                        counter.getTotalCount(), values[0], counter.getPublishedCount(), values[1]);
+                counter.reset(values[0], values[1]);
+                fixed++;
+            }
+        }
+        // 게시글이 하나도 없는 카테고리의 카운터는 0으로 맞춘다
+        for (PostCounter counter : counters.values()) {
+            if (counter.getTotalCount() != 0 || counter.getPublishedCount() != 0) {
+                counter.reset(0, 0);
+                fixed++;
+            }
+        }
+        if (fixed > 0) {
+            log.info("게시글 카운터 재계산 완료 - 보정 {}건", fixed);
+        }
+        return fixed;
+    }
+
+    private void adjust(Long categoryId, long total, long published) {
+        adjustCategory(categoryId, total, published);
+        adjustCategory(PostCounter.GLOBAL_ID, total, published);
+    }
+
+    private void adjustCategory(Long categoryId, long total, long published) {
+        if (categoryId == null || (total == 0 && published == 0)) {
+            return;
+        }
+        if (!existingCounters.contains(categoryId)) {
+            ensureCounter(categoryId);
+        }
+        if (postCounterRepository.adjust(categoryId, total, published) == 0) {
+            // 확인한 뒤에 행이 지워졌다(다른 곳에서 카테고리 삭제 등) - 이 트랜잭션에서 다시 만들고 음수는 재계산에 맡긴다
+            existingCounters.remove(categoryId);
+            postCounterRepository.save(PostCounter.builder()
+                    .categoryId(categoryId)
+                    .totalCount(Math.max(total, 0))
+                    .publishedCount(Math.max(published, 0))
+                    .build());
+        }
+    }
+
+    /**
+     * 카운터 행이 없으면 0으로 만든다. 같은 카테고리의 첫 게시글이 동시에 들어오면 한 요청만 INSERT 에 성공하고
+     * 나머지는 중복 키 예외를 받는데, 행은 이미 있으므로 무시하고 UPDATE 로 증감한다.
+     * 없는 행을 먼저 UPDATE 하면 MySQL(REPEATABLE READ)은 그 구간에 갭 락을 걸어
+     * 별도 트랜잭션의 INSERT 가 호출한 트랜잭션을 기다리게 되므로, 존재 확인은 잠그지 않는 SELECT 로 먼저 한다.
+     */
+    private void ensureCounter(Long categoryId) {
+        if (!postCounterRepository.existsById(categoryId)) {
+            try {
+                createTransaction.executeWithoutResult(status -> postCounterRepository.saveAndFlush(
+                        PostCounter.builder().categoryId(categoryId).totalCount(0).publishedCount(0).build()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("게시글 카운터 행을 다른 요청이 먼저 만들었습니다 - 카테고리 ID: {}", categoryId);
+            }
+        }
+        existingCounters.add(categoryId);
+    }
+
+    // 카테고리 ID → {발행 수, 전체 수}. 카테고리 없는 게시글은 null 키로 모이며 adjustCategory 가 무시한다
+    private Map<Long, long[]> sumByCategory(List<PostStateProjection> states) {
+        Map<Long, long[]> sums = new HashMap<>();
+        for (PostStateProjection state : states) {
+            long[] sum = sums.computeIfAbsent(state.categoryId(), id -> new long[2]);
+            if (state.published()) {
+                sum[0]++;
+            }
+            sum[1]++;
+        }
+        return sums;
+    }
+
+    private Long categoryIdOf(Post post) {
+        return post.getCategory() != null ? post.getCategory().getCategoryId() : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * excerpt 컬럼 추가 이전에 작성된 게시글의 요약을 채운다.
+ * 청크마다 별도 트랜잭션으로 처리해 한 번에 많은 본문을 영속성 컨텍스트에 올리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostExcerptBackfillService {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        int updated = backfill();
+        if (updated > 0) {
+            log.info("게시글 요약 백필 완료 - {}건", updated);
+        }
+    }
+
+    public int backfill() {
+        int total = 0;
+        int updated;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> backfillChunk());
+            updated = chunk != null ? chunk : 0;
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+        return total;
+    }
+
+    private int backfillChunk() {
+        List<Post> posts = postRepository.findByExcerptIsNull(PageRequest.of(0, CHUNK_SIZE));
+        posts.forEach(Post::refreshExcerpt);
+        return posts.size();
+    }
+}
@@ -0,0 +1,57 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.PostSitemapEntry;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RSS 피드와 사이트맵이 읽는 데이터. 모두 발행된 게시글만 돌려주며 본문은 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostFeedService {
+
+    private final PostRepository postRepository;
+    private final CategoryFilterResolver categoryFilterResolver;
+
+    public Optional<Long> resolveCategory(String categoryName) {
+        return categoryFilterResolver.resolve(categoryName);
+    }
+
+    /**
+     * 최신 발행 게시글. categoryId 가 null 이면 전체.
+     */
+    public List<PostSummaryProjection> findRecent(Long categoryId, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (categoryId == null) {
+            return postRepository.findByPublishedTrueOrderByCreatedDateDesc(limit);
+        }
+        return postRepository.findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(categoryId, limit);
+    }
+
+    public List<PostSitemapEntry> findSitemapEntriesAfter(long afterId, int limit) {
+        return postRepository.findSitemapEntriesAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 주어진 게시글 중 발행된 것. 삭제되었거나 비공개인 게시글은 결과에 없다.
+     * 커밋 이후 리스너에서 호출되므로 새 트랜잭션으로 읽는다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public List<PostSitemapEntry> findSitemapEntries(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findSitemapEntriesByPostIdIn(postIds);
+    }
+}
@@ -0,0 +1,147 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.domain.PostRender;
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.dto.TocEntryDto;
+import com.blog.board.render.MarkdownRenderer;
+import com.blog.board.repository.PostRenderRepository;
+import com.blog.board.support.LruCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 게시글 렌더링 결과 관리.
+ * 메모리 LRU → post_renders 테이블 → 실제 렌더링 순으로 조회해 같은 본문은 다시 렌더링하지 않는다.
+ */
+@Slf4j
+@Service
+public class PostRenderService {
+
+    // 렌더링 방식이 바뀌면 올려서 기존 결과를 무효화한다
+    private static final String RENDER_VERSION = "v1";
+    private static final TypeReference<List<TocEntryDto>> TOC_TYPE = new TypeReference<>() {
+    };
+
+    private final PostRenderRepository postRenderRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, PostRenderDto> cache;
+    private final TransactionTemplate insertTransaction;
+
+    public PostRenderService(PostRenderRepository postRenderRepository,
+                             MarkdownRenderer markdownRenderer,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${blog.render.cache-size:500}") int cacheSize) {
+        this.postRenderRepository = postRenderRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.objectMapper = objectMapper;
+        this.cache = new LruCache<>(cacheSize);
+        // 게시글 트랜잭션과 따로 커밋해, 같은 본문을 동시에 저장하던 다른 요청이 곧바로 중복 키를 받게 한다
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 게시글 저장 시 호출 - 결과가 없을 때만 렌더링 후 저장한다
+    @Transactional
+    public PostRenderDto render(String content) {
+        String contentHash = hash(content);
+        PostRenderDto rendered = postRenderRepository.findById(contentHash)
+                .map(this::toDto)
+                .orElseGet(() -> {
+                    // 조회 시점에 렌더링만 되고 저장되지 않은 결과가 캐시에 있을 수 있다
+                    PostRenderDto cached = cache.get(contentHash);
+                    PostRenderDto result = cached != null ? cached : renderContent(contentHash, content);
+                    insert(result);
+                    return result;
+                });
+        cache.put(contentHash, rendered);
+        return rendered;
+    }
+
+    /**
+     * 같은 본문의 게시글이 동시에 저장되면 한 요청만 INSERT 에 성공하고 나머지는 중복 키 예외를 받는다.
+     * 게시글 트랜잭션 안에서 저장하면 그 예외가 커밋 시점에 게시글 저장까지 실패시키므로 별도 트랜잭션에서 저장하고,
+     * 해시가 같으면 렌더링 결과도 같으므로 예외는 무시하고 직접 렌더링한 결과를 쓴다.
+     */
+    private void insert(PostRenderDto rendered) {
+        try {
+            insertTransaction.executeWithoutResult(status -> postRenderRepository.saveAndFlush(toEntity(rendered)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("렌더링 결과를 다른 요청이 먼저 저장했습니다 - hash: {}", rendered.getContentHash());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PostRenderDto getRendered(Post post) {
+        String contentHash = post.getContentHash() != null ? post.getContentHash() : hash(post.getContent());
+        // 렌더링 결과가 저장되기 전에 작성된 게시글은 조회 시점에 렌더링해 캐시에만 둔다
+        return cache.computeIfAbsent(contentHash, key -> postRenderRepository.findById(key)
+                .map(this::toDto)
+                .orElseGet(() -> renderContent(key, post.getContent())));
+    }
+
+    private PostRenderDto renderContent(String contentHash, String content) {
+        long start = System.nanoTime();
+        PostRenderDto rendered = markdownRenderer.render(content).toBuilder()
+                .contentHash(contentHash)
+                .build();
+        log.debug("게시글 렌더링 - hash: {}, {}µs", contentHash, (System.nanoTime() - start) / 1_000);
+        return rendered;
+    }
+
+    private PostRenderDto toDto(PostRender render) {
+        try {
+            return PostRenderDto.builder()
+                    .contentHash(render.getContentHash())
+                    .html(render.getHtml())
+                    .toc(objectMapper.readValue(render.getToc(), TOC_TYPE))
+                    .wordCount(render.getWordCount())
+                    .readingMinutes(render.getReadingMinutes())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("목차 역직렬화 실패 - hash: " + render.getContentHash(), e);
+        }
+    }
+
+    private PostRender toEntity(PostRenderDto dto) {
+        try {
+            return PostRender.builder()
+                    .contentHash(dto.getContentHash())
+                    .html(dto.getHtml())
+                    .toc(objectMapper.writeValueAsString(dto.getToc()))
+                    .wordCount(dto.getWordCount())
+                    .readingMinutes(dto.getReadingMinutes())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("목차 직렬화 실패 - hash: " + dto.getContentHash(), e);
+        }
+    }
+
+    static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(RENDER_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
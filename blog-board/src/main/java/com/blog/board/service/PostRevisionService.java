@@ -0,0 +1,201 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.domain.PostRevision;
+import com.blog.board.dto.PostRevisionDiffDto;
+import com.blog.board.dto.PostRevisionDto;
+import com.blog.board.dto.PostRevisionSummary;
+import com.blog.board.exception.PostNotFoundException;
+import com.blog.board.exception.PostRevisionNotFoundException;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.repository.PostRevisionRepository;
+import com.blog.board.revision.LineDiff;
+import com.blog.board.revision.RevisionDelta;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 수정 이력.
+ * 수정될 때마다 직전 본문과의 줄 단위 델타만 저장하고, snapshot-interval 번째마다 전체 본문 스냅샷을 저장한다.
+ * 리비전 하나를 복원할 때 적용하는 델타는 최대 snapshot-interval - 1 개다.
+ * 델타를 만들 수 없거나(거의 다시 쓴 글) 델타가 압축한 전체 본문보다 크면 그 리비전은 스냅샷으로 저장한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "blog.service", histogram = true)
+public class PostRevisionService {
+
+    private static final int DIFF_CONTEXT_LINES = 3;
+
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+    private final int snapshotInterval;
+
+    public PostRevisionService(PostRevisionRepository postRevisionRepository,
+                               PostRepository postRepository,
+                               @Value("${blog.revision.snapshot-interval:20}") int snapshotInterval) {
+        this.postRevisionRepository = postRevisionRepository;
+        this.postRepository = postRepository;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    /**
+     * 게시글 수정을 리비전으로 남긴다. 제목과 본문이 그대로면 남기지 않는다.
+     * 이력이 없던 게시글은 수정 전 상태를 1번 리비전으로 먼저 남긴다.
+     * post 는 이미 수정된 상태(본문 해시 포함)여야 한다.
+     */
+    @Transactional
+    public void record(Post post, String previousTitle, String previousContent, String previousContentHash) {
+        if (post.getTitle().equals(previousTitle) && post.getContent().equals(previousContent)) {
+            return;
+        }
+        String previousHash = previousContentHash != null ? previousContentHash : PostRenderService.hash(previousContent);
+        List<PostRevisionSummary> latest = postRevisionRepository.findSummaries(post.getPostId(), PageRequest.of(0, 1));
+
+        int number;
+        int baseRevision;
+        boolean chained;
+        if (latest.isEmpty()) {
+            postRevisionRepository.save(revision(post, 1, 1, previousTitle, previousHash, previousContent,
+                    RevisionDelta.snapshot(previousContent)));
+            number = 2;
+            baseRevision = 1;
+            chained = true;
+        } else {
+            PostRevisionSummary head = latest.get(0);
+            number = head.revisionNumber() + 1;
+            baseRevision = head.baseRevision();
+            // 이력 밖에서 본문이 바뀐 적이 있으면(가져오기 등) 직전 리비전을 기준으로 델타를 만들 수 없다
+            chained = head.contentHash().equals(previousHash);
+        }
+
+        String content = post.getContent();
+        String contentHash = post.getContentHash() != null ? post.getContentHash() : PostRenderService.hash(content);
+        RevisionDelta.Encoded encoded = encode(previousContent, content, number, baseRevision, chained, snapshotInterval);
+        PostRevision revision = revision(post, number, encoded.snapshot() ? number : baseRevision,
+                post.getTitle(), contentHash, content, encoded.data());
+        postRevisionRepository.save(revision);
+        log.debug("게시글 리비전 저장 - ID: {}, 리비전: {}, 스냅샷: {}, {}bytes",
+                post.getPostId(), number, revision.isSnapshot(), revision.getData().length);
+    }
+
+    /**
+     * number 번째 리비전의 저장 데이터. 직전 스냅샷(baseRevision)에서 snapshotInterval 번째가 되었거나
+     * 직전 리비전과 이어지지 않으면(chained=false) 스냅샷, 아니면 RevisionDelta.pack 이 델타와 스냅샷 중 작은 쪽을 고른다.
+     */
+    public static RevisionDelta.Encoded encode(String previousContent, String content, int number, int baseRevision,
+                                               boolean chained, int snapshotInterval) {
+        return RevisionDelta.pack(chained && number - baseRevision < snapshotInterval ? previousContent : null, content);
+    }
+
+    public List<PostRevisionSummary> getRevisions(Long postId) {
+        List<PostRevisionSummary> revisions = postRevisionRepository.findSummaries(postId, Pageable.unpaged());
+        if (revisions.isEmpty() && !postRepository.existsById(postId)) {
+            throw new PostNotFoundException();
+        }
+        return revisions;
+    }
+
+    public PostRevisionDto getRevision(Long postId, int revisionNumber) {
+        List<PostRevision> chain = findChain(postId, revisionNumber);
+        String content = replay(chain, Set.of(revisionNumber)).get(revisionNumber);
+        return toDto(postId, chain.get(chain.size() - 1), content);
+    }
+
+    /**
+     * against 리비전 → revisionNumber 리비전 diff. against 가 없으면 직전 리비전, 0 이면 빈 본문과 비교한다.
+     */
+    public PostRevisionDiffDto diff(Long postId, int revisionNumber, Integer against) {
+        int baseNumber = against != null ? against : revisionNumber - 1;
+        if (baseNumber < 0) {
+            throw new PostRevisionNotFoundException();
+        }
+        // 두 리비전이 같은 스냅샷에서 시작하면 한 번의 조회와 적용으로 둘 다 복원한다
+        int higher = Math.max(revisionNumber, baseNumber);
+        int lower = Math.min(revisionNumber, baseNumber);
+        List<PostRevision> chain = findChain(postId, higher);
+        Map<Integer, PostRevision> rows = new HashMap<>();
+        chain.forEach(revision -> rows.put(revision.getRevisionNumber(), revision));
+        Map<Integer, String> contents = replay(chain, Set.copyOf(List.of(revisionNumber, baseNumber)));
+        if (lower > 0 && !contents.containsKey(lower)) {
+            List<PostRevision> lowerChain = findChain(postId, lower);
+            rows.put(lower, lowerChain.get(lowerChain.size() - 1));
+            contents.putAll(replay(lowerChain, Set.of(lower)));
+        }
+
+        List<String> baseLines = baseNumber == 0 ? List.of() : LineDiff.lines(contents.get(baseNumber));
+        List<String> targetLines = LineDiff.lines(contents.get(revisionNumber));
+        List<LineDiff.Edit> edits = LineDiff.diffOrReplace(baseLines, targetLines);
+        return PostRevisionDiffDto.builder()
+                .postId(postId)
+                .baseRevision(baseNumber)
+                .targetRevision(revisionNumber)
+                .baseTitle(baseNumber == 0 ? "" : rows.get(baseNumber).getTitle())
+                .targetTitle(rows.get(revisionNumber).getTitle())
+                .hunks(LineDiff.hunks(edits, baseLines, targetLines, DIFF_CONTEXT_LINES))
+                .build();
+    }
+
+    private List<PostRevision> findChain(Long postId, int revisionNumber) {
+        List<PostRevision> chain = postRevisionRepository.findChain(postId, revisionNumber);
+        if (chain.isEmpty()) {
+            log.warn("게시글 리비전을 찾을 수 없습니다 - ID: {}, 리비전: {}", postId, revisionNumber);
+            throw new PostRevisionNotFoundException();
+        }
+        return chain;
+    }
+
+    // 스냅샷부터 델타를 차례로 적용하며 wanted 에 있는 리비전의 본문을 모은다
+    public static Map<Integer, String> replay(List<PostRevision> chain, Set<Integer> wanted) {
+        Map<Integer, String> contents = new HashMap<>();
+        List<String> lines = null;
+        for (PostRevision revision : chain) {
+            lines = revision.isSnapshot()
+                    ? LineDiff.lines(RevisionDelta.fromSnapshot(revision.getData()))
+                    : RevisionDelta.apply(lines, revision.getData());
+            if (LineDiff.joinedLength(lines) != revision.getContentLength()) {
+                throw new IllegalStateException("리비전 복원 결과가 저장된 길이와 다릅니다 - revisionId: " + revision.getRevisionId());
+            }
+            if (wanted.contains(revision.getRevisionNumber())) {
+                contents.put(revision.getRevisionNumber(), LineDiff.join(lines));
+            }
+        }
+        return contents;
+    }
+
+    // baseRevision 이 자기 번호면 스냅샷
+    private PostRevision revision(Post post, int number, int baseRevision, String title, String contentHash,
+                                  String content, byte[] data) {
+        return PostRevision.builder()
+                .post(post)
+                .revisionNumber(number)
+                .baseRevision(baseRevision)
+                .snapshot(baseRevision == number)
+                .title(title)
+                .contentHash(contentHash)
+                .contentLength(content.length())
+                .data(data)
+                .build();
+    }
+
+    private PostRevisionDto toDto(Long postId, PostRevision revision, String content) {
+        return PostRevisionDto.builder()
+                .postId(postId)
+                .revisionNumber(revision.getRevisionNumber())
+                .title(revision.getTitle())
+                .content(content)
+                .createdDate(revision.getCreatedDate())
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.search.PostSearchIndex;
+import com.blog.board.search.SearchHit;
+import com.blog.board.search.SearchResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 전문 검색.
+ * 색인은 메모리에 두고 커밋된 변경 이벤트로 갱신하며, 주기적으로 로컬 디스크에 저장한다.
+ * 기동 시에는 저장된 색인을 읽고 워터마크 이후 수정분과 삭제분만 반영해 전체 재색인을 피한다.
+ * 전체 재색인은 별도 색인에 다 채운 뒤 교체하므로, 그동안 검색과 저장은 이전 색인을 그대로 쓴다.
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int CHUNK_SIZE = 200;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readTransaction;
+    private final TaskExecutor taskExecutor;
+    private final Path indexPath;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile PostSearchIndex index = new PostSearchIndex();
+    // 재색인 중 변경된 게시글 - 교체한 색인에 다시 반영한다. 재색인 중이 아니면 null
+    private volatile Set<Long> changedWhileRebuilding;
+
+    public PostSearchService(PostRepository postRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                             @Value("${blog.search.index-path:data/search/posts.idx}") String indexPath) {
+        this.postRepository = postRepository;
+        this.taskExecutor = taskExecutor;
+        // 커밋 이후 리스너에서도 새 트랜잭션으로 읽도록 REQUIRES_NEW
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.indexPath = Path.of(indexPath);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDto<PostSimpleResponseDto> search(String query, Pageable pageable, boolean isAdmin) {
+        int pageSize = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageSize);
+        if (!StringUtils.hasText(query)) {
+            return new PageResponseDto<>(new PageImpl<>(List.of(), page, 0));
+        }
+        String trimmedQuery = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        SearchResult result = index.search(trimmedQuery, isAdmin, (int) page.getOffset(), pageSize);
+        if (result.hits().isEmpty()) {
+            return new PageResponseDto<>(new PageImpl<>(List.of(), page, result.total()));
+        }
+
+        Map<Long, PostSummaryProjection> summaries = postRepository.findSummariesByPostIdIn(
+                        result.hits().stream().map(SearchHit::postId).toList()).stream()
+                .collect(Collectors.toMap(PostSummaryProjection::id, Function.identity()));
+        // 색인이 늦게 반영된 경우에도 비공개 글이 노출되지 않도록 DB 값으로 한 번 더 거른다
+        List<PostSimpleResponseDto> content = result.hits().stream()
+                .map(hit -> summaries.get(hit.postId()))
+                .filter(Objects::nonNull)
+                .filter(summary -> isAdmin || summary.published())
+                .map(PostSimpleResponseDto::fromProjection)
+                .toList();
+        return new PageResponseDto<>(new PageImpl<>(content, page, result.total()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.IMPORTED) {
+            // 가져온 트랜잭션의 커밋 후 스레드가 전체 재색인을 기다리지 않게 한다
+            taskExecutor.execute(() -> {
+                try {
+                    int indexed = rebuild();
+                    log.info("가져오기 이후 검색 색인 재생성 - {}건", indexed);
+                } catch (RuntimeException e) {
+                    log.error("가져오기 이후 검색 색인 재생성 실패", e);
+                }
+            });
+            return;
+        }
+        // 기록을 먼저 한다 - 기록이 교체 뒤에 남으면 이 아래에서 읽는 index 는 이미 새 색인이다
+        Set<Long> changed = changedWhileRebuilding;
+        if (changed != null) {
+            changed.addAll(event.postIds());
+        }
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            event.postIds().forEach(index::remove);
+            return;
+        }
+        reindex(event.postIds());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long startedAt = System.currentTimeMillis();
+        PostSearchIndex loaded = readIndexFile();
+        if (loaded != null) {
+            index = loaded;
+            int updated = catchUp(loaded.watermark());
+            log.info("검색 색인 로드 완료 - {}건, 변경분 {}건 반영, {}ms",
+                    index.size(), updated, System.currentTimeMillis() - startedAt);
+        } else {
+            int indexed = rebuild();
+            log.info("검색 색인 생성 완료 - {}건, {}ms", indexed, System.currentTimeMillis() - startedAt);
+        }
+        persistIfDirty();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.search.persist-interval:PT1M}")
+    public void persistIfDirty() {
+        // 재색인 중에는 교체 직후 저장이 다시 돌므로 건너뛴다
+        if (rebuildLock.isLocked() || !index.isDirty()) {
+            return;
+        }
+        try {
+            index.writeTo(indexPath);
+        } catch (IOException e) {
+            log.warn("검색 색인 저장 실패 - {}", indexPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persistIfDirty();
+    }
+
+    /**
+     * 새 색인을 끝까지 채운 뒤 교체한다. 읽는 동안 바뀐 게시글은 교체한 뒤 DB 에서 다시 읽어 반영한다.
+     * 재색인이 겹치면 앞선 재색인이 끝날 때까지 기다린다.
+     */
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            Set<Long> changed = ConcurrentHashMap.newKeySet();
+            changedWhileRebuilding = changed;
+            PostSearchIndex rebuilt = new PostSearchIndex();
+            long lastPostId = 0;
+            int total = 0;
+            List<Post> chunk;
+            do {
+                long after = lastPostId;
+                chunk = readTransaction.execute(status -> {
+                    List<Post> posts = postRepository.findByPostIdGreaterThanOrderByPostIdAsc(after, PageRequest.of(0, CHUNK_SIZE));
+                    posts.forEach(post -> indexPost(rebuilt, post));
+                    return posts;
+                });
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+                lastPostId = chunk.get(chunk.size() - 1).getPostId();
+                total += chunk.size();
+            } while (chunk.size() == CHUNK_SIZE);
+
+            index = rebuilt;
+            changedWhileRebuilding = null;
+            if (!changed.isEmpty()) {
+                reindex(List.copyOf(changed));
+            }
+            return total;
+        } finally {
+            changedWhileRebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    // DB 에서 다시 읽어 색인하고, 사라진 게시글은 색인에서 지운다
+    private void reindex(Collection<Long> postIds) {
+        readTransaction.executeWithoutResult(status -> {
+            List<Post> posts = postRepository.findAllById(postIds);
+            posts.forEach(this::indexPost);
+            Set<Long> missing = new HashSet<>(postIds);
+            posts.forEach(post -> missing.remove(post.getPostId()));
+            missing.forEach(index::remove);
+        });
+    }
+
+    // 워터마크 이후 수정된 게시글을 다시 색인하고, DB 에서 사라진 게시글은 색인에서 지운다
+    private int catchUp(long watermark) {
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(watermark), ZoneId.systemDefault());
+        int updated = 0;
+        int page = 0;
+        List<Post> chunk;
+        do {
+            int pageNumber = page++;
+            chunk = readTransaction.execute(status -> {
+                List<Post> posts = postRepository.findByModifiedDateGreaterThanEqualOrderByPostIdAsc(
+                        since, PageRequest.of(pageNumber, CHUNK_SIZE));
+                posts.forEach(this::indexPost);
+                return posts;
+            });
+            updated += chunk != null ? chunk.size() : 0;
+        } while (chunk != null && chunk.size() == CHUNK_SIZE);
+
+        Set<Long> existing = new HashSet<>(readTransaction.execute(status -> postRepository.findAllPostIds()));
+        for (Long postId : index.postIds()) {
+            if (!existing.contains(postId)) {
+                index.remove(postId);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private PostSearchIndex readIndexFile() {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        try {
+            return PostSearchIndex.readFrom(indexPath);
+        } catch (IOException e) {
+            log.warn("검색 색인 파일을 읽을 수 없어 새로 생성합니다 - {}", indexPath, e);
+            return null;
+        }
+    }
+
+    private void indexPost(Post post) {
+        indexPost(index, post);
+    }
+
+    private void indexPost(PostSearchIndex target, Post post) {
+        LocalDateTime modifiedDate = post.getModifiedDate() != null ? post.getModifiedDate() : post.getCreatedDate();
+        long modifiedMillis = modifiedDate != null
+                ? modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0;
+        target.index(post.getPostId(), post.getTitle(), post.getContent(), post.isPublished(), modifiedMillis);
+    }
+}
@@ -3,54 +3,109 @@ package com.blog.board.service;
 import com.blog.board.exception.PostNotFoundException;
 import com.blog.board.domain.Category;
 import com.blog.board.domain.Post;
+import com.blog.board.domain.PostExcerpt;
 import com.blog.board.dto.*;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.event.PostChangedEvent.ChangeType;
 import com.blog.board.repository.PostRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "blog.service", histogram = true)
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final CategoryService categoryService;
+    private final PostRenderService postRenderService;
+    private final CategoryFilterResolver categoryFilterResolver;
+    private final PostCounterService postCounterService;
+    private final PostViewService postViewService;
+    private final PostRevisionService postRevisionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PostResponseDto createPost(PostRequestDto requestDto) {
         boolean isPublished = requestDto.getPublished() != null ? requestDto.getPublished() : true;
-        return PostResponseDto.fromEntity(
-                    postRepository.save(Post.builder()
-                        .title(requestDto.getTitle())
-                        .content(requestDto.getContent())
-                        .published(isPublished)
-                        .category(categoryService.findOrCreateCategory(requestDto.getCategoryName()))
-                        .build()
-                    ));
+        PostRenderDto render = postRenderService.render(requestDto.getContent());
+        Post post = postRepository.save(Post.builder()
+                .title(requestDto.getTitle())
+                .content(requestDto.getContent())
+                .excerpt(PostExcerpt.from(requestDto.getContent()))
+                .contentHash(render.getContentHash())
+                .published(isPublished)
+                .category(categoryService.findOrCreateCategory(requestDto.getCategoryName()))
+                .build());
+        postCounterService.onCreated(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(ChangeType.CREATED, post.getPostId()));
+        return PostResponseDto.fromEntity(post, render);
     }
 
     @Transactional
     public PostResponseDto updatePost(Long postId, PostRequestDto requestDto) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> {
                     log.warn("게시글을 찾을 수 없습니다 - ID: {}", postId);
                     return new PostNotFoundException();
                 });
-        post.update(
+        return update(post,
                 requestDto.getTitle(),
                 requestDto.getContent(),
                 requestDto.getPublished() != null ? requestDto.getPublished() : post.isPublished(),
-                categoryService.findOrCreateCategory(requestDto.getCategoryName())
-        );
-        return PostResponseDto.fromEntity(post);
+                categoryService.findOrCreateCategory(requestDto.getCategoryName()));
+    }
+
+    /**
+     * 수정 이력의 제목/본문으로 되돌린다. 발행 여부와 카테고리는 현재 값을 유지하며, 되돌린 것도 새 리비전으로 남는다.
+     */
+    @Transactional
+    public PostResponseDto restoreRevision(Long postId, int revisionNumber) {
+        Post post = postRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> {
+                    log.warn("게시글을 찾을 수 없습니다 - ID: {}", postId);
+                    return new PostNotFoundException();
+                });
+        PostRevisionDto revision = postRevisionService.getRevision(postId, revisionNumber);
+        PostResponseDto response = update(post, revision.getTitle(), revision.getContent(), post.isPublished(), post.getCategory());
+        log.info("게시글 리비전 복원 완료 - ID: {}, 리비전: {}", postId, revisionNumber);
+        return response;
+    }
+
+    private PostResponseDto update(Post post, String title, String content, boolean published, Category category) {
+        Long oldCategoryId = post.getCategory() != null ? post.getCategory().getCategoryId() : null;
+        boolean wasPublished = post.isPublished();
+        String previousTitle = post.getTitle();
+        String previousContent = post.getContent();
+        String previousContentHash = post.getContentHash();
+        post.update(title, content, published, category);
+        PostRenderDto render = postRenderService.render(content);
+        post.updateContentHash(render.getContentHash());
+        postRevisionService.record(post, previousTitle, previousContent, previousContentHash);
+        postCounterService.onUpdated(oldCategoryId, wasPublished, post);
+        eventPublisher.publishEvent(PostChangedEvent.of(ChangeType.UPDATED, post.getPostId()));
+        return PostResponseDto.fromEntity(post, render);
     }
 
     @Transactional
@@ -62,6 +117,8 @@ public class PostService {
                 });
 
         postRepository.delete(post);
+        postCounterService.onDeleted(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(ChangeType.DELETED, postId));
         log.info("게시글 삭제 완료 - ID: {}, 제목: {}", postId, post.getTitle());
     }
 
@@ -72,11 +129,38 @@ public class PostService {
                     log.warn("게시글을 찾을 수 없습니다 - ID: {}", postId);
                     return new PostNotFoundException();
                 });
-        return PostResponseDto.fromEntity(post);
+        return PostResponseDto.fromEntity(post, postRenderService.getRendered(post));
+    }
+
+    /**
+     * 저장된 조회수에 아직 반영되지 않은 조회수를 더한다.
+     * 조회수는 볼 때마다 바뀌므로 ETag 로 재검증하는 게시글 응답에 넣지 않고 따로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public long getViewCount(Long postId) {
+        long stored = postRepository.findViewCountById(postId)
+                .orElseThrow(() -> {
+                    log.warn("게시글을 찾을 수 없습니다 - ID: {}", postId);
+                    return new PostNotFoundException();
+                });
+        return stored + postViewService.pendingCount(postId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PostVersionProjection> findPostVersion(Long postId) {
+        return postRepository.findVersionById(postId);
     }
 
     @Transactional(readOnly = true)
     public PageResponseDto<PostSimpleResponseDto> getPosts(String categoryName, Pageable pageable, boolean isAdmin) {
+        return new PageResponseDto<>(getPostSummaryPage(categoryName, pageable, isAdmin).map(PostSimpleResponseDto::fromProjection));
+    }
+
+    /**
+     * 목록 페이지를 프로젝션 그대로 반환한다. 응답 DTO 를 거치지 않고 바로 JSON 으로 쓰는 목록 API 가 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryProjection> getPostSummaryPage(String categoryName, Pageable pageable, boolean isAdmin) {
         Pageable sortedPageable = pageable;
         if (pageable.getSort().isUnsorted()) {
             sortedPageable = PageRequest.of(
@@ -85,24 +169,121 @@ public class PostService {
                     Sort.by(Sort.Direction.DESC, "createdDate")
             );
         }
-        Category category = null;
-        if (StringUtils.hasText(categoryName) && !"all".equalsIgnoreCase(categoryName)) {
-            category = categoryService.findOrCreateCategory(categoryName);
+        Long categoryId = null;
+        if (hasCategoryFilter(categoryName)) {
+            Optional<Long> resolved = categoryFilterResolver.resolve(categoryName);
+            if (resolved.isEmpty()) {
+                // 존재하지 않는 카테고리 - DB 조회 없이 빈 페이지
+                return Page.empty(sortedPageable);
+            }
+            categoryId = resolved.get();
         }
-        Page<Post> posts;
+        List<PostSummaryProjection> posts;
         if (isAdmin) {
-            if (category != null) {
-                posts = postRepository.findByCategoryOrderByCreatedDateDesc(category, sortedPageable);
+            if (categoryId != null) {
+                posts = postRepository.findByCategoryIdOrderByCreatedDateDesc(categoryId, sortedPageable);
             } else {
                 posts = postRepository.findAllByOrderByCreatedDateDesc(sortedPageable);
             }
         } else {
-            if (category != null) {
-                posts = postRepository.findByCategoryAndPublishedTrueOrderByCreatedDateDesc(category, sortedPageable);
+            if (categoryId != null) {
+                posts = postRepository.findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(categoryId, sortedPageable);
             } else {
                 posts = postRepository.findByPublishedTrueOrderByCreatedDateDesc(sortedPageable);
             }
         }
-        return new PageResponseDto<>(posts.map(PostSimpleResponseDto::fromEntity));
+        // 전체 건수는 COUNT 쿼리 대신 카운터 테이블에서 읽는다
+        return new PageImpl<>(posts, sortedPageable, postCounterService.count(categoryId, isAdmin));
+    }
+
+    // 키셋(커서) 페이지네이션 - COUNT 쿼리 없이 (createdDate, postId) 기준으로 탐색
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostSimpleResponseDto> getPostsByCursor(String categoryName, String cursor, LocalDate date,
+                                                                         int size, boolean isAdmin) {
+        PostCursor postCursor = resolveCursor(cursor, date);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize);
+        Long categoryId = null;
+        if (hasCategoryFilter(categoryName)) {
+            Optional<Long> resolved = categoryFilterResolver.resolve(categoryName);
+            if (resolved.isEmpty()) {
+                return CursorPageResponseDto.<PostSimpleResponseDto>builder()
+                        .content(List.of())
+                        .size(pageSize)
+                        .empty(true)
+                        .build();
+            }
+            categoryId = resolved.get();
+        }
+
+        Slice<PostSummaryProjection> slice = postCursor.isNext()
+                ? findBefore(categoryId, postCursor, limit, isAdmin)
+                : findAfter(categoryId, postCursor, limit, isAdmin);
+
+        List<PostSummaryProjection> posts = new ArrayList<>(slice.getContent());
+        boolean hasNext;
+        boolean hasPrevious;
+        if (postCursor.isNext()) {
+            hasNext = slice.hasNext();
+            // 커서나 날짜로 진입한 경우에만 더 최신 글이 있을 수 있다
+            hasPrevious = !posts.isEmpty() && (StringUtils.hasText(cursor) || date != null);
+        } else {
+            // 이전 페이지는 오름차순으로 조회했으므로 화면 순서(최신순)로 되돌린다
+            Collections.reverse(posts);
+            hasNext = !posts.isEmpty();
+            hasPrevious = slice.hasNext();
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!posts.isEmpty()) {
+            PostSummaryProjection first = posts.get(0);
+            PostSummaryProjection last = posts.get(posts.size() - 1);
+            nextCursor = hasNext ? PostCursor.next(last.createdDate(), last.id()).encode() : null;
+            prevCursor = hasPrevious ? PostCursor.prev(first.createdDate(), first.id()).encode() : null;
+        }
+
+        return CursorPageResponseDto.<PostSimpleResponseDto>builder()
+                .content(posts.stream().map(PostSimpleResponseDto::fromProjection).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .empty(posts.isEmpty())
+                .build();
+    }
+
+    private PostCursor resolveCursor(String cursor, LocalDate date) {
+        if (StringUtils.hasText(cursor)) {
+            return PostCursor.decode(cursor);
+        }
+        return date != null ? PostCursor.seek(date) : PostCursor.first();
+    }
+
+    private boolean hasCategoryFilter(String categoryName) {
+        return StringUtils.hasText(categoryName) && !"all".equalsIgnoreCase(categoryName.trim());
+    }
+
+    private Slice<PostSummaryProjection> findBefore(Long categoryId, PostCursor cursor, Pageable limit, boolean isAdmin) {
+        if (isAdmin) {
+            return categoryId != null
+                    ? postRepository.findByCategoryBefore(categoryId, cursor.getCreatedDate(), cursor.getPostId(), limit)
+                    : postRepository.findAllBefore(cursor.getCreatedDate(), cursor.getPostId(), limit);
+        }
+        return categoryId != null
+                ? postRepository.findPublishedByCategoryBefore(categoryId, cursor.getCreatedDate(), cursor.getPostId(), limit)
+                : postRepository.findPublishedBefore(cursor.getCreatedDate(), cursor.getPostId(), limit);
+    }
+
+    private Slice<PostSummaryProjection> findAfter(Long categoryId, PostCursor cursor, Pageable limit, boolean isAdmin) {
+        if (isAdmin) {
+            return categoryId != null
+                    ? postRepository.findByCategoryAfter(categoryId, cursor.getCreatedDate(), cursor.getPostId(), limit)
+                    : postRepository.findAllAfter(cursor.getCreatedDate(), cursor.getPostId(), limit);
+        }
+        return categoryId != null
+                ? postRepository.findPublishedByCategoryAfter(categoryId, cursor.getCreatedDate(), cursor.getPostId(), limit)
+                : postRepository.findPublishedAfter(cursor.getCreatedDate(), cursor.getPostId(), limit);
     }
 }
@@ -0,0 +1,265 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.PostExcerpt;
+import com.blog.board.domain.id.TimeOrderedIdGenerator;
+import com.blog.board.dto.PostImportResultDto;
+import com.blog.board.dto.PostTransferRecord;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/카테고리 NDJSON 내보내기와 가져오기.
+ * 내보내기는 JDBC 커서로 한 행씩 읽어 바로 쓰고, 가져오기는 한 줄씩 읽어 배치 단위로 JDBC batch insert 한다.
+ * 어느 쪽도 전체 데이터를 메모리에 올리지 않는다.
+ * MySQL 에서 fetch size 를 지키려면 URL 에 useCursorFetch=true,
+ * batch insert 를 한 문장으로 묶으려면 rewriteBatchedStatements=true 가 필요하다.
+ */
+@Slf4j
+@Service
+public class PostTransferService {
+
+    private static final String EXPORT_CATEGORIES_SQL =
+            "select category_id, category_name from categories order by category_id";
+    private static final String EXPORT_POSTS_SQL =
+            "select p.post_id, p.title, p.content, p.published, c.category_name, p.created_date, p.modified_date " +
+            "from posts p left join categories c on c.category_id = p.category_id order by p.post_id";
+    private static final String INSERT_POST_SQL =
+            "insert into posts (post_id, title, content, excerpt, published, category_id, created_date, modified_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final PostCounterService postCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final int batchSize;
+
+    public PostTransferService(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               CategoryRepository categoryRepository,
+                               PostCounterService postCounterService,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               @Value("${blog.transfer.fetch-size:500}") int fetchSize,
+                               @Value("${blog.transfer.batch-size:500}") int batchSize,
+                               @Value("${blog.id.node-id:0}") int nodeId) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRepository = categoryRepository;
+        this.postCounterService = postCounterService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.idGenerator = TimeOrderedIdGenerator.forNode(nodeId);
+        this.batchSize = batchSize;
+    }
+
+    public long exportTo(OutputStream outputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+        long[] count = {0};
+        try {
+            exportJdbcTemplate.query(EXPORT_CATEGORIES_SQL, rs -> {
+                writeLine(out, PostTransferRecord.category(rs.getLong("category_id"), rs.getString("category_name")));
+            });
+            exportJdbcTemplate.query(EXPORT_POSTS_SQL, rs -> {
+                writeLine(out, PostTransferRecord.post(
+                        rs.getLong("post_id"),
+                        rs.getString("title"),
+                        rs.getString("content"),
+                        rs.getBoolean("published"),
+                        rs.getString("category_name"),
+                        toLocalDateTime(rs.getTimestamp("created_date")),
+                        toLocalDateTime(rs.getTimestamp("modified_date"))));
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결이 끊긴 경우 - 커서를 닫고 원래 예외로 돌려준다
+            throw e.getCause();
+        }
+        out.flush();
+        log.info("게시글 내보내기 완료 - {}건, {}ms", count[0], System.currentTimeMillis() - startedAt);
+        return count[0];
+    }
+
+    public PostImportResultDto importFrom(InputStream inputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long imported = 0;
+        long createdCategories = 0;
+        long skipped = 0;
+        long lineNumber = 0;
+        List<PostTransferRecord> batch = new ArrayList<>(batchSize);
+        Set<String> categoryNames = new LinkedHashSet<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            PostTransferRecord record = parse(line, lineNumber);
+            if (record == null) {
+                skipped++;
+                continue;
+            }
+            // 카테고리 줄은 다음 게시글 배치에서 함께 생성한다 (게시글이 없는 카테고리도 옮기기 위해)
+            if (PostTransferRecord.TYPE_CATEGORY.equals(record.type()) && StringUtils.hasText(record.name())) {
+                categoryNames.add(record.name().trim());
+                continue;
+            }
+            if (!PostTransferRecord.TYPE_POST.equals(record.type())
+                    || !StringUtils.hasText(record.title()) || record.content() == null) {
+                log.warn("게시글 가져오기 - {}번째 줄 형식이 올바르지 않습니다", lineNumber);
+                skipped++;
+                continue;
+            }
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                createdCategories += insertBatch(batch, categoryNames);
+                imported += batch.size();
+                batch.clear();
+                categoryNames.clear();
+            }
+        }
+        if (!batch.isEmpty() || !categoryNames.isEmpty()) {
+            createdCategories += insertBatch(batch, categoryNames);
+            imported += batch.size();
+        }
+
+        if (imported > 0) {
+            postCounterService.reconcile();
+            eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.ChangeType.IMPORTED, List.of()));
+        }
+        long elapsedMillis = Math.max(System.currentTimeMillis() - startedAt, 1);
+        double postsPerSecond = imported * 1000.0 / elapsedMillis;
+        log.info("게시글 가져오기 완료 - {}건, 카테고리 생성 {}건, 건너뜀 {}줄, {}ms ({}건/s)",
+                imported, createdCategories, skipped, elapsedMillis, String.format("%.1f", postsPerSecond));
+        return PostImportResultDto.builder()
+                .importedPosts(imported)
+                .createdCategories(createdCategories)
+                .skippedLines(skipped)
+                .elapsedMillis(elapsedMillis)
+                .postsPerSecond(postsPerSecond)
+                .build();
+    }
+
+    // 배치마다 카테고리를 한 번에 해석하고 게시글은 JDBC batch insert - 배치 단위로 커밋한다
+    private int insertBatch(List<PostTransferRecord> batch, Set<String> categoryNames) {
+        Integer created = transactionTemplate.execute(status -> {
+            ResolvedCategories categories = resolveCategories(batch, categoryNames);
+            if (batch.isEmpty()) {
+                return categories.created();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(INSERT_POST_SQL, batch, batch.size(), (ps, record) -> {
+                Long categoryId = record.categoryName() != null ? categories.ids().get(record.categoryName().trim()) : null;
+                // 원본 ID 는 쓰지 않는다 - JPA 로 저장하는 게시글과 같은 생성기로 발급
+                ps.setLong(1, idGenerator.nextId());
+                ps.setString(2, record.title());
+                ps.setString(3, record.content());
+                ps.setString(4, PostExcerpt.from(record.content()));
+                ps.setBoolean(5, record.published() == null || record.published());
+                if (categoryId != null) {
+                    ps.setLong(6, categoryId);
+                } else {
+                    ps.setNull(6, Types.BIGINT);
+                }
+                ps.setTimestamp(7, Timestamp.valueOf(record.createdDate() != null ? record.createdDate() : now));
+                ps.setTimestamp(8, Timestamp.valueOf(record.modifiedDate() != null ? record.modifiedDate() : now));
+            });
+            return categories.created();
+        });
+        return created != null ? created : 0;
+    }
+
+    /**
+     * 배치에 등장한 카테고리 이름을 ID 로 바꾼다.
+     * 카테고리는 수가 적으므로 JPA 로 저장해 2차 캐시와 쿼리 캐시가 함께 갱신되게 한다.
+     */
+    private ResolvedCategories resolveCategories(List<PostTransferRecord> batch, Set<String> categoryNames) {
+        Set<String> names = batch.stream()
+                .map(PostTransferRecord::categoryName)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .collect(Collectors.toCollection(() -> new LinkedHashSet<>(categoryNames)));
+        if (names.isEmpty()) {
+            return new ResolvedCategories(Map.of(), 0);
+        }
+        Map<String, Long> existing = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getCategoryName, Category::getCategoryId));
+        Map<String, Long> categoryIds = new HashMap<>();
+        int created = 0;
+        for (String name : names) {
+            Long categoryId = existing.get(name);
+            if (categoryId == null) {
+                categoryId = categoryRepository.save(Category.builder().categoryName(name).build()).getCategoryId();
+                eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+                created++;
+            }
+            categoryIds.put(name, categoryId);
+        }
+        return new ResolvedCategories(categoryIds, created);
+    }
+
+    private PostTransferRecord parse(String line, long lineNumber) {
+        try {
+            return objectMapper.readValue(line, PostTransferRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 가져오기 - {}번째 줄을 읽을 수 없습니다: {}", lineNumber, e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private void writeLine(OutputStream out, PostTransferRecord record) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(record));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record ResolvedCategories(Map<String, Long> ids, int created) {
+    }
+}
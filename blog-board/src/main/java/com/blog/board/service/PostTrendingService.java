@@ -0,0 +1,139 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.dto.TrendingPostDto;
+import com.blog.board.dto.TrendingPostsDto;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.trending.TrendingWindow;
+import com.blog.board.trending.ViewCount;
+import com.blog.board.trending.ViewWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 많이 읽힌 게시글 (최근 1시간/1일/1주).
+ * 조회 기록은 메모리의 ViewWindowCounter 에 쌓고, 주기적으로 상위 게시글 스냅샷을 만들어 두어 요청은 스냅샷만 읽는다.
+ * 스냅샷을 만들 때 후보 게시글의 요약을 한 번에 읽어 삭제된 글은 빼고 공개 여부를 DB 값으로 거른다.
+ */
+@Slf4j
+@Service
+public class PostTrendingService {
+
+    // 비공개/삭제 글을 걸러도 maxSize 개가 남도록 여유 있게 후보를 뽑는다
+    private static final int CANDIDATE_FACTOR = 3;
+
+    private final ViewWindowCounter counter = new ViewWindowCounter();
+    private final PostRepository postRepository;
+    private final TransactionTemplate readTransaction;
+    private final int maxSize;
+    private volatile Snapshot snapshot;
+
+    public PostTrendingService(PostRepository postRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${blog.trending.max-size:50}") int maxSize) {
+        this.postRepository = postRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.maxSize = maxSize;
+        this.snapshot = Snapshot.empty(LocalDateTime.now());
+    }
+
+    public void record(long postId) {
+        counter.record(postId);
+    }
+
+    public TrendingPostsDto getTrending(TrendingWindow window, int size, boolean isAdmin) {
+        Snapshot current = snapshot;
+        List<TrendingPostDto> ranked = (isAdmin ? current.admin() : current.published()).get(window);
+        return TrendingPostsDto.builder()
+                .window(window)
+                .generatedAt(current.generatedAt())
+                .posts(ranked.subList(0, Math.min(Math.max(size, 0), ranked.size())))
+                .build();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.refresh-interval:PT5S}")
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        counter.tick(startedAt);
+        Map<TrendingWindow, List<ViewCount>> candidates = new EnumMap<>(TrendingWindow.class);
+        Set<Long> postIds = new HashSet<>();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            List<ViewCount> top = counter.top(window, maxSize * CANDIDATE_FACTOR);
+            candidates.put(window, top);
+            top.forEach(viewCount -> postIds.add(viewCount.postId()));
+        }
+        Map<Long, PostSummaryProjection> summaries = postIds.isEmpty() ? Map.of() : readTransaction.execute(status ->
+                postRepository.findSummariesByPostIdIn(postIds).stream()
+                        .collect(Collectors.toMap(PostSummaryProjection::id, Function.identity())));
+
+        Map<TrendingWindow, List<TrendingPostDto>> published = new EnumMap<>(TrendingWindow.class);
+        Map<TrendingWindow, List<TrendingPostDto>> admin = new EnumMap<>(TrendingWindow.class);
+        for (Map.Entry<TrendingWindow, List<ViewCount>> entry : candidates.entrySet()) {
+            List<TrendingPostDto> publishedPosts = new ArrayList<>(maxSize);
+            List<TrendingPostDto> adminPosts = new ArrayList<>(maxSize);
+            for (ViewCount viewCount : entry.getValue()) {
+                PostSummaryProjection summary = summaries.get(viewCount.postId());
+                if (summary == null) {
+                    continue;
+                }
+                TrendingPostDto post = TrendingPostDto.builder()
+                        .post(PostSimpleResponseDto.fromProjection(summary))
+                        .views(viewCount.views())
+                        .build();
+                if (adminPosts.size() < maxSize) {
+                    adminPosts.add(post);
+                }
+                if (summary.published() && publishedPosts.size() < maxSize) {
+                    publishedPosts.add(post);
+                }
+            }
+            published.put(entry.getKey(), List.copyOf(publishedPosts));
+            admin.put(entry.getKey(), List.copyOf(adminPosts));
+        }
+        snapshot = new Snapshot(LocalDateTime.now(), published, admin);
+        log.debug("인기 게시글 스냅샷 갱신 - 후보 {}건, {}ms", postIds.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 삭제된 게시글은 다음 스냅샷부터 빠지지만 후보 자리를 차지하지 않도록 집계에서도 지운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            event.postIds().forEach(counter::remove);
+        }
+    }
+
+    private record Snapshot(LocalDateTime generatedAt,
+                            Map<TrendingWindow, List<TrendingPostDto>> published,
+                            Map<TrendingWindow, List<TrendingPostDto>> admin) {
+
+        static Snapshot empty(LocalDateTime generatedAt) {
+            Map<TrendingWindow, List<TrendingPostDto>> empty = new EnumMap<>(TrendingWindow.class);
+            for (TrendingWindow window : TrendingWindow.values()) {
+                empty.put(window, List.of());
+            }
+            return new Snapshot(generatedAt, empty, empty);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind.
+ * 조회는 게시글별 LongAdder 에 더하기만 하고(락 없음), 주기적으로 모아 JDBC batch UPDATE 로 posts.view_count 에 더한다.
+ * 종료 시에도 한 번 더 반영하므로 비정상 종료가 아니면 잃지 않고, 비정상 종료 시에는 최대 한 주기 분량을 잃는다.
+ */
+@Slf4j
+@Service
+public class PostViewService {
+
+    private static final String INCREMENT_SQL = "update posts set view_count = view_count + ? where post_id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+
+    public PostViewService(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           EntityManagerFactory entityManagerFactory,
+                           @Value("${blog.post-view.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+    }
+
+    public void record(long postId) {
+        // 이미 있는 게시글은 get 으로 끝난다 - 인기 글 하나에 몰려도 맵 잠금을 잡지 않는다
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pendingCount(long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 모인 조회수를 게시글 ID 순으로 batch UPDATE 한다 (여러 노드가 같은 행을 갱신해도 잠금 순서가 같다).
+     * 실패한 분량은 다시 더해 두고 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${blog.post-view.flush-interval:PT10S}",
+            initialDelayString = "${blog.post-view.flush-interval:PT10S}")
+    public synchronized int flush() {
+        List<ViewDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        int flushed = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<ViewDelta> chunk = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INCREMENT_SQL, chunk, chunk.size(), (ps, delta) -> {
+                            ps.setLong(1, delta.count());
+                            ps.setLong(2, delta.postId());
+                        }));
+            } catch (DataAccessException | TransactionException e) {
+                deltas.subList(from, deltas.size()).forEach(delta -> add(delta.postId(), delta.count()));
+                log.warn("조회수 반영 실패 - 게시글 {}건은 다음 주기에 다시 시도합니다", deltas.size() - from, e);
+                break;
+            }
+            // 2차 캐시의 게시글은 이전 조회수를 들고 있으므로 비운다
+            chunk.forEach(delta -> cache.evict(Post.class, delta.postId()));
+            flushed += chunk.size();
+        }
+        log.debug("조회수 반영 - 게시글 {}건", flushed);
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 게시글별 누적값을 0 으로 바꾸며 가져온다. sumThenReset 은 셀 단위로 교환하므로 동시에 들어온 증가분을 잃지 않는다.
+     * 한 주기 동안 조회가 없던 게시글은 맵에서 뺀다 - 빼는 순간 들어온 조회는 드물게 한 건 빠질 수 있다.
+     */
+    private List<ViewDelta> drain() {
+        List<ViewDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                deltas.add(new ViewDelta(entry.getKey(), count));
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                long late = entry.getValue().sumThenReset();
+                if (late > 0) {
+                    add(entry.getKey(), late);
+                }
+            }
+        }
+        deltas.sort(Comparator.comparingLong(ViewDelta::postId));
+        return deltas;
+    }
+
+    private void add(long postId, long count) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(count);
+    }
+
+    private record ViewDelta(long postId, long count) {
+    }
+}
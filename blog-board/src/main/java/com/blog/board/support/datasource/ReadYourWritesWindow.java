@@ -0,0 +1,49 @@
+package com.blog.board.support.datasource;
+
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 게시글/카테고리 변경이 커밋된 직후 잠깐 동안 읽기를 primary 로 보낸다.
+ * 복제 지연 중에 레플리카에서 읽으면 방금 쓴 관리자가 변경 전 내용을 보고,
+ * 변경 이벤트로 비워진 목록 캐시와 ETag(ContentVersion)가 변경 전 데이터로 다시 채워지기 때문이다.
+ * 쓰기는 관리자만 하므로 사용자별이 아니라 이 노드 전체에 적용한다. 조회수 반영 같은 내부 쓰기는 해당하지 않는다.
+ * 다른 커밋 후 리스너(피드, 스냅샷 등)가 바뀐 데이터를 다시 읽으므로, 구간은 그보다 먼저 연다.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private final long windowNanos;
+    private volatile long primaryUntil = System.nanoTime();
+
+    public ReadYourWritesWindow(@Value("${blog.datasource.read-your-writes-window:PT2S}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public boolean isActive() {
+        return System.nanoTime() - primaryUntil < 0;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        open();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        open();
+    }
+
+    private void open() {
+        primaryUntil = System.nanoTime() + windowNanos;
+    }
+}
@@ -0,0 +1,81 @@
+package com.blog.board.support.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource. LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 쓴다.
+ * 레플리카를 순서대로 돌아가며 쓰고, 커넥션을 얻지 못한 레플리카는 retryInterval 동안 건너뛴다.
+ * 쓸 수 있는 레플리카가 없거나 primaryOnly 가 참이면(읽기-쓰기 일관성 구간) primary 에서 읽는다.
+ */
+@Slf4j
+public class ReplicaLoadBalancingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final BooleanSupplier primaryOnly;
+    private final long retryIntervalNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    // 레플리카별로 다시 시도할 시각(System.nanoTime), 0 이면 정상
+    private final AtomicLongArray downUntil;
+
+    public ReplicaLoadBalancingDataSource(DataSource primary, List<DataSource> replicas,
+                                          BooleanSupplier primaryOnly, Duration retryInterval) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryOnly = primaryOnly;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.downUntil = new AtomicLongArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicas.isEmpty() && !primaryOnly.getAsBoolean()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                int index = (start + i) % replicas.size();
+                if (!isAvailable(index)) {
+                    continue;
+                }
+                try {
+                    Connection connection = replicas.get(index).getConnection();
+                    downUntil.set(index, 0);
+                    return connection;
+                } catch (SQLException e) {
+                    downUntil.set(index, System.nanoTime() + retryIntervalNanos);
+                    log.warn("레플리카 커넥션 실패 - {}번 레플리카를 잠시 제외합니다: {}", index, e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public int availableReplicaCount() {
+        int count = 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            if (isAvailable(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isAvailable(int index) {
+        long until = downUntil.get(index);
+        return until == 0 || System.nanoTime() - until >= 0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.blog.board.support.sql;
+
+/**
+ * 현재 스레드의 SQL 집계 범위. 웹 요청은 인터셉터가, 테스트는 JUnit 확장이 범위를 연다.
+ * 범위가 없으면 리스너는 아무것도 세지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * @param limit  허용 문장 수. 음수면 제한 없음
+     * @param reject true 면 한도를 넘는 문장을 실행하지 않고 예외를 던진다
+     */
+    public static SqlStatementScope begin(String name, int limit, boolean reject) {
+        SqlStatementScope scope = new SqlStatementScope(name, limit, reject);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static SqlStatementScope end() {
+        SqlStatementScope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope;
+    }
+
+    public static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 범위의 집계를 resume 까지 멈춘다. 요청의 한도와 무관한 작업(커밋 후 이벤트 처리 등)에 쓴다.
+     */
+    public static void suspend() {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.suspend();
+        }
+    }
+
+    public static void resume() {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.resume();
+        }
+    }
+
+    // 작업 하나의 문장 수만 센다 - 바깥 범위가 있으면 끝난 뒤 되돌린다
+    public static SqlStatementCounts count(Runnable action) {
+        SqlStatementScope outer = CURRENT.get();
+        SqlStatementScope scope = begin("count", -1, false);
+        try {
+            action.run();
+            return scope.counts();
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
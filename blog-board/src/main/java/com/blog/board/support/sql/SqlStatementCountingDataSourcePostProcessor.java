@@ -0,0 +1,25 @@
+package com.blog.board.support.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 모든 DataSource 를 SQL 집계 프록시로 감싼다. Hibernate 와 JdbcTemplate 경로가 모두 집계된다.
+ */
+@Component
+public class SqlStatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(new SqlStatementCountingListener())
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,48 @@
+package com.blog.board.support.sql;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.RestrictedTransactionalEventListenerFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.lang.reflect.Method;
+
+/**
+ * 커밋(또는 롤백) 후에 실행되는 @TransactionalEventListener 의 SQL 은 요청의 SQL 한도에 세지 않는다.
+ * 이미 커밋된 쓰기 요청을 캐시·피드 갱신 쿼리 때문에 거부(503)하지 않기 위해서다.
+ * 기본 팩토리(RestrictedTransactionalEventListenerFactory)보다 먼저 적용되어 같은 리스너를 만들고 집계 중단 콜백만 덧붙인다.
+ */
+@Component
+public class SqlStatementCountingEventListenerFactory extends RestrictedTransactionalEventListenerFactory {
+
+    private static final TransactionalApplicationListener.SynchronizationCallback SUSPEND_COUNTING =
+            new TransactionalApplicationListener.SynchronizationCallback() {
+                @Override
+                public void preProcessEvent(ApplicationEvent event) {
+                    SqlStatementCounter.suspend();
+                }
+
+                @Override
+                public void postProcessEvent(ApplicationEvent event, Throwable ex) {
+                    SqlStatementCounter.resume();
+                }
+            };
+
+    public SqlStatementCountingEventListenerFactory() {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(String beanName, Class<?> type, Method method) {
+        ApplicationListener<?> listener = super.createApplicationListener(beanName, type, method);
+        // 커밋 전 리스너는 요청 트랜잭션의 일부이므로 그대로 센다
+        if (listener instanceof TransactionalApplicationListener<?> transactional
+                && transactional.getTransactionPhase() != TransactionPhase.BEFORE_COMMIT) {
+            transactional.addCallback(SUSPEND_COUNTING);
+        }
+        return listener;
+    }
+}
@@ -0,0 +1,29 @@
+package com.blog.board.support.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너. 실행 직전에 현재 범위에 기록해 한도 초과 시 실행 자체를 막는다.
+ * PreparedStatement 배치는 파라미터 묶음 수와 관계없이 한 번으로 센다 (DB 왕복 기준).
+ */
+public class SqlStatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementScope scope = SqlStatementCounter.current();
+        if (scope == null || scope.isSuspended()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            scope.record(queryInfo.getQuery());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+}
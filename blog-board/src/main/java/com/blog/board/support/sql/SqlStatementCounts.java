@@ -0,0 +1,11 @@
+package com.blog.board.support.sql;
+
+/**
+ * 범위(요청, 테스트) 안에서 실행된 SQL 문장 수. 배치 실행은 한 번으로 센다.
+ */
+public record SqlStatementCounts(int select, int insert, int update, int delete, int other) {
+
+    public int total() {
+        return select + insert + update + delete + other;
+    }
+}
@@ -0,0 +1,96 @@
+package com.blog.board.support.sql;
+
+import com.blog.board.exception.SqlBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 범위에서 실행된 SQL 을 종류별, 문장별로 센다. 한 스레드에서만 쓰므로 동기화하지 않는다.
+ * reject 가 켜져 있으면 한도를 넘는 문장을 실행하기 전에 예외를 던져 더 이상 DB 를 치지 않게 한다.
+ */
+@Slf4j
+public class SqlStatementScope {
+
+    private final String name;
+    private final int limit;
+    private final boolean reject;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+    private int other;
+    private int suspended;
+
+    SqlStatementScope(String name, int limit, boolean reject) {
+        this.name = name;
+        this.limit = limit;
+        this.reject = reject;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // 커밋 후 콜백은 중첩될 수 있으므로 깊이로 센다
+    void suspend() {
+        suspended++;
+    }
+
+    void resume() {
+        if (suspended > 0) {
+            suspended--;
+        }
+    }
+
+    boolean isSuspended() {
+        return suspended > 0;
+    }
+
+    void record(String sql) {
+        if (reject && limit >= 0 && total() >= limit) {
+            log.warn("SQL 실행 한도 초과로 요청을 중단합니다 - {}, 한도 {}", name, limit);
+            throw new SqlBudgetExceededException();
+        }
+        switch (SqlStatementType.of(sql)) {
+            case SELECT -> select++;
+            case INSERT -> insert++;
+            case UPDATE -> update++;
+            case DELETE -> delete++;
+            case OTHER -> other++;
+        }
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    public SqlStatementCounts counts() {
+        return new SqlStatementCounts(select, insert, update, delete, other);
+    }
+
+    public boolean isOverLimit() {
+        return limit >= 0 && total() > limit;
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행된 문장 - 파라미터만 바꿔 반복 조회하는 N+1 패턴의 징후다.
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statements.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    private int total() {
+        return select + insert + update + delete + other;
+    }
+}
@@ -0,0 +1,39 @@
+package com.blog.board.support.sql;
+
+enum SqlStatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    static SqlStatementType of(String sql) {
+        int start = 0;
+        int length = sql.length();
+        while (start < length) {
+            char c = sql.charAt(start);
+            if (Character.isWhitespace(c) || c == '(') {
+                start++;
+            } else if (sql.startsWith("/*", start)) {
+                // Hibernate 주석(use_sql_comments) 건너뛰기
+                int end = sql.indexOf("*/", start + 2);
+                start = end < 0 ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+        if (startsWithKeyword(sql, start, "select") || startsWithKeyword(sql, start, "with")) {
+            return SELECT;
+        }
+        if (startsWithKeyword(sql, start, "insert")) {
+            return INSERT;
+        }
+        if (startsWithKeyword(sql, start, "update")) {
+            return UPDATE;
+        }
+        if (startsWithKeyword(sql, start, "delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    private static boolean startsWithKeyword(String sql, int start, String keyword) {
+        return sql.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+}
@@ -0,0 +1,34 @@
+package com.blog.board.trending;
+
+import com.blog.board.exception.InvalidTrendingWindowException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public enum TrendingWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration length;
+
+    TrendingWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration length() {
+        return length;
+    }
+
+    // 요청 파라미터(hour, day, week) 변환 - 대소문자 구분 없음
+    public static TrendingWindow from(String value) {
+        if (value == null) {
+            throw new InvalidTrendingWindowException();
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTrendingWindowException();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.blog.board.trending;
+
+public record ViewCount(long postId, long views) {
+}
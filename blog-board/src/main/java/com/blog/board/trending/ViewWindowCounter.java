@@ -0,0 +1,143 @@
+package com.blog.board.trending;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 조회수의 슬라이딩 윈도우(최근 1시간/1일/1주) 집계.
+ * 조회는 현재 틱의 LongAdder 에 더하기만 하고, tick() 이 틱 단위로 모아 분/시간 버킷과 윈도우 합계에 반영한다.
+ * 버킷이 윈도우를 벗어나면 그 버킷의 값만큼 합계에서 빼므로 틱마다 전체를 다시 더하지 않는다.
+ * 윈도우 경계는 버킷 단위(1시간 윈도우는 1분, 1일/1주 윈도우는 1시간)로 맞춰진다.
+ * record() 외의 메서드는 한 스레드(갱신 작업)에서만 부른다고 가정하고 동기화만 걸어 둔다.
+ */
+public class ViewWindowCounter {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final Comparator<ViewCount> RANKING = Comparator.comparingLong(ViewCount::views)
+            .thenComparingLong(ViewCount::postId);
+
+    private volatile ConcurrentHashMap<Long, LongAdder> live = new ConcurrentHashMap<>();
+    // 직전 틱 - 교체 직전에 참조를 얻은 스레드의 증가분까지 받도록 한 틱 늦게 반영한다
+    private ConcurrentHashMap<Long, LongAdder> retired;
+    private long retiredAt;
+
+    private final Deque<Bucket> minuteBuckets = new ArrayDeque<>();
+    private final Deque<Bucket> dayHourBuckets = new ArrayDeque<>();
+    private final Deque<Bucket> weekHourBuckets = new ArrayDeque<>();
+    private final Map<TrendingWindow, Map<Long, Long>> totals = new EnumMap<>(TrendingWindow.class);
+
+    public ViewWindowCounter() {
+        for (TrendingWindow window : TrendingWindow.values()) {
+            totals.put(window, new HashMap<>());
+        }
+    }
+
+    public void record(long postId) {
+        ConcurrentHashMap<Long, LongAdder> counters = live;
+        LongAdder adder = counters.get(postId);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 현재 틱을 닫고 직전 틱을 버킷에 반영한 뒤, 윈도우를 벗어난 버킷을 합계에서 뺀다.
+     */
+    public synchronized void tick(long nowMillis) {
+        ConcurrentHashMap<Long, LongAdder> closed = live;
+        live = new ConcurrentHashMap<>();
+        if (retired != null) {
+            fold(retired, retiredAt);
+        }
+        retired = closed;
+        retiredAt = nowMillis;
+        expire(nowMillis);
+    }
+
+    // 윈도우 합계 상위 limit 개 - 크기 limit 의 최소 힙으로 고른다
+    public synchronized List<ViewCount> top(TrendingWindow window, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ViewCount> heap = new PriorityQueue<>(limit + 1, RANKING);
+        for (Map.Entry<Long, Long> entry : totals.get(window).entrySet()) {
+            ViewCount candidate = new ViewCount(entry.getKey(), entry.getValue());
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (RANKING.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<ViewCount> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING.reversed());
+        return ranked;
+    }
+
+    public synchronized long views(TrendingWindow window, long postId) {
+        return totals.get(window).getOrDefault(postId, 0L);
+    }
+
+    public synchronized void remove(long postId) {
+        totals.values().forEach(total -> total.remove(postId));
+    }
+
+    private void fold(ConcurrentHashMap<Long, LongAdder> counters, long atMillis) {
+        Bucket minute = bucket(minuteBuckets, atMillis / MINUTE_MILLIS);
+        Bucket hour = bucket(dayHourBuckets, atMillis / HOUR_MILLIS);
+        if (weekHourBuckets.peekLast() != hour) {
+            weekHourBuckets.addLast(hour);
+        }
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long views = entry.getValue().sum();
+            if (views == 0) {
+                continue;
+            }
+            minute.counts().merge(entry.getKey(), views, Long::sum);
+            hour.counts().merge(entry.getKey(), views, Long::sum);
+            for (Map<Long, Long> total : totals.values()) {
+                total.merge(entry.getKey(), views, Long::sum);
+            }
+        }
+    }
+
+    private Bucket bucket(Deque<Bucket> buckets, long index) {
+        Bucket last = buckets.peekLast();
+        if (last != null && last.index() == index) {
+            return last;
+        }
+        Bucket created = new Bucket(index, new HashMap<>());
+        buckets.addLast(created);
+        return created;
+    }
+
+    private void expire(long nowMillis) {
+        expire(minuteBuckets, nowMillis / MINUTE_MILLIS - 60, TrendingWindow.HOUR);
+        expire(dayHourBuckets, nowMillis / HOUR_MILLIS - 24, TrendingWindow.DAY);
+        expire(weekHourBuckets, nowMillis / HOUR_MILLIS - 24 * 7, TrendingWindow.WEEK);
+    }
+
+    private void expire(Deque<Bucket> buckets, long oldestIndexToDrop, TrendingWindow window) {
+        Map<Long, Long> total = totals.get(window);
+        while (!buckets.isEmpty() && buckets.peekFirst().index() <= oldestIndexToDrop) {
+            for (Map.Entry<Long, Long> entry : buckets.pollFirst().counts().entrySet()) {
+                total.computeIfPresent(entry.getKey(), (postId, views) ->
+                        views > entry.getValue() ? views - entry.getValue() : null);
+            }
+        }
+    }
+
+    private record Bucket(long index, Map<Long, Long> counts) {
+    }
+}
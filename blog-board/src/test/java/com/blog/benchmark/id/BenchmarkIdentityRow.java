@@ -0,0 +1,22 @@
+package com.blog.benchmark.id;
+
+import jakarta.persistence.*;
+
+// ID 생성 벤치마크용 - 기존 IDENTITY 매핑
+@Entity
+@Table(name = "benchmark_identity_rows")
+class BenchmarkIdentityRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String title;
+
+    protected BenchmarkIdentityRow() {
+    }
+
+    BenchmarkIdentityRow(String title) {
+        this.title = title;
+    }
+}
@@ -0,0 +1,25 @@
+package com.blog.benchmark.id;
+
+import jakarta.persistence.*;
+
+// ID 생성 벤치마크용 - 카테고리와 같은 pooled 테이블 생성기
+@Entity
+@Table(name = "benchmark_pooled_rows")
+class BenchmarkPooledRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "benchmark_pooled")
+    @TableGenerator(name = "benchmark_pooled", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "benchmark_pooled_rows", allocationSize = 50)
+    private Long id;
+
+    private String title;
+
+    protected BenchmarkPooledRow() {
+    }
+
+    BenchmarkPooledRow(String title) {
+        this.title = title;
+    }
+}
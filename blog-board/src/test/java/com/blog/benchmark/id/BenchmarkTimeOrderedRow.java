@@ -0,0 +1,23 @@
+package com.blog.benchmark.id;
+
+import com.blog.board.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+
+// ID 생성 벤치마크용 - 게시글과 같은 시간순 ID
+@Entity
+@Table(name = "benchmark_time_ordered_rows")
+class BenchmarkTimeOrderedRow {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    private String title;
+
+    protected BenchmarkTimeOrderedRow() {
+    }
+
+    BenchmarkTimeOrderedRow(String title) {
+        this.title = title;
+    }
+}
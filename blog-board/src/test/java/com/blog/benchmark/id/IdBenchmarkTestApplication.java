@@ -0,0 +1,10 @@
+package com.blog.benchmark.id;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+
+// ID 생성 벤치마크 전용 설정 - 이 패키지의 벤치마크 엔티티만 스캔한다
+@SpringBootApplication
+@EntityScan(basePackageClasses = IdBenchmarkTestApplication.class)
+public class IdBenchmarkTestApplication {
+}
@@ -0,0 +1,92 @@
+package com.blog.benchmark.id;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IDENTITY 와 insert 전 발급 생성기의 insert 처리량 비교. ./gradlew :blog-board:benchmarkTest 로 실행한다.
+ * 인메모리 H2 는 왕복 비용이 거의 없으므로 처리량 차이는 실제 MySQL 보다 작게 나온다 - 문장 수 차이를 함께 본다.
+ * 벤치마크 엔티티는 다른 슬라이스 테스트에 스캔되지 않도록 com.blog.board 밖에 두고 {@link IdBenchmarkTestApplication} 으로 띄운다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ID 생성 전략 insert 벤치마크")
+class IdGenerationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerationBenchmarkTest.class);
+    private static final int ROWS = 20_000;
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("시간순/pooled 생성기는 배치 insert 로 IDENTITY 보다 문장 수가 적음")
+    void compareInsertThroughput() {
+        // given - 워밍업
+        insert(i -> new BenchmarkIdentityRow("제목 " + i), ROWS_PER_TRANSACTION);
+        insert(i -> new BenchmarkTimeOrderedRow("제목 " + i), ROWS_PER_TRANSACTION);
+        insert(i -> new BenchmarkPooledRow("제목 " + i), ROWS_PER_TRANSACTION);
+
+        // when
+        Result identity = insert(i -> new BenchmarkIdentityRow("제목 " + i), ROWS);
+        Result timeOrdered = insert(i -> new BenchmarkTimeOrderedRow("제목 " + i), ROWS);
+        Result pooled = insert(i -> new BenchmarkPooledRow("제목 " + i), ROWS);
+
+        // then
+        log.info("IDENTITY     {} rows/s, {} statements", Math.round(identity.rowsPerSecond()), identity.statements());
+        log.info("TIME_ORDERED {} rows/s, {} statements", Math.round(timeOrdered.rowsPerSecond()), timeOrdered.statements());
+        log.info("POOLED       {} rows/s, {} statements", Math.round(pooled.rowsPerSecond()), pooled.statements());
+        assertThat(timeOrdered.statements() * 10).isLessThan(identity.statements());
+        assertThat(pooled.statements() * 10).isLessThan(identity.statements());
+    }
+
+    private Result insert(IntFunction<Object> rowFactory, int rows) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < rows; from += ROWS_PER_TRANSACTION) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < Math.min(start + ROWS_PER_TRANSACTION, rows); i++) {
+                    entityManager.persist(rowFactory.apply(i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(rows * 1_000_000_000.0 / elapsedNanos, statistics.getPrepareStatementCount());
+    }
+
+    private record Result(double rowsPerSecond, long statements) {
+    }
+}
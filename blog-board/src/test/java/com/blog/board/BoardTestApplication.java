@@ -0,0 +1,10 @@
+package com.blog.board;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+// blog-board 는 애플리케이션 클래스가 없으므로 슬라이스 테스트용 설정을 둔다
+@EnableJpaAuditing
+@SpringBootApplication
+public class BoardTestApplication {
+}
@@ -0,0 +1,61 @@
+package com.blog.board.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimeOrderedIdGenerator 단위 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 단조 증가하고 발급 시각을 복원할 수 있음")
+    void nextId_MonotonicWithinMillisecond() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, () -> NOW);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(TimeOrderedIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(first).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("순번을 다 쓰거나 시계가 뒤로 가도 ID 가 줄어들지 않음")
+    void nextId_SequenceOverflowAndClockRollback() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, clock::get);
+        long previous = generator.nextId();
+
+        // when & then
+        for (int i = 0; i < 300; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        clock.addAndGet(-5_000);
+        assertThat(generator.nextId()).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 다르면 같은 시각에도 ID 가 겹치지 않음")
+    void nextId_DistinctAcrossNodes() {
+        // given
+        TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(1, () -> NOW);
+        TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator(2, () -> NOW);
+
+        // when & then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
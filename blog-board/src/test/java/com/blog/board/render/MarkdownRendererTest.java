@@ -0,0 +1,58 @@
+package com.blog.board.render;
+
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.dto.TocEntryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MarkdownRenderer 단위 테스트")
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer markdownRenderer = new MarkdownRenderer();
+
+    @Test
+    @DisplayName("렌더링 - 제목으로 목차를 만들고 같은 id 를 HTML 에 부여")
+    void render_TableOfContents() {
+        // given
+        String markdown = "# 시작하기\n\n본문\n\n## Spring Boot 설정\n\n## Spring Boot 설정\n";
+
+        // when
+        PostRenderDto result = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(result.getToc()).extracting(TocEntryDto::getAnchor)
+                .containsExactly("시작하기", "spring-boot-설정", "spring-boot-설정-1");
+        assertThat(result.getToc()).extracting(TocEntryDto::getLevel).containsExactly(1, 2, 2);
+        assertThat(result.getHtml()).contains("<h2 id=\"spring-boot-설정-1\">");
+    }
+
+    @Test
+    @DisplayName("렌더링 - 스크립트와 이벤트 핸들러 제거")
+    void render_Sanitized() {
+        // given
+        String markdown = "안녕하세요 <script>alert('x')</script>\n\n<img src=\"https://a.com/a.png\" onerror=\"alert(1)\">";
+
+        // when
+        PostRenderDto result = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(result.getHtml()).doesNotContain("<script").doesNotContain("onerror");
+        assertThat(result.getHtml()).contains("https://a.com/a.png");
+    }
+
+    @Test
+    @DisplayName("렌더링 - 단어 수와 읽기 시간 계산")
+    void render_WordCountAndReadingTime() {
+        // given
+        String markdown = "단어 ".repeat(450);
+
+        // when
+        PostRenderDto result = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(result.getWordCount()).isEqualTo(450);
+        assertThat(result.getReadingMinutes()).isEqualTo(3);
+    }
+}
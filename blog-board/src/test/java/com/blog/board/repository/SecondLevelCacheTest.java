@@ -0,0 +1,131 @@
+package com.blog.board.repository;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 2차 캐시 항목은 적재한 트랜잭션 이후에만 읽을 수 있으므로 조회마다 트랜잭션을 분리한다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("2차 캐시 / 쿼리 캐시 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리 조회 - 반복 조회 시 SQL 을 실행하지 않음")
+    void categoryLookup_RepeatedReadsIssueNoSql() {
+        // given
+        transactionTemplate.executeWithoutResult(status ->
+                categoryRepository.save(Category.builder().categoryName("개발 일지").build()));
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryRepository.findByCategoryName("개발 일지");
+            categoryRepository.findAll();
+        });
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                assertThat(categoryRepository.findByCategoryName("개발 일지")).isPresent();
+                assertThat(categoryRepository.findAll()).hasSize(1);
+            });
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementCount);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - 반복 조회 시 SQL 을 실행하지 않음")
+    void postFindById_RepeatedReadsIssueNoSql() {
+        // given
+        Long postId = transactionTemplate.execute(status -> {
+            Category category = categoryRepository.save(Category.builder().categoryName("개발 일지").build());
+            return postRepository.save(Post.builder()
+                    .title("캐시 테스트")
+                    .content("내용")
+                    .published(true)
+                    .category(category)
+                    .build()).getPostId();
+        });
+        transactionTemplate.executeWithoutResult(status -> postRepository.findById(postId));
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = postRepository.findById(postId).orElseThrow();
+                assertThat(post.getCategory().getCategoryName()).isEqualTo("개발 일지");
+            });
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementCount);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 쿼리 캐시와 엔티티 캐시 무효화")
+    void categoryUpdate_InvalidatesCaches() {
+        // given
+        Long categoryId = transactionTemplate.execute(status ->
+                categoryRepository.save(Category.builder().categoryName("개발 일지").build()).getCategoryId());
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.findByCategoryName("개발 일지"));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                categoryRepository.findById(categoryId).orElseThrow().updateName("회고"));
+
+        // then
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(categoryRepository.findByCategoryName("개발 일지")).isEmpty();
+            assertThat(categoryRepository.findByCategoryName("회고")).isPresent();
+            assertThat(categoryRepository.findById(categoryId).orElseThrow().getCategoryName()).isEqualTo("회고");
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.blog.board.revision;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RevisionDelta 단위 테스트")
+class RevisionDeltaTest {
+
+    @Test
+    @DisplayName("델타 - 적용하면 대상 본문과 같고, 마지막 개행 유무도 유지")
+    void encode_RoundTrip() {
+        // given
+        String base = "# 제목\n\n첫 문단\n둘째 문단\n\n```java\nint a = 1;\n```\n";
+        String target = "# 새 제목\n\n첫 문단\n\n```java\nint a = 1;\nint b = 2;\n```";
+
+        // when
+        byte[] delta = RevisionDelta.encode(base, target).orElseThrow();
+
+        // then
+        assertThat(RevisionDelta.apply(base, delta)).isEqualTo(target);
+        assertThat(RevisionDelta.apply("", RevisionDelta.encode("", base).orElseThrow())).isEqualTo(base);
+        assertThat(RevisionDelta.fromSnapshot(RevisionDelta.snapshot(target))).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("델타 - 긴 글의 한 줄 수정은 전체 스냅샷보다 훨씬 작음")
+    void encode_SmallerThanSnapshot() {
+        // given
+        String base = IntStream.range(0, 2_000)
+                .mapToObj(i -> "문단 " + i + " - 같은 내용이 반복되지 않도록 번호를 붙인 줄 " + (i * 7919 % 1000))
+                .collect(Collectors.joining("\n"));
+        String target = base.replace("문단 1000 -", "고친 문단 1000 -");
+
+        // when
+        byte[] delta = RevisionDelta.encode(base, target).orElseThrow();
+
+        // then
+        assertThat(delta.length).isLessThan(RevisionDelta.snapshot(target).length / 20);
+        assertThat(RevisionDelta.apply(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("델타 - 편집 거리가 상한을 넘으면 만들지 않음")
+    void encode_TooDifferent() {
+        // given
+        String base = IntStream.range(0, LineDiff.DEFAULT_MAX_EDITS)
+                .mapToObj(i -> "a" + i).collect(Collectors.joining("\n"));
+        String target = IntStream.range(0, LineDiff.DEFAULT_MAX_EDITS)
+                .mapToObj(i -> "b" + i).collect(Collectors.joining("\n"));
+
+        // when & then
+        assertThat(RevisionDelta.encode(base, target)).isEmpty();
+        assertThat(LineDiff.diffOrReplace(LineDiff.lines(base), LineDiff.lines(target)))
+                .hasSize(LineDiff.DEFAULT_MAX_EDITS * 2);
+    }
+
+    @Test
+    @DisplayName("hunk - 바뀐 줄 앞뒤로 3줄씩 붙이고, 멀리 떨어진 변경은 나눔")
+    void hunks_UnifiedFormat() {
+        // given
+        List<String> base = IntStream.rangeClosed(1, 20).mapToObj(i -> "줄" + i).toList();
+        List<String> target = base.stream()
+                .map(line -> line.equals("줄5") ? "다섯째 줄" : line)
+                .filter(line -> !line.equals("줄18"))
+                .toList();
+
+        // when
+        List<LineDiff.Hunk> hunks = LineDiff.hunks(LineDiff.diffOrReplace(base, target), base, target, 3);
+
+        // then
+        assertThat(hunks).hasSize(2);
+        assertThat(hunks.get(0)).isEqualTo(new LineDiff.Hunk(2, 7, 2, 7,
+                List.of(" 줄2", " 줄3", " 줄4", "-줄5", "+다섯째 줄", " 줄6", " 줄7", " 줄8")));
+        assertThat(hunks.get(1).baseStart()).isEqualTo(15);
+        assertThat(hunks.get(1).lines()).containsExactly(" 줄15", " 줄16", " 줄17", "-줄18", " 줄19", " 줄20");
+    }
+}
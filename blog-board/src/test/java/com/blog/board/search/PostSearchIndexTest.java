@@ -0,0 +1,130 @@
+package com.blog.board.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostSearchIndex 단위 테스트")
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        index.index(1L, "스프링 부트 시작하기", "스프링 부트는 자동 설정을 제공합니다.", true, 100L);
+        index.index(2L, "JPA 정리", "스프링 데이터 JPA 와 영속성 컨텍스트", true, 200L);
+        index.index(3L, "비공개 초안", "스프링 부트 배포 메모", false, 300L);
+    }
+
+    @Test
+    @DisplayName("제목에 일치하는 글이 먼저 오도록 BM25 순위")
+    void search_RanksTitleMatchesFirst() {
+        // when
+        SearchResult result = index.search("스프링 부트", false, 0, 10);
+
+        // then
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("붙여 쓴 질의도 색인에 있는 바이그램으로 검색")
+    void search_ConcatenatedQuery() {
+        // when
+        SearchResult result = index.search("스프링부트", true, 0, 10);
+
+        // then
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("비공개 글은 관리자 검색에서만 노출")
+    void search_HidesUnpublished() {
+        assertThat(index.search("배포", false, 0, 10).total()).isZero();
+        assertThat(index.search("배포", true, 0, 10).hits()).extracting(SearchHit::postId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("페이지 범위만 반환하고 전체 건수는 유지")
+    void search_Paginates() {
+        // when
+        SearchResult result = index.search("스프링", true, 1, 1);
+
+        // then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.hits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("수정 시 이전 토큰은 제거되고 삭제 시 결과에서 빠짐")
+    void indexAndRemove_UpdatesPostings() {
+        // when
+        index.index(2L, "하이버네이트", "배치 페치 크기", true, 400L);
+
+        // then
+        assertThat(index.search("jpa", true, 0, 10).total()).isZero();
+        assertThat(index.search("하이버네이트", true, 0, 10).total()).isEqualTo(1);
+
+        index.remove(2L);
+        assertThat(index.search("하이버네이트", true, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("더 오래된 수정 시각으로는 덮어쓰지 않음")
+    void index_IgnoresStaleVersion() {
+        // when
+        index.index(1L, "예전 제목", "예전 본문", true, 50L);
+
+        // then
+        assertThat(index.search("시작하기", true, 0, 10).total()).isEqualTo(1);
+        assertThat(index.search("예전", true, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일로 저장 후 읽으면 같은 결과와 워터마크")
+    void writeAndRead_RoundTrip(@TempDir Path tempDir) throws Exception {
+        // given
+        Path path = tempDir.resolve("search/posts.idx");
+
+        // when
+        index.writeTo(path);
+        PostSearchIndex loaded = PostSearchIndex.readFrom(path);
+
+        // then
+        assertThat(index.isDirty()).isFalse();
+        assertThat(loaded.size()).isEqualTo(3);
+        assertThat(loaded.watermark()).isEqualTo(300L);
+        assertThat(loaded.search("스프링", true, 0, 10).hits())
+                .isEqualTo(index.search("스프링", true, 0, 10).hits());
+    }
+
+    @Test
+    @DisplayName("저장 이후 변경이나 저장 실패는 저장할 것으로 남음")
+    void writeTo_KeepsDirtyAfterLaterChangeOrFailure(@TempDir Path tempDir) throws Exception {
+        // given
+        Path path = tempDir.resolve("posts.idx");
+        index.writeTo(path);
+        assertThat(index.isDirty()).isFalse();
+
+        // when
+        index.remove(2L);
+
+        // then
+        assertThat(index.isDirty()).isTrue();
+        // 비어 있지 않은 디렉터리로는 교체할 수 없다 - 파일을 쓴 뒤 교체에서 실패한다
+        Path blocked = tempDir.resolve("blocked");
+        Files.createDirectories(blocked.resolve("child"));
+        assertThatThrownBy(() -> index.writeTo(blocked)).isInstanceOf(IOException.class);
+        assertThat(index.isDirty()).isTrue();
+        index.writeTo(path);
+        assertThat(index.isDirty()).isFalse();
+    }
+}
@@ -0,0 +1,43 @@
+package com.blog.board.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchTokenizer 단위 테스트")
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 음절 바이그램, 영문은 소문자 단어로 분리")
+    void tokenize_KoreanBigramsAndEnglishWords() {
+        assertThat(SearchTokenizer.tokenize("스프링 JPA 정리"))
+                .containsExactly("스프", "프링", "jpa", "정리");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있어도 경계에서 분리")
+    void tokenize_MixedScripts() {
+        assertThat(SearchTokenizer.tokenize("Spring부트"))
+                .containsExactly("spring", "부트");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 어절은 그대로 토큰")
+    void tokenize_SingleSyllable() {
+        assertThat(SearchTokenizer.tokenize("책 읽기")).containsExactly("책", "읽기");
+    }
+
+    @Test
+    @DisplayName("전각 문자는 NFKC 정규화 후 분리하고 기호는 버림")
+    void tokenize_NormalizesAndDropsPunctuation() {
+        assertThat(SearchTokenizer.tokenize("ＡＢＣ-123, !!")).containsExactly("abc", "123");
+    }
+
+    @Test
+    @DisplayName("빈 문자열과 null 은 빈 목록")
+    void tokenize_Empty() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize("   ")).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import com.blog.board.dto.CategoryDeletionJobDto;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.exception.InvalidCategoryTargetException;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 청크마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = "blog.category-deletion.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CategoryDeletionService.class, CategoryService.class, PostCounterService.class})
+@RecordApplicationEvents
+@DisplayName("카테고리 삭제 작업 테스트")
+class CategoryDeletionServiceTest {
+
+    @Autowired
+    private CategoryDeletionService categoryDeletionService;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("게시글을 여러 청크에 걸쳐 대상 카테고리로 옮기고 카운터를 함께 보정")
+    void start_MovesPostsInChunks() {
+        // given
+        Category source = categoryRepository.save(Category.builder().categoryName("옮길 카테고리").build());
+        Category target = categoryRepository.save(Category.builder().categoryName("대상 카테고리").build());
+        List<Long> movedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            movedIds.add(save(source, "글 " + i, i % 2 == 0));
+        }
+        save(target, "기존 글", true);
+
+        // when
+        CategoryDeletionJobDto job = categoryDeletionService.start(source.getCategoryId(), target.getCategoryId());
+
+        // then
+        CategoryDeletionJobDto finished = categoryDeletionService.getJob(job.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(CategoryDeletionJobDto.Status.COMPLETED);
+        assertThat(finished.getTotalPosts()).isEqualTo(5);
+        assertThat(finished.getProcessedPosts()).isEqualTo(5);
+        assertThat(categoryRepository.existsById(source.getCategoryId())).isFalse();
+        assertThat(postRepository.count()).isEqualTo(6);
+        assertThat(postCounterService.count(target.getCategoryId(), true)).isEqualTo(6);
+        assertThat(postCounterService.count(target.getCategoryId(), false)).isEqualTo(4);
+        assertThat(postCounterService.count(null, true)).isEqualTo(6);
+        assertThat(postCounterRepository.findById(source.getCategoryId())).isEmpty();
+        // 청크마다 옮긴 게시글의 변경 이벤트
+        assertThat(events.stream(PostChangedEvent.class))
+                .allMatch(event -> event.type() == PostChangedEvent.ChangeType.UPDATED)
+                .hasSize(3);
+        assertThat(events.stream(PostChangedEvent.class).flatMap(event -> event.postIds().stream()))
+                .containsExactlyInAnyOrderElementsOf(movedIds);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 게시글도 삭제, 자기 자신으로 옮기는 요청은 예외")
+    void start_PurgesPostsAndRejectsSameTarget() {
+        // given
+        Category category = categoryRepository.save(Category.builder().categoryName("삭제할 카테고리").build());
+        for (int i = 0; i < 3; i++) {
+            save(category, "글 " + i, true);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> categoryDeletionService.start(category.getCategoryId(), category.getCategoryId()))
+                .isInstanceOf(InvalidCategoryTargetException.class);
+
+        CategoryDeletionJobDto job = categoryDeletionService.start(category.getCategoryId(), null);
+        assertThat(categoryDeletionService.getJob(job.getJobId()).getStatus())
+                .isEqualTo(CategoryDeletionJobDto.Status.COMPLETED);
+        assertThat(postRepository.count()).isZero();
+        assertThat(postCounterService.count(null, true)).isZero();
+    }
+
+    private Long save(Category category, String title, boolean published) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Post post = postRepository.save(Post.builder()
+                    .title(title)
+                    .content("본문")
+                    .published(published)
+                    .category(category)
+                    .build());
+            postCounterService.onCreated(post);
+            return post.getPostId();
+        });
+    }
+
+    @TestConfiguration
+    static class SyncExecutorConfig {
+        @Bean(name = "applicationTaskExecutor")
+        TaskExecutor applicationTaskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+}
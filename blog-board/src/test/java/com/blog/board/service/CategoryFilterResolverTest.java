@@ -0,0 +1,94 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.event.CategoryChangedEvent;
+import com.blog.board.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryFilterResolver 단위 테스트")
+class CategoryFilterResolverTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryFilterResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new CategoryFilterResolver(categoryRepository, 100, Duration.ofMinutes(5));
+        given(categoryRepository.findAll()).willReturn(List.of(
+                Category.builder().categoryId(1L).categoryName("개발 일지").build()));
+    }
+
+    @Test
+    @DisplayName("존재하는 카테고리 - 공백 제거 후 ID 반환")
+    void resolve_KnownCategory() {
+        // when & then
+        assertThat(resolver.resolve(" 개발 일지 ")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리 - 반복 조회해도 DB는 한 번만 읽음")
+    void resolve_UnknownCategory_NegativeCached() {
+        // when
+        assertThat(resolver.resolve("없는 카테고리")).isEmpty();
+        assertThat(resolver.resolve("없는 카테고리")).isEmpty();
+        assertThat(resolver.resolve("또 없는 카테고리")).isEmpty();
+
+        // then
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 이벤트 - 맵과 부정 캐시를 비우고 다시 읽음")
+    void onCategoryChanged_Reloads() {
+        // given
+        assertThat(resolver.resolve("새 카테고리")).isEmpty();
+        given(categoryRepository.findAll()).willReturn(List.of(
+                Category.builder().categoryId(1L).categoryName("개발 일지").build(),
+                Category.builder().categoryId(2L).categoryName("새 카테고리").build()));
+
+        // when
+        resolver.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        // then
+        assertThat(resolver.resolve("새 카테고리")).contains(2L);
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("맵을 읽는 중에 카테고리가 생성됨 - 변경 전 결과를 부정 캐시와 맵에 남기지 않음")
+    void resolve_CategoryCreatedWhileLoading_NotNegativeCached() {
+        // given
+        Category existing = Category.builder().categoryId(1L).categoryName("개발 일지").build();
+        Category created = Category.builder().categoryId(2L).categoryName("새 카테고리").build();
+        assertThat(resolver.resolve("개발 일지")).contains(1L);
+        resolver.onCategoryChanged(new CategoryChangedEvent(1L));
+        given(categoryRepository.findAll())
+                .willAnswer(invocation -> {
+                    // 변경 전 목록을 읽은 뒤 새 카테고리의 커밋 이벤트가 도착한다
+                    resolver.onCategoryChanged(new CategoryChangedEvent(2L));
+                    return List.of(existing);
+                })
+                .willReturn(List.of(existing, created));
+
+        // when
+        assertThat(resolver.resolve("새 카테고리")).isEmpty();
+
+        // then
+        assertThat(resolver.resolve("새 카테고리")).contains(2L);
+        verify(categoryRepository, times(3)).findAll();
+    }
+}
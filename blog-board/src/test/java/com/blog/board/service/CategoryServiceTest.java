@@ -1,7 +1,9 @@
 package com.blog.board.service;
 
 import com.blog.board.domain.Category;
+import com.blog.board.domain.PostCounter;
 import com.blog.board.dto.CategoryDto;
+import com.blog.board.event.CategoryChangedEvent;
 import com.blog.board.exception.CategoryAlreadyExistsException;
 import com.blog.board.exception.CategoryNotFoundException;
 import com.blog.board.repository.CategoryRepository;
@@ -13,8 +15,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,6 +32,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostCounterService postCounterService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -63,6 +73,25 @@ class CategoryServiceTest {
         verify(categoryRepository).findAll();
     }
 
+    @Test
+    @DisplayName("모든 카테고리 조회 - 카운터의 게시글 수 포함")
+    void findAllCategories_WithPostCounts() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category));
+        given(postCounterService.findAllByCategory()).willReturn(Map.of(1L, PostCounter.builder()
+                .categoryId(1L)
+                .totalCount(5)
+                .publishedCount(3)
+                .build()));
+
+        // when
+        List<CategoryDto> result = categoryService.findAllCategories();
+
+        // then
+        assertThat(result.get(0).getPostCount()).isEqualTo(5);
+        assertThat(result.get(0).getPublishedPostCount()).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("모든 카테고리 조회 - 빈 목록")
     void findAllCategories_EmptyList() {
@@ -140,6 +169,7 @@ class CategoryServiceTest {
         assertThat(result.getName()).isEqualTo("개발 일지");
         verify(categoryRepository).findByCategoryName(categoryName);
         verify(categoryRepository).save(any(Category.class));
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L));
     }
 
     @Test
@@ -263,6 +293,7 @@ class CategoryServiceTest {
         // then
         verify(categoryRepository).findById(categoryId);
         verify(categoryRepository).delete(category);
+        verify(postCounterService).onCategoryDeleted(categoryId);
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 보정은 생성기와 다른 커넥션에서 커밋되어야 하므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(IdSequenceAligner.class)
+@DisplayName("IdSequenceAligner 테스트")
+class IdSequenceAlignerTest {
+
+    private static final String SEQUENCE_TABLE = Category.ID_SEQUENCE_TABLE;
+
+    @Autowired
+    private IdSequenceAligner idSequenceAligner;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // IDENTITY 시절에 만들어진 카테고리 - ID 를 직접 넣는다
+        for (long id = 1; id <= 120; id++) {
+            jdbcTemplate.update("insert into categories (category_id, category_name) values (?, ?)", id, "기존 " + id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from categories");
+        jdbcTemplate.update("delete from " + SEQUENCE_TABLE + " where sequence_name = ?", Category.ID_SEQUENCE_NAME);
+    }
+
+    @Test
+    @DisplayName("시퀀스 행이 없으면 기존 최대 ID + 할당 크기로 만들고, 새 카테고리는 기존 ID 와 겹치지 않음")
+    void align_CreatesMissingSequence() {
+        // given
+        jdbcTemplate.update("delete from " + SEQUENCE_TABLE + " where sequence_name = ?", Category.ID_SEQUENCE_NAME);
+
+        // when
+        alignCategories();
+
+        // then
+        assertThat(nextValue()).isEqualTo(120 + Category.ID_ALLOCATION_SIZE);
+        Category created = categoryRepository.save(Category.builder().categoryName("새 카테고리").build());
+        assertThat(created.getCategoryId()).isGreaterThan(120L);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 기존 최대 ID 보다 뒤처져 있으면 올림")
+    void align_RaisesLaggingSequence() {
+        // given
+        setNextValue(10);
+
+        // when
+        alignCategories();
+
+        // then
+        assertThat(nextValue()).isEqualTo(120 + Category.ID_ALLOCATION_SIZE);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 이미 충분히 앞서 있으면 내리지 않음 (여러 번, 여러 노드가 실행해도 같음)")
+    void align_NeverLowersSequence() {
+        // given
+        setNextValue(1_000);
+
+        // when
+        alignCategories();
+        alignCategories();
+
+        // then
+        assertThat(nextValue()).isEqualTo(1_000);
+    }
+
+    private void alignCategories() {
+        idSequenceAligner.align("categories", "category_id", Category.ID_SEQUENCE_NAME, Category.ID_ALLOCATION_SIZE);
+    }
+
+    private void setNextValue(long value) {
+        jdbcTemplate.update("delete from " + SEQUENCE_TABLE + " where sequence_name = ?", Category.ID_SEQUENCE_NAME);
+        jdbcTemplate.update("insert into " + SEQUENCE_TABLE + " (sequence_name, next_val) values (?, ?)",
+                Category.ID_SEQUENCE_NAME, value);
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("select next_val from " + SEQUENCE_TABLE + " where sequence_name = ?",
+                Long.class, Category.ID_SEQUENCE_NAME);
+    }
+}
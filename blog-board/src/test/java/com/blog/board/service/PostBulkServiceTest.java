@@ -0,0 +1,181 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PostBulkCommandDto;
+import com.blog.board.dto.PostBulkCommandDto.Action;
+import com.blog.board.dto.PostBulkResultDto;
+import com.blog.board.dto.PostBulkResultDto.Outcome;
+import com.blog.board.dto.PostBulkResultDto.Result;
+import com.blog.board.exception.InvalidPostBulkRequestException;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 청크마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = {"blog.post-bulk.chunk-size=2", "blog.post-bulk.max-posts=4"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PostBulkService.class, CategoryService.class, CategoryFilterResolver.class, PostCounterService.class})
+@DisplayName("게시글 일괄 변경 테스트")
+class PostBulkServiceTest {
+
+    @Autowired
+    private PostBulkService postBulkService;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("ID 목록 발행 - 게시글별 결과를 요청 순서로 반환하고 바뀐 게시글만 카운터에 반영")
+    void apply_PublishByIds() {
+        // given
+        Category category = categoryRepository.save(Category.builder().categoryName("개발").build());
+        Post draft = save(category, "초안", false);
+        Post published = save(category, "발행된 글", true);
+        Post otherDraft = save(category, "다른 초안", false);
+
+        // when
+        PostBulkResultDto result = postBulkService.apply(PostBulkCommandDto.builder()
+                .action(Action.PUBLISH)
+                .postIds(List.of(draft.getPostId(), published.getPostId(), -1L, otherDraft.getPostId()))
+                .build());
+
+        // then
+        assertThat(result.getOutcomes()).containsExactly(
+                new Outcome(draft.getPostId(), Result.APPLIED),
+                new Outcome(published.getPostId(), Result.UNCHANGED),
+                new Outcome(-1L, Result.NOT_FOUND),
+                new Outcome(otherDraft.getPostId(), Result.APPLIED));
+        assertThat(postRepository.findById(draft.getPostId()).orElseThrow().isPublished()).isTrue();
+        assertThat(postCounterService.count(category.getCategoryId(), false)).isEqualTo(3);
+        assertThat(postCounterService.count(null, false)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("필터 이동 - 최대 건수까지만 처리하고 남은 게시글이 있으면 hasMore")
+    void apply_MoveByFilter() {
+        // given
+        Category source = categoryRepository.save(Category.builder().categoryName("기존").build());
+        for (int i = 0; i < 5; i++) {
+            save(source, "글 " + i, i % 2 == 0);
+        }
+        PostBulkCommandDto command = PostBulkCommandDto.builder()
+                .action(Action.MOVE)
+                .categoryName("기존")
+                .targetCategoryName("새 카테고리")
+                .build();
+
+        // when
+        PostBulkResultDto first = postBulkService.apply(command);
+        PostBulkResultDto second = postBulkService.apply(command);
+
+        // then
+        assertThat(first.count(Result.APPLIED)).isEqualTo(4);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.count(Result.APPLIED)).isEqualTo(1);
+        assertThat(second.isHasMore()).isFalse();
+        Long targetId = categoryRepository.findByCategoryName("새 카테고리").orElseThrow().getCategoryId();
+        assertThat(postCounterService.count(source.getCategoryId(), true)).isZero();
+        assertThat(postCounterService.count(targetId, true)).isEqualTo(5);
+        assertThat(postCounterService.count(targetId, false)).isEqualTo(3);
+        assertThat(postCounterService.count(null, true)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("필터 발행 - 변경 없는 게시글이 필터에 남아도 nextAfterId 로 이어서 끝까지 처리")
+    void apply_PublishByFilter_DrainsWithCursor() {
+        // given
+        Category category = categoryRepository.save(Category.builder().categoryName("개발").build());
+        for (int i = 0; i < 9; i++) {
+            save(category, "글 " + i, i % 3 != 0);
+        }
+
+        // when
+        List<PostBulkResultDto> results = new ArrayList<>();
+        Long afterId = null;
+        do {
+            PostBulkResultDto result = postBulkService.apply(PostBulkCommandDto.builder()
+                    .action(Action.PUBLISH)
+                    .categoryName("개발")
+                    .afterId(afterId)
+                    .build());
+            results.add(result);
+            afterId = result.getNextAfterId();
+        } while (results.get(results.size() - 1).isHasMore() && results.size() < 5);
+
+        // then
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isHasMore()).isTrue();
+        assertThat(results.get(2).isHasMore()).isFalse();
+        assertThat(results.get(2).getNextAfterId()).isNull();
+        assertThat(results.stream().flatMap(result -> result.getOutcomes().stream()).map(Outcome::postId))
+                .doesNotHaveDuplicates()
+                .hasSize(9);
+        assertThat(results.stream().mapToLong(result -> result.count(Result.APPLIED)).sum()).isEqualTo(3);
+        assertThat(postRepository.findAll()).allMatch(Post::isPublished);
+    }
+
+    @Test
+    @DisplayName("ID 목록과 필터를 함께 주거나 둘 다 없으면 예외")
+    void apply_InvalidTarget() {
+        assertThatThrownBy(() -> postBulkService.apply(PostBulkCommandDto.builder()
+                .action(Action.DELETE)
+                .build()))
+                .isInstanceOf(InvalidPostBulkRequestException.class);
+        assertThatThrownBy(() -> postBulkService.apply(PostBulkCommandDto.builder()
+                .action(Action.DELETE)
+                .postIds(List.of(1L))
+                .published(true)
+                .build()))
+                .isInstanceOf(InvalidPostBulkRequestException.class);
+    }
+
+    private Post save(Category category, String title, boolean published) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Post post = postRepository.save(Post.builder()
+                    .title(title)
+                    .content("본문")
+                    .published(published)
+                    .category(category)
+                    .build());
+            postCounterService.onCreated(post);
+            return post;
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import com.blog.board.domain.PostCounter;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 두 트랜잭션이 실제로 겹쳐야 하므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PostCounterService.class)
+@DisplayName("게시글 카운터 재계산 동시성 테스트")
+class PostCounterReconcileTest {
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("재계산과 겹친 게시글 작성의 증감이 덮여 사라지지 않음")
+    void reconcile_DoesNotOverwriteConcurrentAdjust() throws Exception {
+        // given - 어긋난 카운터
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Category category = categoryRepository.save(Category.builder().categoryName("개발").build());
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.save(post(category, "기존 글"));
+            postCounterService.onCreated(post);
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                postCounterRepository.findAll().forEach(counter -> counter.reset(5, 5)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch adjusted = new CountDownLatch(1);
+        try {
+            // when - 카운터를 증감한 뒤 커밋하기 전에 재계산이 시작된다
+            Future<?> writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Post post = postRepository.save(post(category, "새 글"));
+                postCounterService.onCreated(post);
+                adjusted.countDown();
+                sleep(300);
+            }));
+            assertThat(adjusted.await(5, TimeUnit.SECONDS)).isTrue();
+            postCounterService.reconcile();
+            writer.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(postCounterService.count(category.getCategoryId(), true)).isEqualTo(2);
+        assertThat(postCounterService.count(null, true)).isEqualTo(2);
+        assertThat(postCounterRepository.findById(PostCounter.GLOBAL_ID).orElseThrow().getPublishedCount())
+                .isEqualTo(2);
+    }
+
+    private static Post post(Category category, String title) {
+        return Post.builder()
+                .title(title)
+                .content("본문")
+                .published(true)
+                .category(category)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
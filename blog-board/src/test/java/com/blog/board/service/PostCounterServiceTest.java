@@ -0,0 +1,201 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Category;
+import com.blog.board.domain.Post;
+import com.blog.board.domain.PostCounter;
+import com.blog.board.dto.PostCountProjection;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCounterService 단위 테스트")
+class PostCounterServiceTest {
+
+    @Mock
+    private PostCounterRepository postCounterRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PostCounterService postCounterService;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Post.builder()
+                .postId(1L)
+                .title("테스트 게시글")
+                .content("테스트 내용")
+                .published(true)
+                .category(Category.builder().categoryId(2L).categoryName("개발 일지").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("게시글 생성 - 카테고리와 전체 카운터 증가")
+    void onCreated_AdjustsCategoryAndGlobal() {
+        // given
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        postCounterService.onCreated(post);
+
+        // then
+        verify(postCounterRepository).adjust(2L, 1, 1);
+        verify(postCounterRepository).adjust(PostCounter.GLOBAL_ID, 1, 1);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 카테고리 이동과 비공개 전환")
+    void onUpdated_MoveAndUnpublish() {
+        // given
+        Post moved = Post.builder()
+                .postId(1L)
+                .title("테스트 게시글")
+                .content("테스트 내용")
+                .published(false)
+                .category(Category.builder().categoryId(3L).categoryName("회고").build())
+                .build();
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        postCounterService.onUpdated(2L, true, moved);
+
+        // then
+        verify(postCounterRepository).adjust(2L, -1, -1);
+        verify(postCounterRepository).adjust(3L, 1, 0);
+        verify(postCounterRepository).adjust(PostCounter.GLOBAL_ID, 0, -1);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 변경 없으면 카운터를 건드리지 않음")
+    void onUpdated_NoChange() {
+        // when
+        postCounterService.onUpdated(2L, true, post);
+
+        // then
+        verify(postCounterRepository, never()).adjust(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 별도 트랜잭션에서 0으로 만든 뒤 증감")
+    void onCreated_CreatesMissingRowBeforeAdjust() {
+        // given
+        given(postCounterRepository.existsById(anyLong())).willReturn(false);
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        postCounterService.onCreated(post);
+
+        // then
+        verify(transactionManager, times(2)).commit(any());
+        verify(postCounterRepository, times(2)).saveAndFlush(argThat(counter ->
+                counter.getTotalCount() == 0 && counter.getPublishedCount() == 0));
+        verify(postCounterRepository).adjust(2L, 1, 1);
+        verify(postCounterRepository).adjust(PostCounter.GLOBAL_ID, 1, 1);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 카운터 행을 먼저 만들면 중복 키를 무시하고 증감")
+    void onCreated_IgnoresDuplicateRow() {
+        // given
+        given(postCounterRepository.existsById(anyLong())).willReturn(false);
+        given(postCounterRepository.saveAndFlush(any(PostCounter.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        postCounterService.onCreated(post);
+
+        // then
+        verify(transactionManager, times(2)).rollback(any());
+        verify(postCounterRepository).adjust(2L, 1, 1);
+        verify(postCounterRepository).adjust(PostCounter.GLOBAL_ID, 1, 1);
+        verify(postCounterRepository, never()).save(any(PostCounter.class));
+    }
+
+    @Test
+    @DisplayName("존재를 확인한 카운터는 다시 확인하지 않음")
+    void onCreated_ChecksExistenceOnce() {
+        // given
+        given(postCounterRepository.existsById(anyLong())).willReturn(true);
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(1);
+
+        // when
+        postCounterService.onCreated(post);
+        postCounterService.onCreated(post);
+
+        // then
+        verify(postCounterRepository).existsById(2L);
+        verify(postCounterRepository).existsById(PostCounter.GLOBAL_ID);
+        verify(postCounterRepository, times(2)).adjust(2L, 1, 1);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("확인 뒤에 카운터 행이 지워졌으면 같은 트랜잭션에서 다시 생성")
+    void onCreated_RecreatesDeletedRow() {
+        // given
+        given(postCounterRepository.existsById(anyLong())).willReturn(true);
+        given(postCounterRepository.adjust(anyLong(), anyLong(), anyLong())).willReturn(0);
+
+        // when
+        postCounterService.onCreated(post);
+
+        // then
+        verify(postCounterRepository, times(2)).save(any(PostCounter.class));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("재계산 - 어긋난 카운터를 실제 집계값으로 보정")
+    void reconcile_FixesDrift() {
+        // given
+        PostCounter drifted = PostCounter.builder().categoryId(2L).totalCount(10).publishedCount(10).build();
+        PostCounter global = PostCounter.builder().categoryId(PostCounter.GLOBAL_ID).totalCount(4).publishedCount(3).build();
+        given(postRepository.countGroupByCategory()).willReturn(List.of(new PostCountProjection(2L, 4L, 3L)));
+        given(postCounterRepository.findAllForUpdate()).willReturn(List.of(drifted, global));
+
+        // when
+        int fixed = postCounterService.reconcile();
+
+        // then
+        assertThat(fixed).isEqualTo(1);
+        assertThat(drifted.getTotalCount()).isEqualTo(4);
+        assertThat(drifted.getPublishedCount()).isEqualTo(3);
+        verify(postCounterRepository, never()).save(any(PostCounter.class));
+    }
+
+    @Test
+    @DisplayName("전체 건수 조회 - 관리자는 전체, 일반 사용자는 발행 글 수")
+    void count_ByRole() {
+        // given
+        given(postCounterRepository.findById(PostCounter.GLOBAL_ID)).willReturn(Optional.of(
+                PostCounter.builder().categoryId(PostCounter.GLOBAL_ID).totalCount(7).publishedCount(5).build()));
+
+        // when & then
+        assertThat(postCounterService.count(null, true)).isEqualTo(7);
+        assertThat(postCounterService.count(null, false)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,58 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.PostRender;
+import com.blog.board.dto.PostRenderDto;
+import com.blog.board.render.MarkdownRenderer;
+import com.blog.board.repository.PostRenderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRenderService 저장 테스트")
+class PostRenderServiceTest {
+
+    @Mock
+    private PostRenderRepository postRenderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostRenderService postRenderService;
+
+    @BeforeEach
+    void setUp() {
+        postRenderService = new PostRenderService(postRenderRepository, new MarkdownRenderer(), new ObjectMapper(),
+                transactionManager, 10);
+    }
+
+    @Test
+    @DisplayName("같은 본문을 다른 요청이 먼저 저장해 중복 키가 나도 렌더링 결과를 돌려줌")
+    void render_IgnoresDuplicateInsert() {
+        // given
+        String content = "# 제목\n\n본문";
+        given(postRenderRepository.findById(PostRenderService.hash(content))).willReturn(Optional.empty());
+        given(postRenderRepository.saveAndFlush(any(PostRender.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // when
+        PostRenderDto rendered = postRenderService.render(content);
+
+        // then
+        assertThat(rendered.getContentHash()).isEqualTo(PostRenderService.hash(content));
+        assertThat(rendered.getHtml()).contains("본문");
+        verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,217 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.PostRequestDto;
+import com.blog.board.dto.PostRevisionDiffDto;
+import com.blog.board.dto.PostRevisionSummary;
+import com.blog.board.exception.PostRevisionNotFoundException;
+import com.blog.board.render.MarkdownRenderer;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRenderRepository;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.repository.PostRevisionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 수정마다 커밋된 리비전을 다시 읽어 복원하므로 테스트 트랜잭션으로 감싸지 않는다
+// 수정은 PostService.updatePost 로 해서 실제 행 잠금과 리비전 기록 경로를 그대로 탄다
+@DataJpaTest(properties = "blog.revision.snapshot-interval=3")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PostService.class, CategoryService.class, CategoryFilterResolver.class, PostCounterService.class,
+        PostRenderService.class, PostViewService.class, CategoryDeletionService.class, PostBulkService.class,
+        PostRevisionService.class, MarkdownRenderer.class})
+@DisplayName("게시글 수정 이력 테스트")
+class PostRevisionServiceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostRenderRepository postRenderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            postRenderRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("기록 - 델타와 주기적 스냅샷으로 저장하고 모든 리비전을 그대로 복원")
+    void record_RestoresEveryRevision() {
+        // given
+        List<String> contents = new ArrayList<>();
+        contents.add(markdown(0));
+        Long postId = savePost(contents.get(0));
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            contents.add(markdown(i));
+            edit(postId, "제목 " + i, contents.get(i));
+        }
+
+        // then - 1번(수정 전 상태)과 4번이 스냅샷, 나머지는 직전 리비전 대비 델타
+        List<PostRevisionSummary> revisions = postRevisionService.getRevisions(postId);
+        assertThat(revisions).extracting(PostRevisionSummary::revisionNumber).containsExactly(6, 5, 4, 3, 2, 1);
+        assertThat(revisions).extracting(PostRevisionSummary::snapshot)
+                .containsExactly(false, false, true, false, false, true);
+        for (int number = 1; number <= 6; number++) {
+            assertThat(postRevisionService.getRevision(postId, number).getContent()).isEqualTo(contents.get(number - 1));
+        }
+        assertThat(postRevisionService.getRevision(postId, 1).getTitle()).isEqualTo("원래 제목");
+    }
+
+    @Test
+    @DisplayName("diff - 직전 리비전과 비교하고, 서로 다른 스냅샷에서 시작한 리비전끼리도 비교")
+    void diff_AgainstPreviousAndAcrossSnapshots() {
+        // given
+        Long postId = savePost("첫 줄\n둘째 줄\n셋째 줄");
+        edit(postId, "원래 제목", "첫 줄\n고친 둘째 줄\n셋째 줄");
+        edit(postId, "원래 제목", "첫 줄\n고친 둘째 줄\n셋째 줄\n넷째 줄");
+        edit(postId, "새 제목", "첫 줄\n고친 둘째 줄\n셋째 줄\n넷째 줄\n다섯째 줄");
+
+        // when
+        PostRevisionDiffDto previous = postRevisionService.diff(postId, 2, null);
+        PostRevisionDiffDto acrossSnapshots = postRevisionService.diff(postId, 4, 1);
+
+        // then
+        assertThat(previous.getBaseRevision()).isEqualTo(1);
+        assertThat(previous.getHunks()).hasSize(1);
+        assertThat(previous.getHunks().get(0).lines())
+                .containsExactly(" 첫 줄", "-둘째 줄", "+고친 둘째 줄", " 셋째 줄");
+        assertThat(acrossSnapshots.getTargetTitle()).isEqualTo("새 제목");
+        assertThat(acrossSnapshots.getHunks().get(0).lines())
+                .containsExactly(" 첫 줄", "-둘째 줄", "+고친 둘째 줄", " 셋째 줄", "+넷째 줄", "+다섯째 줄");
+        assertThatThrownBy(() -> postRevisionService.diff(postId, 9, null))
+                .isInstanceOf(PostRevisionNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("기록 - 제목과 본문이 그대로면 남기지 않고, 게시글을 지우면 이력도 지워짐")
+    void record_SkipsUnchangedAndCascadesDelete() {
+        // given
+        Long postId = savePost("본문");
+
+        // when
+        edit(postId, "원래 제목", "본문");
+        edit(postId, "원래 제목", "고친 본문");
+
+        // then
+        assertThat(postRevisionService.getRevisions(postId)).extracting(PostRevisionSummary::revisionNumber)
+                .containsExactly(2, 1);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                postRepository.deleteAllByPostIdIn(List.of(postId)));
+        assertThat(postRevisionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록 - 같은 게시글을 동시에 수정해도 리비전 번호가 겹치지 않음")
+    void record_ConcurrentEditsGetDistinctNumbers() throws Exception {
+        // given
+        Long postId = savePost("본문");
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String content = "본문\n" + i + "번째 수정";
+            futures.add(executor.submit(() -> {
+                start.await();
+                edit(postId, "원래 제목", content);
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(postRevisionService.getRevisions(postId)).extracting(PostRevisionSummary::revisionNumber)
+                .containsExactly(5, 4, 3, 2, 1);
+        for (int number = 1; number <= 5; number++) {
+            assertThat(postRevisionService.getRevision(postId, number).getContent()).startsWith("본문");
+        }
+    }
+
+    private Long savePost(String content) {
+        return postService.createPost(request("원래 제목", content)).getId();
+    }
+
+    private void edit(Long postId, String title, String content) {
+        postService.updatePost(postId, request(title, content));
+    }
+
+    private static PostRequestDto request(String title, String content) {
+        return PostRequestDto.builder()
+                .title(title)
+                .content(content)
+                .published(true)
+                .categoryName("개발")
+                .build();
+    }
+
+    private String markdown(int version) {
+        StringBuilder builder = new StringBuilder("# 글\n\n");
+        for (int line = 0; line < 50; line++) {
+            builder.append(line % 10 == version ? "고친 줄 " + version + "-" + line : "줄 " + line).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @TestConfiguration
+    static class SyncExecutorConfig {
+        @Bean(name = "applicationTaskExecutor")
+        TaskExecutor applicationTaskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+}
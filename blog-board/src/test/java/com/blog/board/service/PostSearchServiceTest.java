@@ -0,0 +1,131 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.event.PostChangedEvent.ChangeType;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchService 재색인 테스트")
+class PostSearchServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskExecutor taskExecutor;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path indexPath;
+    private PostSearchService postSearchService;
+
+    private final Post spring = post(1L, "스프링 부트 시작하기");
+    private final Post jpa = post(2L, "JPA 정리");
+
+    @BeforeEach
+    void setUp() {
+        indexPath = tempDir.resolve("posts.idx");
+        postSearchService = new PostSearchService(postRepository, transactionManager, taskExecutor, indexPath.toString());
+        lenient().when(postRepository.findSummariesByPostIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return postIds.stream()
+                    .map(postId -> new PostSummaryProjection(postId, "제목", "요약", true, null, null, null))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("재색인 중에는 이전 색인으로 검색하고 저장하지 않음")
+    void rebuild_KeepsPreviousIndexUntilComplete() {
+        // given
+        given(postRepository.findAllById(List.of(1L))).willReturn(List.of(spring));
+        postSearchService.onPostChanged(new PostChangedEvent(ChangeType.UPDATED, List.of(1L)));
+        given(postRepository.findByPostIdGreaterThanOrderByPostIdAsc(eq(0L), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    assertThat(search("스프링")).isEqualTo(1);
+                    postSearchService.persistIfDirty();
+                    assertThat(Files.exists(indexPath)).isFalse();
+                    return List.of(spring, jpa);
+                });
+
+        // when
+        int indexed = postSearchService.rebuild();
+
+        // then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(search("JPA")).isEqualTo(1);
+        postSearchService.persistIfDirty();
+        assertThat(Files.exists(indexPath)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재색인 중 변경된 게시글은 교체한 색인에 다시 반영")
+    void rebuild_AppliesChangesMadeWhileRebuilding() {
+        // given
+        Post renamed = post(1L, "가상 스레드 정리");
+        given(postRepository.findAllById(List.of(1L))).willReturn(List.of(renamed));
+        given(postRepository.findByPostIdGreaterThanOrderByPostIdAsc(eq(0L), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    // 재색인이 이미 읽은 게시글이 그 뒤에 수정된다
+                    postSearchService.onPostChanged(new PostChangedEvent(ChangeType.UPDATED, List.of(1L)));
+                    return List.of(spring);
+                });
+
+        // when
+        postSearchService.rebuild();
+
+        // then
+        assertThat(search("가상")).isEqualTo(1);
+        assertThat(search("스프링")).isZero();
+    }
+
+    @Test
+    @DisplayName("가져오기 이벤트 - 커밋 후 스레드에서 재색인하지 않고 실행기에 맡김")
+    void onPostChanged_Imported_RebuildsOnExecutor() {
+        // when
+        postSearchService.onPostChanged(new PostChangedEvent(ChangeType.IMPORTED, List.of()));
+
+        // then
+        verify(taskExecutor).execute(any(Runnable.class));
+        verifyNoInteractions(postRepository);
+    }
+
+    private long search(String query) {
+        return postSearchService.search(query, PageRequest.of(0, 10), true).getTotalElements();
+    }
+
+    private static Post post(Long postId, String title) {
+        return Post.builder()
+                .postId(postId)
+                .title(title)
+                .content(title + " 본문")
+                .published(true)
+                .build();
+    }
+}
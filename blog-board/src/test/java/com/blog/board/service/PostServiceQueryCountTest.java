@@ -0,0 +1,154 @@
+package com.blog.board.service;
+
+import com.blog.board.dto.PostBulkCommandDto;
+import com.blog.board.dto.PostRequestDto;
+import com.blog.board.render.MarkdownRenderer;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRenderRepository;
+import com.blog.board.repository.PostRepository;
+import com.blog.board.support.sql.ExpectedStatements;
+import com.blog.board.support.sql.SqlStatementCountExtension;
+import com.blog.board.support.sql.SqlStatementCountingDataSourcePostProcessor;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스 메서드별 SQL 문장 수. 2차 캐시는 매번 비워 DB 경로의 문장 수를 고정한다.
+ * 값이 바뀌면 N+1 이 생겼거나 없어진 것이므로 의도한 변경인지 확인하고 기대값을 고친다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PostService.class, CategoryService.class, CategoryFilterResolver.class, PostCounterService.class,
+        PostRenderService.class, PostViewService.class, CategoryDeletionService.class, PostBulkService.class,
+        PostRevisionService.class, MarkdownRenderer.class,
+        SqlStatementCountingDataSourcePostProcessor.class})
+@ExtendWith(SqlStatementCountExtension.class)
+@DisplayName("PostService / CategoryService SQL 문장 수 테스트")
+class PostServiceQueryCountTest {
+
+    private static final int POST_COUNT = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryDeletionService categoryDeletionService;
+
+    @Autowired
+    private PostBulkService postBulkService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostRenderRepository postRenderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> postIds = new ArrayList<>();
+    private Long postId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POST_COUNT; i++) {
+            postId = postService.createPost(PostRequestDto.builder()
+                    .title("글 " + i)
+                    .content("## 제목\n\n본문 " + i)
+                    .published(true)
+                    .categoryName("개발")
+                    .build()).getId();
+            postIds.add(postId);
+        }
+        categoryId = categoryRepository.findByCategoryName("개발").orElseThrow().getCategoryId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            postRenderRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 요약 프로젝션 1회 + 카운터 1회, 카테고리는 조인")
+    @ExpectedStatements(select = 2, insert = 0, update = 0, delete = 0)
+    void getPosts() {
+        postService.getPosts(null, PageRequest.of(0, 10), false);
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 게시글과 카테고리를 한 번에, 렌더링 결과는 메모리 캐시")
+    @ExpectedStatements(select = 1, insert = 0, update = 0, delete = 0)
+    void getPostById() {
+        postService.getPostById(postId);
+    }
+
+    // 상태 조회 1 + bulk update 1 + 카운터 갱신 2 (카테고리별 1 + 전체 1) - 게시글 수와 관계없다
+    @Test
+    @DisplayName("일괄 비공개 - 게시글을 읽지 않고 한 문장으로 변경")
+    @ExpectedStatements(select = 1, insert = 0, update = 3, delete = 0)
+    void bulkUnpublish() {
+        postBulkService.apply(PostBulkCommandDto.builder()
+                .action(PostBulkCommandDto.Action.UNPUBLISH)
+                .postIds(postIds)
+                .build());
+    }
+
+    // 청크당 ID 조회 1 + bulk delete 1 + 카운터 갱신 2 - 게시글 수와 관계없이 청크 수에만 비례한다
+    @Test
+    @DisplayName("카테고리 삭제 - 게시글 본문을 읽지 않고 청크 단위 bulk delete")
+    @ExpectedStatements(select = 6, insert = 0, update = 3, delete = 3)
+    void deleteCategory() {
+        categoryDeletionService.start(categoryId, null);
+    }
+
+    // 작업을 호출한 스레드에서 바로 실행해 문장 수를 한 테스트 안에서 센다
+    @TestConfiguration
+    static class SyncExecutorConfig {
+        @Bean(name = "applicationTaskExecutor")
+        TaskExecutor applicationTaskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+}
@@ -2,10 +2,17 @@ package com.blog.board.service;
 
 import com.blog.board.domain.Category;
 import com.blog.board.domain.Post;
+import com.blog.board.dto.CursorPageResponseDto;
 import com.blog.board.dto.PageResponseDto;
+import com.blog.board.dto.PostCursor;
+import com.blog.board.dto.PostRenderDto;
 import com.blog.board.dto.PostRequestDto;
 import com.blog.board.dto.PostResponseDto;
+import com.blog.board.dto.PostRevisionDto;
 import com.blog.board.dto.PostSimpleResponseDto;
+import com.blog.board.dto.PostSummaryProjection;
+import com.blog.board.event.PostChangedEvent;
+import com.blog.board.exception.InvalidCursorException;
 import com.blog.board.exception.PostNotFoundException;
 import com.blog.board.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +22,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +47,24 @@ class PostServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private PostRenderService postRenderService;
+
+    @Mock
+    private CategoryFilterResolver categoryFilterResolver;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private PostViewService postViewService;
+
+    @Mock
+    private PostRevisionService postRevisionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private OAuth2User principal;
 
@@ -45,8 +72,10 @@ class PostServiceTest {
     private PostService postService;
 
     private Post post;
+    private PostSummaryProjection summary;
     private Category category;
     private PostRequestDto postRequestDto;
+    private PostRenderDto renderDto;
 
     @BeforeEach
     void setUp() {
@@ -63,6 +92,17 @@ class PostServiceTest {
                 .category(category)
                 .build();
 
+        summary = new PostSummaryProjection(1L, "테스트 게시글", "테스트 내용", true,
+                1L, "개발 일지", LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        renderDto = PostRenderDto.builder()
+                .contentHash("hash")
+                .html("<p>새 내용</p>")
+                .toc(List.of())
+                .wordCount(2)
+                .readingMinutes(1)
+                .build();
+
         postRequestDto = PostRequestDto.builder()
                 .title("새 게시글")
                 .content("새 내용")
@@ -76,8 +116,9 @@ class PostServiceTest {
     void updatePost_Success() {
         // given
         Long postId = 1L;
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.findByIdForUpdate(postId)).willReturn(Optional.of(post));
         given(categoryService.findOrCreateCategory("개발 일지")).willReturn(category);
+        given(postRenderService.render("새 내용")).willReturn(renderDto);
 
         // when
         PostResponseDto result = postService.updatePost(postId, postRequestDto);
@@ -85,8 +126,13 @@ class PostServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("새 게시글");
-        verify(postRepository).findById(postId);
+        assertThat(post.getExcerpt()).isEqualTo("새 내용");
+        assertThat(post.getContentHash()).isEqualTo("hash");
+        assertThat(result.getHtml()).isEqualTo("<p>새 내용</p>");
+        verify(postRepository).findByIdForUpdate(postId);
         verify(categoryService).findOrCreateCategory("개발 일지");
+        verify(postCounterService).onUpdated(1L, true, post);
+        verify(postRevisionService).record(post, "테스트 게시글", "테스트 내용", null);
     }
 
     @Test
@@ -101,8 +147,9 @@ class PostServiceTest {
                 .published(null)
                 .build();
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.findByIdForUpdate(postId)).willReturn(Optional.of(post));
         given(categoryService.findOrCreateCategory("개발 일지")).willReturn(category);
+        given(postRenderService.render("수정된 내용")).willReturn(renderDto);
 
         // when
         PostResponseDto result = postService.updatePost(postId, requestWithNullPublished);
@@ -110,7 +157,7 @@ class PostServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("수정된 게시글");
-        verify(postRepository).findById(postId);
+        verify(postRepository).findByIdForUpdate(postId);
         verify(categoryService).findOrCreateCategory("개발 일지");
     }
 
@@ -119,14 +166,41 @@ class PostServiceTest {
     void updatePost_PostNotFound_ThrowsException() {
         // given
         Long postId = 999L;
-        given(postRepository.findById(postId)).willReturn(Optional.empty());
+        given(postRepository.findByIdForUpdate(postId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> postService.updatePost(postId, postRequestDto))
                 .isInstanceOf(PostNotFoundException.class);
 
-        verify(postRepository).findById(postId);
+        verify(postRepository).findByIdForUpdate(postId);
+        verify(categoryService, never()).findOrCreateCategory(anyString());
+    }
+
+    @Test
+    @DisplayName("리비전 복원 - 리비전의 제목/본문으로 수정하고 발행 여부와 카테고리는 유지")
+    void restoreRevision_KeepsPublishedAndCategory() {
+        // given
+        Long postId = 1L;
+        PostRevisionDto revision = PostRevisionDto.builder()
+                .postId(postId)
+                .revisionNumber(3)
+                .title("예전 제목")
+                .content("새 내용")
+                .build();
+        given(postRepository.findByIdForUpdate(postId)).willReturn(Optional.of(post));
+        given(postRevisionService.getRevision(postId, 3)).willReturn(revision);
+        given(postRenderService.render("새 내용")).willReturn(renderDto);
+
+        // when
+        PostResponseDto result = postService.restoreRevision(postId, 3);
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("예전 제목");
+        assertThat(post.getContent()).isEqualTo("새 내용");
+        assertThat(post.isPublished()).isTrue();
+        assertThat(post.getCategory()).isSameAs(category);
         verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(postRevisionService).record(post, "테스트 게시글", "테스트 내용", null);
     }
 
     @Test
@@ -142,6 +216,8 @@ class PostServiceTest {
         // then
         verify(postRepository).findById(postId);
         verify(postRepository).delete(post);
+        verify(postCounterService).onDeleted(post);
+        verify(eventPublisher).publishEvent(PostChangedEvent.of(PostChangedEvent.ChangeType.DELETED, postId));
     }
 
     @Test
@@ -157,6 +233,7 @@ class PostServiceTest {
 
         verify(postRepository).findById(postId);
         verify(postRepository, never()).delete(any(Post.class));
+        verify(postCounterService, never()).onDeleted(any(Post.class));
     }
 
     @Test
@@ -165,12 +242,14 @@ class PostServiceTest {
         // given
         Long postId = 1L;
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRenderService.getRendered(post)).willReturn(renderDto);
 
         // when
         PostResponseDto result = postService.getPostById(postId);
 
         // then
         assertThat(result.getTitle()).isEqualTo("테스트 게시글");
+        assertThat(result.getReadingMinutes()).isEqualTo(1);
         verify(postRepository).findById(postId);
     }
 
@@ -188,13 +267,35 @@ class PostServiceTest {
         verify(postRepository).findById(postId);
     }
 
+    @Test
+    @DisplayName("조회수 조회 - 저장된 값에 아직 반영되지 않은 조회수를 더함")
+    void getViewCount_AddsPendingViews() {
+        // given
+        given(postRepository.findViewCountById(1L)).willReturn(Optional.of(10L));
+        given(postViewService.pendingCount(1L)).willReturn(3L);
+
+        // when & then
+        assertThat(postService.getViewCount(1L)).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("조회수 조회 - 존재하지 않는 게시글로 예외 발생")
+    void getViewCount_PostNotFound_ThrowsException() {
+        // given
+        given(postRepository.findViewCountById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.getViewCount(999L))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 - 관리자, 카테고리 없음")
     void getPosts_AdminNoCategory() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(postPage);
+        List<PostSummaryProjection> posts = List.of(summary);
+        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(null, pageable, true);
@@ -202,7 +303,7 @@ class PostServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         verify(postRepository).findAllByOrderByCreatedDateDesc(any(Pageable.class));
-        verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(categoryFilterResolver, never()).resolve(anyString());
     }
 
     @Test
@@ -211,18 +312,18 @@ class PostServiceTest {
         // given
         String categoryName = "개발 일지";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
+        List<PostSummaryProjection> posts = List.of(summary);
         
-        given(categoryService.findOrCreateCategory(categoryName)).willReturn(category);
-        given(postRepository.findByCategoryOrderByCreatedDateDesc(eq(category), any(Pageable.class))).willReturn(postPage);
+        given(categoryFilterResolver.resolve(categoryName)).willReturn(Optional.of(1L));
+        given(postRepository.findByCategoryIdOrderByCreatedDateDesc(eq(1L), any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(categoryName, pageable, true);
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        verify(categoryService).findOrCreateCategory(categoryName);
-        verify(postRepository).findByCategoryOrderByCreatedDateDesc(eq(category), any(Pageable.class));
+        verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(postRepository).findByCategoryIdOrderByCreatedDateDesc(eq(1L), any(Pageable.class));
     }
 
     @Test
@@ -230,16 +331,18 @@ class PostServiceTest {
     void getPosts_PublicNoCategory() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        given(postRepository.findByPublishedTrueOrderByCreatedDateDesc(any(Pageable.class))).willReturn(postPage);
+        List<PostSummaryProjection> posts = List.of(summary);
+        given(postRepository.findByPublishedTrueOrderByCreatedDateDesc(any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(null, pageable, false);
 
         // then
         assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getExcerpt()).isEqualTo("테스트 내용");
+        assertThat(result.getContent().get(0).getCategory().getName()).isEqualTo("개발 일지");
         verify(postRepository).findByPublishedTrueOrderByCreatedDateDesc(any(Pageable.class));
-        verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(categoryFilterResolver, never()).resolve(anyString());
     }
 
     @Test
@@ -248,18 +351,18 @@ class PostServiceTest {
         // given
         String categoryName = "개발 일지";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
+        List<PostSummaryProjection> posts = List.of(summary);
         
-        given(categoryService.findOrCreateCategory(categoryName)).willReturn(category);
-        given(postRepository.findByCategoryAndPublishedTrueOrderByCreatedDateDesc(eq(category), any(Pageable.class))).willReturn(postPage);
+        given(categoryFilterResolver.resolve(categoryName)).willReturn(Optional.of(1L));
+        given(postRepository.findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(eq(1L), any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(categoryName, pageable, false);
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        verify(categoryService).findOrCreateCategory(categoryName);
-        verify(postRepository).findByCategoryAndPublishedTrueOrderByCreatedDateDesc(eq(category), any(Pageable.class));
+        verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(postRepository).findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(eq(1L), any(Pageable.class));
     }
 
     @Test
@@ -268,8 +371,8 @@ class PostServiceTest {
         // given
         String categoryName = "all";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(postPage);
+        List<PostSummaryProjection> posts = List.of(summary);
+        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(categoryName, pageable, true);
@@ -277,7 +380,7 @@ class PostServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         verify(postRepository).findAllByOrderByCreatedDateDesc(any(Pageable.class));
-        verify(categoryService, never()).findOrCreateCategory(anyString());
+        verify(categoryFilterResolver, never()).resolve(anyString());
     }
 
     @Test
@@ -286,8 +389,8 @@ class PostServiceTest {
         // given
         String categoryName = "";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(postPage);
+        List<PostSummaryProjection> posts = List.of(summary);
+        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(categoryName, pageable, true);
@@ -295,7 +398,43 @@ class PostServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         verify(postRepository).findAllByOrderByCreatedDateDesc(any(Pageable.class));
+        verify(categoryFilterResolver, never()).resolve(anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 전체 건수는 COUNT 쿼리 대신 카운터에서 조회")
+    void getPosts_TotalFromCounter() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        given(categoryFilterResolver.resolve("개발 일지")).willReturn(Optional.of(1L));
+        given(postRepository.findByCategoryIdAndPublishedTrueOrderByCreatedDateDesc(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(summary));
+        given(postCounterService.count(1L, false)).willReturn(42L);
+
+        // when
+        PageResponseDto<PostSimpleResponseDto> result = postService.getPosts("개발 일지", pageable, false);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        assertThat(result.getTotalPages()).isEqualTo(42);
+        verify(postCounterService).count(1L, false);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 존재하지 않는 카테고리는 카테고리 생성 없이 빈 페이지")
+    void getPosts_UnknownCategory() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(categoryFilterResolver.resolve("없는 카테고리")).willReturn(Optional.empty());
+
+        // when
+        PageResponseDto<PostSimpleResponseDto> result = postService.getPosts("없는 카테고리", pageable, false);
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
         verify(categoryService, never()).findOrCreateCategory(anyString());
+        verifyNoInteractions(postRepository);
     }
 
     @Test
@@ -303,8 +442,8 @@ class PostServiceTest {
     void getPosts_UnsortedPageable() {
         // given
         Pageable unsortedPageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(postPage);
+        List<PostSummaryProjection> posts = List.of(summary);
+        given(postRepository.findAllByOrderByCreatedDateDesc(any(Pageable.class))).willReturn(posts);
 
         // when
         PageResponseDto<PostSimpleResponseDto> result = postService.getPosts(null, unsortedPageable, true);
@@ -313,4 +452,82 @@ class PostServiceTest {
         assertThat(result.getContent()).hasSize(1);
         verify(postRepository).findAllByOrderByCreatedDateDesc(any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 첫 페이지는 다음 커서만 제공")
+    void getPostsByCursor_FirstPage() {
+        // given
+        given(postRepository.findPublishedBefore(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 1), true));
+
+        // when
+        CursorPageResponseDto<PostSimpleResponseDto> result = postService.getPostsByCursor(null, null, null, 1, false);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isNotNull();
+        assertThat(result.isHasPrevious()).isFalse();
+        assertThat(result.getPrevCursor()).isNull();
+        verify(categoryFilterResolver, never()).resolve(anyString());
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 이전 커서는 오름차순 조회 후 최신순으로 뒤집기")
+    void getPostsByCursor_PrevCursorReversesOrder() {
+        // given
+        PostSummaryProjection older = new PostSummaryProjection(2L, "이전 글", "내용", true,
+                1L, "개발 일지", LocalDateTime.of(2024, 1, 2, 0, 0));
+        PostSummaryProjection newer = new PostSummaryProjection(3L, "최신 글", "내용", true,
+                1L, "개발 일지", LocalDateTime.of(2024, 1, 3, 0, 0));
+        String cursor = PostCursor.prev(LocalDateTime.of(2024, 1, 1, 0, 0), 1L).encode();
+
+        given(categoryFilterResolver.resolve("개발 일지")).willReturn(Optional.of(1L));
+        given(postRepository.findByCategoryAfter(eq(1L), any(LocalDateTime.class), eq(1L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(older, newer), PageRequest.of(0, 10), false));
+
+        // when
+        CursorPageResponseDto<PostSimpleResponseDto> result =
+                postService.getPostsByCursor("개발 일지", cursor, null, 10, true);
+
+        // then
+        assertThat(result.getContent()).extracting(PostSimpleResponseDto::getId).containsExactly(3L, 2L);
+        assertThat(result.isHasPrevious()).isFalse();
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 날짜 이동은 다음 날 0시 이전 글부터 조회")
+    void getPostsByCursor_SeekByDate() {
+        // given
+        LocalDate date = LocalDate.of(2024, 3, 15);
+        given(postRepository.findAllBefore(eq(LocalDateTime.of(2024, 3, 16, 0, 0)), eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 10), false));
+
+        // when
+        CursorPageResponseDto<PostSimpleResponseDto> result = postService.getPostsByCursor(null, null, date, 10, true);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.isHasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 저장할 수 없는 먼 날짜는 잘못된 커서로 예외 발생")
+    void getPostsByCursor_DateBeyondLimit_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, null, LocalDate.MAX, 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, null, LocalDate.of(10000, 1, 1), 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 잘못된 커서로 예외 발생")
+    void getPostsByCursor_InvalidCursor_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, "invalid-cursor", null, 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
 }
@@ -0,0 +1,109 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.PostCounter;
+import com.blog.board.dto.PostImportResultDto;
+import com.blog.board.repository.CategoryRepository;
+import com.blog.board.repository.PostCounterRepository;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 가져오기는 배치마다 커밋하므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = "blog.transfer.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PostTransferService.class, PostCounterService.class})
+@DisplayName("게시글 내보내기/가져오기 테스트")
+class PostTransferServiceTest {
+
+    @Autowired
+    private PostTransferService postTransferService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postRepository.deleteAllInBatch();
+            postCounterRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("가져오기 - 잘못된 줄은 건너뛰고 카테고리 생성, 카운터 보정")
+    void importFrom_SkipsInvalidLinesAndReconcilesCounters() throws Exception {
+        // given
+        String ndjson = """
+                {"type":"category","id":7,"name":"빈 카테고리"}
+                {"type":"post","title":"첫 글","content":"본문 1","published":true,"categoryName":"개발"}
+                {"type":"post","title":"둘째 글","content":"본문 2","published":false,"categoryName":"개발"}
+                {"type":"post","title":"","content":"제목 없음"}
+                not json
+                {"type":"post","title":"셋째 글","content":"본문 3"}
+                """;
+
+        // when
+        PostImportResultDto result = postTransferService.importFrom(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getImportedPosts()).isEqualTo(3);
+        assertThat(result.getCreatedCategories()).isEqualTo(2);
+        assertThat(result.getSkippedLines()).isEqualTo(2);
+        assertThat(postRepository.count()).isEqualTo(3);
+        assertThat(categoryRepository.findByCategoryName("빈 카테고리")).isPresent();
+        PostCounter global = postCounterRepository.findById(PostCounter.GLOBAL_ID).orElseThrow();
+        assertThat(global.getTotalCount()).isEqualTo(3);
+        assertThat(global.getPublishedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내보내기 - 카테고리 다음에 게시글을 한 줄씩 기록")
+    void exportTo_WritesCategoriesThenPosts() throws Exception {
+        // given
+        String ndjson = """
+                {"type":"post","title":"첫 글","content":"본문 1","categoryName":"개발"}
+                {"type":"post","title":"둘째 글","content":"본문 2"}
+                """;
+        postTransferService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = postTransferService.exportTo(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"type\":\"category\"", "\"name\":\"개발\"");
+        assertThat(lines[1]).contains("\"type\":\"post\"", "\"title\":\"첫 글\"", "\"categoryName\":\"개발\"");
+        assertThat(lines[2]).contains("\"title\":\"둘째 글\"").doesNotContain("categoryName");
+    }
+}
@@ -0,0 +1,117 @@
+package com.blog.board.service;
+
+import com.blog.board.domain.Post;
+import com.blog.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 조회수는 별도 트랜잭션으로 반영되므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = "blog.post-view.batch-size=1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PostViewService.class)
+@DisplayName("게시글 조회수 write-behind 테스트")
+class PostViewServiceTest {
+
+    @Autowired
+    private PostViewService postViewService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> postRepository.deleteAllInBatch());
+    }
+
+    @Test
+    @DisplayName("한 게시글에 동시에 몰린 조회수를 잃지 않고 반영, 2차 캐시의 이전 값은 비움")
+    void flush_ConcurrentViewsOnHotPost() throws Exception {
+        // given
+        Post hot = save("인기 글");
+        Post other = save("다른 글");
+        int threads = 8;
+        int viewsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < viewsPerThread; j++) {
+                    postViewService.record(hot.getPostId());
+                    // 반영 도중에 들어온 조회도 다음 반영에 포함되어야 한다
+                    if (j == viewsPerThread / 2) {
+                        postViewService.flush();
+                    }
+                }
+                return null;
+            }));
+        }
+        postViewService.record(other.getPostId());
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        postViewService.flush();
+
+        // then
+        assertThat(postViewService.pendingCount(hot.getPostId())).isZero();
+        assertThat(postRepository.findById(hot.getPostId()).orElseThrow().getViewCount())
+                .isEqualTo((long) threads * viewsPerThread);
+        assertThat(postRepository.findById(other.getPostId()).orElseThrow().getViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 전 조회수는 대기 값으로 보이고, 엔티티 수정이 누적값을 덮어쓰지 않음")
+    void pendingCount_AndEntityUpdateKeepsViewCount() {
+        // given
+        Post post = save("제목");
+        postViewService.record(post.getPostId());
+        postViewService.record(post.getPostId());
+        assertThat(postViewService.pendingCount(post.getPostId())).isEqualTo(2);
+        postViewService.flush();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Post loaded = postRepository.findById(post.getPostId()).orElseThrow();
+            loaded.update("새 제목", loaded.getContent(), loaded.isPublished(), null);
+        });
+
+        // then
+        Post updated = postRepository.findById(post.getPostId()).orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("새 제목");
+        assertThat(updated.getViewCount()).isEqualTo(2);
+        assertThat(postViewService.flush()).isZero();
+    }
+
+    private Post save(String title) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content("본문")
+                .published(true)
+                .build());
+    }
+}
@@ -0,0 +1,96 @@
+package com.blog.board.support.datasource;
+
+import com.blog.board.event.PostChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("read-your-writes 구간과 커밋 후 리스너 순서 테스트")
+class ReadYourWritesWindowTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 등록된 커밋 후 리스너도 구간이 열린 뒤에 실행되어 primary 에서 읽음")
+    void opensBeforeOtherAfterCommitListeners() {
+        // given
+        context = new AnnotationConfigApplicationContext(ListenerConfig.class);
+        ApplicationEventPublisher publisher = context;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                publisher.publishEvent(PostChangedEvent.of(PostChangedEvent.ChangeType.UPDATED, 1L)));
+
+        // then
+        assertThat(context.getBean(ReadingListener.class).windowActiveOnRead).containsExactly(true);
+    }
+
+    // 피드 캐시처럼 커밋 후 바뀐 게시글을 읽기 전용 트랜잭션으로 다시 읽는 리스너. 구간보다 먼저 등록한다
+    static class ReadingListener {
+        private final ReadYourWritesWindow readYourWritesWindow;
+        private final List<Boolean> windowActiveOnRead = new ArrayList<>();
+
+        ReadingListener(ReadYourWritesWindow readYourWritesWindow) {
+            this.readYourWritesWindow = readYourWritesWindow;
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onPostChanged(PostChangedEvent event) {
+            windowActiveOnRead.add(readYourWritesWindow.isActive());
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class ListenerConfig {
+
+        @Bean
+        ReadingListener readingListener(ReadYourWritesWindow readYourWritesWindow) {
+            return new ReadingListener(readYourWritesWindow);
+        }
+
+        @Bean
+        ReadYourWritesWindow readYourWritesWindow() {
+            return new ReadYourWritesWindow(Duration.ofMinutes(1));
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        EmbeddedDatabase dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .generateUniqueName(true)
+                    .setType(EmbeddedDatabaseType.H2)
+                    .build();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EmbeddedDatabase dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
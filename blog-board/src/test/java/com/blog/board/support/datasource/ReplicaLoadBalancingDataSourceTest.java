@@ -0,0 +1,153 @@
+package com.blog.board.support.datasource;
+
+import com.blog.board.event.PostChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 내장 H2 인스턴스를 primary / 레플리카로 띄우고 어느 쪽에서 읽었는지 표식 행으로 확인한다
+@DisplayName("읽기 전용 트랜잭션 레플리카 라우팅 테스트")
+class ReplicaLoadBalancingDataSourceTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private EmbeddedDatabase primary;
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        readYourWritesWindow = new ReadYourWritesWindow(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카를 돌아가며 쓰고, 쓰기 트랜잭션은 primary")
+    void routesByReadOnlyFlag() {
+        // given
+        Routing routing = routing(List.of(database("replica-1"), database("replica-2")));
+
+        // when
+        List<String> reads = List.of(routing.read(), routing.read(), routing.read(), routing.read());
+        String written = routing.write();
+
+        // then
+        assertThat(reads).containsExactlyInAnyOrder("replica-1", "replica-1", "replica-2", "replica-2");
+        assertThat(written).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 직후에는 읽기 전용 트랜잭션도 primary")
+    void readYourWritesWindow() {
+        // given
+        Routing routing = routing(List.of(database("replica-1")));
+        assertThat(routing.read()).isEqualTo("replica-1");
+
+        // when
+        readYourWritesWindow.onPostChanged(PostChangedEvent.of(PostChangedEvent.ChangeType.UPDATED, 1L));
+
+        // then
+        assertThat(readYourWritesWindow.isActive()).isTrue();
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻지 못한 레플리카는 제외하고, 모두 실패하면 primary 에서 읽음")
+    void fallsBackWhenReplicaIsDown() {
+        // given
+        DataSource broken = new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("connection refused");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+        ReplicaLoadBalancingDataSource replicas = new ReplicaLoadBalancingDataSource(
+                primary, List.of(broken, database("replica-2")), () -> false, Duration.ofMinutes(1));
+        Routing routing = new Routing(replicas);
+
+        // when
+        List<String> reads = List.of(routing.read(), routing.read(), routing.read());
+
+        // then
+        assertThat(reads).containsOnly("replica-2");
+        assertThat(replicas.availableReplicaCount()).isEqualTo(1);
+        Routing allDown = new Routing(new ReplicaLoadBalancingDataSource(
+                primary, List.of(broken), () -> false, Duration.ofMinutes(1)));
+        assertThat(allDown.read()).isEqualTo("primary");
+    }
+
+    private Routing routing(List<DataSource> replicas) {
+        return new Routing(new ReplicaLoadBalancingDataSource(
+                primary, replicas, readYourWritesWindow::isActive, Duration.ofMinutes(1)));
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        databases.add(database);
+        return database;
+    }
+
+    // 애플리케이션 설정과 같은 구성: primary 를 감싼 LazyConnectionDataSourceProxy + readOnlyDataSource
+    private class Routing {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readTransaction;
+        private final TransactionTemplate writeTransaction;
+
+        Routing(DataSource readOnlyDataSource) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+            dataSource.setReadOnlyDataSource(readOnlyDataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.writeTransaction = new TransactionTemplate(transactionManager);
+            this.readTransaction = new TransactionTemplate(transactionManager);
+            this.readTransaction.setReadOnly(true);
+        }
+
+        String read() {
+            return readTransaction.execute(status -> currentNode());
+        }
+
+        String write() {
+            return writeTransaction.execute(status -> {
+                jdbcTemplate.update("update node set name = name");
+                return currentNode();
+            });
+        }
+
+        private String currentNode() {
+            return jdbcTemplate.queryForObject("select name from node", String.class);
+        }
+    }
+}
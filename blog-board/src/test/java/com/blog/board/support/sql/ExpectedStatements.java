@@ -0,0 +1,23 @@
+package com.blog.board.support.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문(@BeforeEach 제외)에서 실행될 SQL 문장 수. -1 이면 검사하지 않는다.
+ * {@link SqlStatementCountExtension} 과 함께 쓴다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExpectedStatements {
+
+    int select() default -1;
+
+    int insert() default -1;
+
+    int update() default -1;
+
+    int delete() default -1;
+}
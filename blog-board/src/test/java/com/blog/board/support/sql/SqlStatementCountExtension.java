@@ -0,0 +1,41 @@
+package com.blog.board.support.sql;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 을 세어 {@link ExpectedStatements} 와 비교한다.
+ * 데이터 준비는 @BeforeEach 에 두면 집계에서 빠진다.
+ * DataSource 가 {@link SqlStatementCountingDataSourcePostProcessor} 로 감싸져 있어야 한다.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementCounter.begin(context.getDisplayName(), -1, false);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementScope scope = SqlStatementCounter.end();
+        ExpectedStatements expected = context.getRequiredTestMethod().getAnnotation(ExpectedStatements.class);
+        if (expected == null || scope == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        SqlStatementCounts counts = scope.counts();
+        SoftAssertions softly = new SoftAssertions();
+        check(softly, "select", expected.select(), counts.select());
+        check(softly, "insert", expected.insert(), counts.insert());
+        check(softly, "update", expected.update(), counts.update());
+        check(softly, "delete", expected.delete(), counts.delete());
+        softly.assertAll();
+    }
+
+    private void check(SoftAssertions softly, String type, int expected, int actual) {
+        if (expected >= 0) {
+            softly.assertThat(actual).as("%s 문장 수", type).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.blog.board.support.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("커밋 후 이벤트 리스너 SQL 집계 제외 테스트")
+class SqlStatementCountingEventListenerFactoryTest {
+
+    private AnnotationConfigApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(ListenerConfig.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate.execute("create table item (name varchar(20))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.end();
+        context.close();
+    }
+
+    @Test
+    @DisplayName("한도를 꽉 채운 쓰기 요청도 커밋 후 리스너의 조회로 거부되지 않음")
+    void afterCommitListenerSqlIsNotCounted() {
+        // given - 쓰기 1 + 커밋 전 조회 1 까지만 허용하고 넘으면 거부
+        SqlStatementScope scope = SqlStatementCounter.begin("POST /items", 2, true);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into item (name) values ('글')");
+            context.publishEvent(new ItemSaved());
+        });
+
+        // then
+        assertThat(context.getBean(ItemListener.class).afterCommitCount).isEqualTo(1);
+        assertThat(scope.counts().total()).isEqualTo(2);
+        assertThat(scope.isOverLimit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋 전 리스너의 SQL 은 요청 한도에 그대로 셈")
+    void beforeCommitListenerSqlIsCounted() {
+        // given
+        SqlStatementScope scope = SqlStatementCounter.begin("POST /items", -1, false);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> context.publishEvent(new ItemSaved()));
+
+        // then - 커밋 전 조회 1 (커밋 후 조회는 세지 않는다)
+        assertThat(scope.counts().total()).isEqualTo(1);
+    }
+
+    record ItemSaved() {
+    }
+
+    static class ItemListener {
+        private final JdbcTemplate jdbcTemplate;
+        private int afterCommitCount;
+
+        ItemListener(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+        public void beforeCommit(ItemSaved event) {
+            jdbcTemplate.queryForObject("select count(*) from item", Integer.class);
+        }
+
+        @TransactionalEventListener
+        public void afterCommit(ItemSaved event) {
+            afterCommitCount = jdbcTemplate.queryForObject("select count(*) from item", Integer.class);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({SqlStatementCountingDataSourcePostProcessor.class, SqlStatementCountingEventListenerFactory.class})
+    static class ListenerConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .generateUniqueName(true)
+                    .setType(EmbeddedDatabaseType.H2)
+                    .build();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        ItemListener itemListener(JdbcTemplate jdbcTemplate) {
+            return new ItemListener(jdbcTemplate);
+        }
+    }
+}
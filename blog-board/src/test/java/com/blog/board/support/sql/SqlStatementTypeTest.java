@@ -0,0 +1,23 @@
+package com.blog.board.support.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SqlStatementType 단위 테스트")
+class SqlStatementTypeTest {
+
+    @Test
+    @DisplayName("주석, 공백, 괄호를 건너뛰고 첫 키워드로 분류")
+    void of_SkipsCommentsAndParentheses() {
+        assertThat(SqlStatementType.of("/* PostRepository.findAll */ select p1_0.post_id from posts p1_0"))
+                .isEqualTo(SqlStatementType.SELECT);
+        assertThat(SqlStatementType.of("  (SELECT 1) union (select 2)")).isEqualTo(SqlStatementType.SELECT);
+        assertThat(SqlStatementType.of("with recent as (select 1) select * from recent")).isEqualTo(SqlStatementType.SELECT);
+        assertThat(SqlStatementType.of("insert into posts values (?)")).isEqualTo(SqlStatementType.INSERT);
+        assertThat(SqlStatementType.of("UPDATE post_counters set total_count=?")).isEqualTo(SqlStatementType.UPDATE);
+        assertThat(SqlStatementType.of("delete from posts where post_id=?")).isEqualTo(SqlStatementType.DELETE);
+        assertThat(SqlStatementType.of("call next value for seq")).isEqualTo(SqlStatementType.OTHER);
+    }
+}
@@ -0,0 +1,100 @@
+package com.blog.board.trending;
+
+import com.blog.board.exception.InvalidTrendingWindowException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ViewWindowCounter 단위 테스트")
+class ViewWindowCounterTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    // 버킷 경계에 걸리지 않도록 시각 0 이 아닌 곳에서 시작한다
+    private static final long START = 1_000 * HOUR + 30_000L;
+
+    private ViewWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ViewWindowCounter();
+    }
+
+    @Test
+    @DisplayName("기록은 다음 틱에 반영되고 상위 K 개를 조회수 순으로 반환")
+    void tick_FoldsPreviousTickAndRanks() {
+        // given
+        record(1L, 3);
+        record(2L, 5);
+        record(3L, 1);
+
+        // when
+        counter.tick(START);
+        long beforeFold = counter.views(TrendingWindow.HOUR, 2L);
+        counter.tick(START + 5_000);
+
+        // then
+        assertThat(beforeFold).isZero();
+        assertThat(counter.top(TrendingWindow.HOUR, 2))
+                .containsExactly(new ViewCount(2L, 5), new ViewCount(1L, 3));
+        assertThat(counter.top(TrendingWindow.WEEK, 10)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 버킷의 조회수는 해당 윈도우에서만 빠짐")
+    void tick_ExpiresPerWindow() {
+        // given
+        record(1L, 4);
+        counter.tick(START);
+        counter.tick(START + 5_000);
+
+        // when
+        counter.tick(START + HOUR + MINUTE);
+        long hourAfterOneHour = counter.views(TrendingWindow.HOUR, 1L);
+        long dayAfterOneHour = counter.views(TrendingWindow.DAY, 1L);
+        counter.tick(START + 25 * HOUR);
+        long dayAfterOneDay = counter.views(TrendingWindow.DAY, 1L);
+        long weekAfterOneDay = counter.views(TrendingWindow.WEEK, 1L);
+        counter.tick(START + 8 * 24 * HOUR);
+
+        // then
+        assertThat(hourAfterOneHour).isZero();
+        assertThat(dayAfterOneHour).isEqualTo(4);
+        assertThat(dayAfterOneDay).isZero();
+        assertThat(weekAfterOneDay).isEqualTo(4);
+        assertThat(counter.views(TrendingWindow.WEEK, 1L)).isZero();
+        assertThat(counter.top(TrendingWindow.WEEK, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 모든 윈도우에서 제거")
+    void remove_DropsFromAllWindows() {
+        // given
+        record(1L, 2);
+        record(2L, 1);
+        counter.tick(START);
+        counter.tick(START + 5_000);
+
+        // when
+        counter.remove(1L);
+
+        // then
+        assertThat(counter.top(TrendingWindow.DAY, 10)).containsExactly(new ViewCount(2L, 1));
+    }
+
+    @Test
+    @DisplayName("집계 기간 파라미터는 대소문자 구분 없이 변환, 그 외 값은 예외")
+    void trendingWindow_From() {
+        assertThat(TrendingWindow.from(" Week ")).isEqualTo(TrendingWindow.WEEK);
+        assertThatThrownBy(() -> TrendingWindow.from("month"))
+                .isInstanceOf(InvalidTrendingWindowException.class);
+    }
+
+    private void record(long postId, int views) {
+        for (int i = 0; i < views; i++) {
+            counter.record(postId);
+        }
+    }
+}
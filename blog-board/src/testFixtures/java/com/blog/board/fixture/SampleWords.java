@@ -0,0 +1,23 @@
+package com.blog.board.fixture;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 게시글 본문용 단어 목록. 벤치마크(blog-bench)와 부하 테스트(blog-loadtest)가 같은 어휘로 본문을 만든다.
+ */
+public final class SampleWords {
+
+    private static final List<String> WORDS = List.of(
+            "스프링", "부트", "트랜잭션", "캐시", "인덱스", "쿼리", "성능", "개선", "측정", "결과를",
+            "정리했다", "기록", "배포", "서버", "요청이", "응답", "지연", "가상", "스레드", "커넥션",
+            "JPA", "Hibernate", "MySQL", "JSON", "Gradle", "p99", "throughput", "latency"
+    );
+
+    private SampleWords() {
+    }
+
+    public static String next(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+}
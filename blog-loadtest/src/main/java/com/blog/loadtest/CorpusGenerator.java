@@ -0,0 +1,74 @@
+package com.blog.loadtest;
+
+import com.blog.board.dto.PostTransferRecord;
+import com.blog.board.fixture.SampleWords;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 가져오기(NDJSON) 형식의 합성 게시글을 만든다. 시드가 고정이라 같은 설정이면 같은 데이터가 나온다.
+ */
+public class CorpusGenerator {
+
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random(42);
+
+    public CorpusGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(LoadTestConfig config, Path path) throws IOException {
+        LocalDateTime base = LocalDateTime.now().minusDays(config.posts() / 10 + 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < config.categories(); i++) {
+                writeLine(writer, PostTransferRecord.category(null, categoryName(i)));
+            }
+            for (int i = 0; i < config.posts(); i++) {
+                int length = config.contentLength() / 2 + random.nextInt(config.contentLength() + 1);
+                LocalDateTime createdDate = base.plusMinutes(i * 144L / 10);
+                writeLine(writer, PostTransferRecord.post(
+                        null,
+                        text(20 + random.nextInt(30)),
+                        markdown(length),
+                        random.nextDouble() < config.publishedRatio(),
+                        config.categories() > 0 ? categoryName(random.nextInt(config.categories())) : null,
+                        createdDate,
+                        createdDate));
+            }
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, PostTransferRecord record) throws IOException {
+        writer.write(objectMapper.writeValueAsString(record));
+        writer.newLine();
+    }
+
+    private String markdown(int length) {
+        StringBuilder builder = new StringBuilder(length + 64);
+        int section = 1;
+        while (builder.length() < length) {
+            builder.append("## ").append(section++).append(". ").append(text(12)).append("\n\n");
+            builder.append(text(Math.min(600, length - builder.length() + 1))).append("\n\n");
+        }
+        return builder.toString();
+    }
+
+    private String text(int length) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(SampleWords.next(random)).append(' ');
+        }
+        return builder.substring(0, length).trim();
+    }
+
+    private static String categoryName(int index) {
+        return "카테고리 " + (index + 1);
+    }
+}
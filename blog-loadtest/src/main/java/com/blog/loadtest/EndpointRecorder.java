@@ -0,0 +1,43 @@
+package com.blog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 지연 분포(마이크로초)와 오류 수. 여러 스레드가 동시에 기록한다.
+ */
+public class EndpointRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointRecorder(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void record(long latencyNanos, boolean success) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    // 지금까지의 기록을 비우고 돌려준다 - 워밍업 구간을 버릴 때도 쓴다
+    public Histogram drain() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long drainErrors() {
+        return errors.sumThenReset();
+    }
+}
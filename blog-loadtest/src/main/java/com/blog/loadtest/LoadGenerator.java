@@ -0,0 +1,114 @@
+package com.blog.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일정한 도착률로 요청을 보낸다 (open model). 응답이 늦어도 다음 요청을 미루지 않고,
+ * 지연은 실제 전송 시각이 아니라 예정 시각부터 재서 생성기가 밀린 시간도 지연에 포함한다 (coordinated omission 보정).
+ */
+@Slf4j
+public class LoadGenerator implements AutoCloseable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final List<Long> postIds;
+    private final EndpointRecorder list = new EndpointRecorder("list");
+    private final EndpointRecorder detail = new EndpointRecorder("detail");
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final Random random = new Random(7);
+
+    public LoadGenerator(String baseUrl, LoadTestConfig config, List<Long> postIds) {
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.postIds = postIds;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public List<EndpointRecorder> recorders() {
+        return List.of(list, detail);
+    }
+
+    // 워밍업 후 기록을 비우고 측정 구간만 실행한다. 실제 측정 시간(초)을 돌려준다
+    public double run() throws InterruptedException {
+        drive(config.warmup());
+        recorders().forEach(recorder -> {
+            recorder.drain();
+            recorder.drainErrors();
+        });
+        long startedAt = System.nanoTime();
+        drive(config.duration());
+        return (System.nanoTime() - startedAt) / 1_000_000_000.0;
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        Phaser inFlight = new Phaser(1);
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            boolean isDetail = random.nextDouble() < config.detailRatio();
+            EndpointRecorder recorder = isDetail ? detail : list;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + (isDetail ? detailPath() : listPath())))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept-Encoding", "gzip")
+                    .GET()
+                    .build();
+            inFlight.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        recorder.record(System.nanoTime() - intendedNanos, error == null && response.statusCode() == 200);
+                        inFlight.arriveAndDeregister();
+                    });
+        }
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("응답을 기다리다 시간 초과 - 남은 요청 {}건", inFlight.getUnarrivedParties());
+        }
+    }
+
+    private String listPath() {
+        return "/api/posts?page=" + random.nextInt(Math.max(config.listPages(), 1)) + "&size=" + config.pageSize();
+    }
+
+    private String detailPath() {
+        return "/api/posts/" + postIds.get(random.nextInt(postIds.size()));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,76 @@
+package com.blog.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. --이름=값 인자로 바꾼다 (Gradle 에서는 -Pload.이름=값).
+ *
+ * @param posts               적재할 게시글 수
+ * @param categories          카테고리 수
+ * @param contentLength       본문 평균 길이 (±50%)
+ * @param publishedRatio      발행 게시글 비율
+ * @param rate                초당 요청 수 - 응답과 무관하게 일정 간격으로 보낸다 (open model)
+ * @param warmup              측정에서 제외할 워밍업 시간
+ * @param duration            측정 시간
+ * @param detailRatio         상세 요청 비율 (나머지는 목록)
+ * @param listPages           목록 요청이 고르게 나눠 읽을 페이지 수
+ * @param pageSize            목록 페이지 크기
+ * @param baseline            기준값 파일 - 없으면 이번 결과를 기준으로 저장한다
+ * @param resultDir           결과(JSON, 히스토그램) 출력 디렉터리
+ * @param p99Tolerance        p99 허용 증가율
+ * @param throughputTolerance 처리량 허용 감소율
+ * @param maxErrorRate        허용 오류율
+ * @param updateBaseline      true 면 비교 없이 기준값을 덮어쓴다
+ */
+public record LoadTestConfig(int posts,
+                             int categories,
+                             int contentLength,
+                             double publishedRatio,
+                             int rate,
+                             Duration warmup,
+                             Duration duration,
+                             double detailRatio,
+                             int listPages,
+                             int pageSize,
+                             Path baseline,
+                             Path resultDir,
+                             double p99Tolerance,
+                             double throughputTolerance,
+                             double maxErrorRate,
+                             boolean updateBaseline) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("posts", "10000")),
+                Integer.parseInt(options.getOrDefault("categories", "20")),
+                Integer.parseInt(options.getOrDefault("contentLength", "4000")),
+                Double.parseDouble(options.getOrDefault("publishedRatio", "0.9")),
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                Duration.parse(options.getOrDefault("warmup", "PT15S")),
+                Duration.parse(options.getOrDefault("duration", "PT30S")),
+                Double.parseDouble(options.getOrDefault("detailRatio", "0.5")),
+                Integer.parseInt(options.getOrDefault("listPages", "5")),
+                Integer.parseInt(options.getOrDefault("pageSize", "10")),
+                Path.of(options.getOrDefault("baseline", "baseline.json")),
+                Path.of(options.getOrDefault("resultDir", "build/loadtest")),
+                Double.parseDouble(options.getOrDefault("p99Tolerance", "0.2")),
+                Double.parseDouble(options.getOrDefault("throughputTolerance", "0.1")),
+                Double.parseDouble(options.getOrDefault("maxErrorRate", "0.01")),
+                Boolean.parseBoolean(options.getOrDefault("updateBaseline", "false")));
+        if (config.posts <= 0 || config.rate <= 0 || config.duration.isNegative() || config.duration.isZero()) {
+            throw new IllegalArgumentException("posts, rate, duration 은 양수여야 합니다");
+        }
+        return config;
+    }
+}
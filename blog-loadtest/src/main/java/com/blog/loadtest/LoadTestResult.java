@@ -0,0 +1,78 @@
+package com.blog.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과. 기준값 파일도 같은 형식이다.
+ */
+public record LoadTestResult(int rate, long posts, Map<String, EndpointResult> endpoints) {
+
+    public record EndpointResult(long count,
+                                 long errors,
+                                 double throughput,
+                                 double p50Ms,
+                                 double p90Ms,
+                                 double p99Ms,
+                                 double p999Ms,
+                                 double maxMs) {
+
+        public static EndpointResult of(Histogram histogram, long errors, double seconds) {
+            long count = histogram.getTotalCount();
+            return new EndpointResult(
+                    count,
+                    errors,
+                    (count - errors) / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    /**
+     * 기준값 대비 회귀 목록. 비어 있으면 통과다.
+     * 도착률이 다르면 p99/처리량을 비교할 수 없으므로 오류율만 본다.
+     */
+    public List<String> regressions(LoadTestResult baseline, LoadTestConfig config) {
+        List<String> regressions = new ArrayList<>();
+        endpoints.forEach((name, current) -> {
+            if (current.errorRate() > config.maxErrorRate()) {
+                regressions.add(String.format("%s 오류율 %.2f%% > 허용 %.2f%%",
+                        name, current.errorRate() * 100, config.maxErrorRate() * 100));
+            }
+        });
+        if (baseline == null || baseline.rate() != rate || baseline.posts() != posts) {
+            return regressions;
+        }
+        endpoints.forEach((name, current) -> {
+            EndpointResult base = baseline.endpoints().get(name);
+            if (base == null) {
+                return;
+            }
+            double p99Limit = base.p99Ms() * (1 + config.p99Tolerance());
+            if (current.p99Ms() > p99Limit) {
+                regressions.add(String.format("%s p99 %.1fms > 기준 %.1fms (+%.0f%%)",
+                        name, current.p99Ms(), base.p99Ms(), config.p99Tolerance() * 100));
+            }
+            double throughputLimit = base.throughput() * (1 - config.throughputTolerance());
+            if (current.throughput() < throughputLimit) {
+                regressions.add(String.format("%s 처리량 %.1f req/s < 기준 %.1f req/s (-%.0f%%)",
+                        name, current.throughput(), base.throughput(), config.throughputTolerance() * 100));
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,151 @@
+package com.blog.loadtest;
+
+import com.blog.api.BlogApiApplication;
+import com.blog.board.dto.PostImportResultDto;
+import com.blog.board.service.PostTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * blog-api 를 내장 H2 로 띄우고 합성 데이터를 적재한 뒤 목록/상세에 부하를 건다.
+ * 결과는 resultDir 에 JSON 과 HdrHistogram 백분위 분포(.hgrm)로 남기고,
+ * 기준값 대비 p99/처리량이 허용치를 넘게 나빠지면 종료 코드 1 로 끝나 Gradle 작업이 실패한다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Files.createDirectories(config.resultDir());
+        Path workDir = Files.createTempDirectory("blog-loadtest");
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = start(workDir);
+        int exitCode;
+        try {
+            List<Long> postIds = seed(context, config, objectMapper, workDir);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadTestResult result;
+            try (LoadGenerator generator = new LoadGenerator("http://localhost:" + port, config, postIds)) {
+                log.info("부하 시작 - {} req/s, 워밍업 {}s, 측정 {}s",
+                        config.rate(), config.warmup().toSeconds(), config.duration().toSeconds());
+                double seconds = generator.run();
+                result = collect(generator, config, seconds);
+            }
+            exitCode = evaluate(result, config, objectMapper);
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext start(Path workDir) {
+        return new SpringApplicationBuilder(BlogApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "debug=false",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.security.oauth2.client.registration.github.client-id=loadtest",
+                        "spring.security.oauth2.client.registration.github.client-secret=loadtest",
+                        "spring.security.oauth2.client.registration.github.scope=read:user",
+                        "spring.security.oauth2.client.provider.github.authorization-uri=https://github.com/login/oauth/authorize",
+                        "spring.security.oauth2.client.provider.github.token-uri=https://github.com/login/oauth/access_token",
+                        "spring.security.oauth2.client.provider.github.user-info-uri=https://api.github.com/user",
+                        "spring.security.oauth2.client.provider.github.user-name-attribute=id",
+                        "blog.admin-github-id=loadtest-admin",
+                        "blog.search.index-path=" + workDir.resolve("posts.idx"),
+                        // 요청마다 SQL/보안 DEBUG 로그를 남기면 로그 출력이 측정값을 지배한다
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.springframework.security.web=WARN",
+                        "logging.level.org.springframework.security.oauth2=WARN",
+                        "logging.level.org.springframework.web.servlet.DispatcherServlet=WARN")
+                .run();
+    }
+
+    // 가져오기와 같은 JDBC 배치 경로로 적재하고, 상세 요청에 쓸 발행 게시글 ID 를 돌려준다
+    private static List<Long> seed(ConfigurableApplicationContext context, LoadTestConfig config,
+                                   ObjectMapper objectMapper, Path workDir) throws Exception {
+        Path corpus = workDir.resolve("corpus.ndjson");
+        new CorpusGenerator(objectMapper).write(config, corpus);
+        PostImportResultDto imported;
+        try (InputStream in = Files.newInputStream(corpus)) {
+            imported = context.getBean(PostTransferService.class).importFrom(in);
+        }
+        log.info("데이터 적재 - 게시글 {}건, 카테고리 {}건, {}ms ({} 건/s)", imported.getImportedPosts(),
+                imported.getCreatedCategories(), imported.getElapsedMillis(), String.format("%.0f", imported.getPostsPerSecond()));
+        List<Long> postIds = new JdbcTemplate(context.getBean(DataSource.class))
+                .queryForList("select post_id from posts where published = true", Long.class);
+        if (postIds.isEmpty()) {
+            throw new IllegalStateException("발행된 게시글이 없습니다 - publishedRatio 를 확인하세요");
+        }
+        return postIds;
+    }
+
+    private static LoadTestResult collect(LoadGenerator generator, LoadTestConfig config, double seconds) throws Exception {
+        Map<String, LoadTestResult.EndpointResult> endpoints = new LinkedHashMap<>();
+        for (EndpointRecorder recorder : generator.recorders()) {
+            Histogram histogram = recorder.drain();
+            long errors = recorder.drainErrors();
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(config.resultDir().resolve(recorder.name() + ".hgrm")), true, "UTF-8")) {
+                // 마이크로초로 기록했으므로 1000 으로 나눠 ms 단위로 출력
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            endpoints.put(recorder.name(), LoadTestResult.EndpointResult.of(histogram, errors, seconds));
+        }
+        return new LoadTestResult(config.rate(), config.posts(), endpoints);
+    }
+
+    private static int evaluate(LoadTestResult result, LoadTestConfig config, ObjectMapper objectMapper) throws Exception {
+        objectMapper.writeValue(config.resultDir().resolve("result.json").toFile(), result);
+        result.endpoints().forEach((name, endpoint) -> log.info(
+                "{} - {}건 (오류 {}), {} req/s, p50 {}ms, p90 {}ms, p99 {}ms, p99.9 {}ms, max {}ms",
+                name, endpoint.count(), endpoint.errors(), String.format("%.1f", endpoint.throughput()),
+                endpoint.p50Ms(), endpoint.p90Ms(), endpoint.p99Ms(), endpoint.p999Ms(), endpoint.maxMs()));
+
+        if (config.updateBaseline() || !Files.exists(config.baseline())) {
+            objectMapper.writeValue(config.baseline().toFile(), result);
+            log.info("기준값 저장 - {}", config.baseline().toAbsolutePath());
+            return 0;
+        }
+        LoadTestResult baseline = objectMapper.readValue(config.baseline().toFile(), LoadTestResult.class);
+        if (baseline.rate() != result.rate() || baseline.posts() != result.posts()) {
+            log.warn("기준값과 도착률/게시글 수가 달라 p99/처리량은 비교하지 않습니다 - 기준 {} req/s, {}건",
+                    baseline.rate(), baseline.posts());
+        }
+        List<String> regressions = result.regressions(baseline, config);
+        if (regressions.isEmpty()) {
+            log.info("기준값 대비 회귀 없음");
+            return 0;
+        }
+        regressions.forEach(regression -> log.error("회귀 - {}", regression));
+        return 1;
+    }
+}